@@ -0,0 +1,122 @@
+package com.jmair.as.repository;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.StatelessSession;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.jmair.as.dto.ASDTO;
+import com.jmair.as.dto.ASStatus;
+import com.jmair.as.dto.ASSummary;
+import com.jmair.as.entity.ASEntity;
+import com.jmair.auth.dto.UserGrade;
+
+// 관리자 목록 한 페이지: 엔티티 전체 로딩 후 DTO 변환(기존) vs 요약 프로젝션 조회
+// 할당량 비교는 gc 프로파일러의 gc.alloc.rate.norm(B/op) 로 확인
+// 실행: ./gradlew jmh -Pjmh.includes=AdminListProjectionBenchmark --args='AdminListProjectionBenchmark -prof gc'
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx1g")
+public class AdminListProjectionBenchmark {
+
+	private static final int ROWS = 5000;
+
+	private static final String ORDER = " WHERE a.asStatus <> :deleted ORDER BY a.asStartTime DESC, a.asId DESC";
+
+	@Param({"20", "100"})
+	private int pageSize;
+
+	private SessionFactory sessionFactory;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		sessionFactory = new Configuration()
+			.addAnnotatedClass(ASEntity.class)
+			.setProperty(AvailableSettings.JAKARTA_JDBC_URL, "jdbc:h2:mem:projection;DB_CLOSE_DELAY=-1")
+			.setProperty(AvailableSettings.HBM2DDL_AUTO, "create-drop")
+			.buildSessionFactory();
+		// 실제 신청서처럼 설명/메모는 길게, 비밀번호는 BCrypt 길이로 채움
+		String description = "에어컨 실외기 소음 및 냉방 불량 점검 요청. ".repeat(30);
+		String note = "방문 전 연락 바랍니다. ".repeat(40);
+		try (StatelessSession session = sessionFactory.openStatelessSession()) {
+			session.getTransaction().begin();
+			for (int i = 0; i < ROWS; i++) {
+				session.insert(ASEntity.builder()
+					.asName("고객" + i)
+					.asNumber(String.format("010-%04d-%04d", i / 10000, i % 10000))
+					.asEmail("guest" + i + "@example.com")
+					.productType("벽걸이형")
+					.asDescription(description)
+					.asAdress("서울시 강남구 테헤란로 " + i)
+					.asDetailAdress(i + "호")
+					.asPassword("$2a$10$abcdefghijklmnopqrstuuJ3k8wYvG0ZlZ3p9nC2m7WQ2u8m3R1e")
+					.asFirstReservationTime("2025-06-01 오전")
+					.asSecondReservationTime("2025-06-02 오후")
+					.asStatus(i % 10 == 0 ? ASStatus.FALLSE : ASStatus.REQUEST)
+					.registeredUserGrade(UserGrade.NOUSER)
+					.asNote(note)
+					.build());
+			}
+			session.getTransaction().commit();
+		}
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		sessionFactory.close();
+	}
+
+	@Benchmark
+	public List<ASDTO> entityPage() {
+		try (Session session = sessionFactory.openSession()) {
+			return session.createQuery("SELECT a FROM ASEntity a" + ORDER, ASEntity.class)
+				.setParameter("deleted", ASStatus.FALLSE)
+				.setMaxResults(pageSize)
+				.getResultList().stream()
+				.map(entity -> ASDTO.builder()
+					.asId(entity.getAsId())
+					.asName(entity.getAsName())
+					.productType(entity.getProductType())
+					.asStartTime(entity.getAsStartTime())
+					.asEditTime(entity.getAsEditTime())
+					.asStatus(entity.getAsStatus())
+					.registeredUserGrade(entity.getRegisteredUserGrade())
+					.build())
+				.toList();
+		}
+	}
+
+	@Benchmark
+	public List<ASDTO> projectionPage() {
+		try (Session session = sessionFactory.openSession()) {
+			return session.createQuery("SELECT new com.jmair.as.dto.ASSummary(a.asId, a.asName, a.productType,"
+					+ " a.asStartTime, a.asEditTime, a.asStatus, a.registeredUserGrade) FROM ASEntity a" + ORDER,
+					ASSummary.class)
+				.setParameter("deleted", ASStatus.FALLSE)
+				.setMaxResults(pageSize)
+				.getResultList().stream()
+				.map(ASSummary::toDTO)
+				.toList();
+		}
+	}
+}
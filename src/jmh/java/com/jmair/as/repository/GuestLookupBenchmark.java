@@ -0,0 +1,129 @@
+package com.jmair.as.repository;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+// 비회원 조회: 전체 조회 후 메모리 필터링(기존) vs (이름, 번호, 상태) 인덱스 조회를 테이블 크기별로 비교
+// 실행: ./gradlew jmh -Pjmh.includes=GuestLookupBenchmark
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class GuestLookupBenchmark {
+
+	// 같은 이름 + 번호로 들어온 신청 건수
+	private static final int REQUESTS_PER_GUEST = 3;
+
+	@Param({"10000", "100000", "1000000"})
+	private int rows;
+
+	private Connection connection;
+	private PreparedStatement findAll;
+	private PreparedStatement indexedLookup;
+	private String targetName;
+	private String targetNumber;
+
+	@Setup(Level.Trial)
+	public void setUp() throws SQLException {
+		connection = DriverManager.getConnection("jdbc:h2:mem:guest" + rows + ";DB_CLOSE_DELAY=-1");
+		try (Statement statement = connection.createStatement()) {
+			statement.execute("CREATE TABLE asentity (as_id INT AUTO_INCREMENT PRIMARY KEY,"
+				+ " as_name VARCHAR(50) NOT NULL, as_number VARCHAR(20) NOT NULL,"
+				+ " as_description VARCHAR(1000), as_adress VARCHAR(200) NOT NULL, as_status VARCHAR(20) NOT NULL)");
+			statement.execute("CREATE INDEX idx_as_name_number_status ON asentity (as_name, as_number, as_status)");
+		}
+		connection.setAutoCommit(false);
+		try (PreparedStatement insert = connection.prepareStatement(
+			"INSERT INTO asentity (as_name, as_number, as_description, as_adress, as_status) VALUES (?, ?, ?, ?, ?)")) {
+			for (int i = 0; i < rows; i++) {
+				int guest = i / REQUESTS_PER_GUEST;
+				insert.setString(1, "고객" + guest);
+				insert.setString(2, String.format("010-%04d-%04d", guest / 10000, guest % 10000));
+				insert.setString(3, "에어컨 점검 요청 " + i);
+				insert.setString(4, "서울시 강남구 테헤란로 " + i);
+				insert.setString(5, i % 10 == 0 ? "FALLSE" : "WAITING");
+				insert.addBatch();
+				if (i % 10000 == 9999) {
+					insert.executeBatch();
+				}
+			}
+			insert.executeBatch();
+		}
+		connection.commit();
+		connection.setAutoCommit(true);
+
+		int guest = rows / REQUESTS_PER_GUEST / 2;
+		targetName = "고객" + guest;
+		targetNumber = String.format("010-%04d-%04d", guest / 10000, guest % 10000);
+		findAll = connection.prepareStatement(
+			"SELECT as_id, as_name, as_number, as_description, as_adress, as_status FROM asentity");
+		indexedLookup = connection.prepareStatement(
+			"SELECT as_id, as_name, as_number, as_description, as_adress, as_status FROM asentity"
+				+ " WHERE as_name = ? AND as_number = ? AND as_status <> ?");
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() throws SQLException {
+		try (Statement statement = connection.createStatement()) {
+			statement.execute("DROP ALL OBJECTS");
+		}
+		connection.close();
+	}
+
+	@Benchmark
+	public List<Row> findAllAndFilter() throws SQLException {
+		List<Row> all = read(findAll);
+		List<Row> matched = new ArrayList<>();
+		for (Row row : all) {
+			if (!"FALLSE".equals(row.status()) && row.name().equals(targetName) && row.number().equals(targetNumber)) {
+				matched.add(row);
+			}
+		}
+		return matched;
+	}
+
+	@Benchmark
+	public List<Row> indexedLookup() throws SQLException {
+		indexedLookup.setString(1, targetName);
+		indexedLookup.setString(2, targetNumber);
+		indexedLookup.setString(3, "FALLSE");
+		return read(indexedLookup);
+	}
+
+	private static List<Row> read(PreparedStatement statement) throws SQLException {
+		List<Row> result = new ArrayList<>();
+		try (ResultSet resultSet = statement.executeQuery()) {
+			while (resultSet.next()) {
+				result.add(new Row(resultSet.getInt(1), resultSet.getString(2), resultSet.getString(3),
+					resultSet.getString(4), resultSet.getString(5), resultSet.getString(6)));
+			}
+		}
+		return result;
+	}
+
+	public record Row(int id, String name, String number, String description, String address, String status) {
+	}
+}
@@ -0,0 +1,81 @@
+package com.jmair.auth.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.jmair.auth.dto.UserGrade;
+import com.jmair.auth.entity.User;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+
+// 요청마다 키/파서를 새로 만드는 기존 방식과 JwtKeyRegistry 재사용 방식 비교
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtUtilBenchmark {
+
+	private static final String SECRET = "benchmark-secret-key-benchmark-secret-key-0123456789";
+	private static final long ACCESS_TOKEN_VALIDITY = 1000 * 60 * 15;
+
+	private JwtUtil jwtUtil;
+	private User user;
+	private String token;
+
+	@Setup
+	public void setUp() {
+		jwtUtil = new JwtUtil(new JwtKeyRegistry(SECRET, "k1", "k0=previous-secret-key-previous-secret-key-012345"));
+		user = new User();
+		user.setUserLogin("benchmark");
+		user.setUserGrade(UserGrade.ADMIN);
+		token = jwtUtil.generateAccessToken(user);
+	}
+
+	@Benchmark
+	public String generatePerCallKey() {
+		return Jwts.builder()
+			.setSubject(user.getUserLogin())
+			.claim("role", user.getUserGrade().toString())
+			.setIssuedAt(new Date())
+			.setExpiration(new Date(System.currentTimeMillis() + ACCESS_TOKEN_VALIDITY))
+			.signWith(Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8)), SignatureAlgorithm.HS256)
+			.compact();
+	}
+
+	@Benchmark
+	public String generateWithRegistry() {
+		return jwtUtil.generateAccessToken(user);
+	}
+
+	@Benchmark
+	public String validatePerCallParser() {
+		Claims claims = Jwts.parserBuilder()
+			.setSigningKey(Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8)))
+			.build()
+			.parseClaimsJws(token)
+			.getBody();
+		return claims.getSubject();
+	}
+
+	@Benchmark
+	public String validateWithRegistry() {
+		return jwtUtil.validateAndExtractUserLogin(token);
+	}
+}
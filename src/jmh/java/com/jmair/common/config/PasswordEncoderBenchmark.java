@@ -0,0 +1,55 @@
+package com.jmair.common.config;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+// 비밀번호 해시 1회 비용 (가입/비회원 신청 = encode, 로그인/비회원 조회 = matches)
+// config: CorsAndSecurityConfig 의 운영 인코더(BCrypt 12), 10/11: 비용을 낮췄을 때 비교용
+// 실행: ./gradlew jmh -Pjmh.includes=PasswordEncoderBenchmark
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(1)
+public class PasswordEncoderBenchmark {
+
+	private static final String PASSWORD = "benchmark-password-1234";
+
+	@Param({"config", "10", "11"})
+	private String strength;
+
+	private PasswordEncoder passwordEncoder;
+	private String hash;
+
+	@Setup
+	public void setUp() {
+		passwordEncoder = strength.equals("config")
+			? new CorsAndSecurityConfig(null, null, null).passwordEncoder()
+			: new BCryptPasswordEncoder(Integer.parseInt(strength));
+		hash = passwordEncoder.encode(PASSWORD);
+	}
+
+	@Benchmark
+	public String encode() {
+		return passwordEncoder.encode(PASSWORD);
+	}
+
+	@Benchmark
+	public boolean matches() {
+		return passwordEncoder.matches(PASSWORD, hash);
+	}
+}
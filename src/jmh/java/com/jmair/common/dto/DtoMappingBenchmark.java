@@ -0,0 +1,99 @@
+package com.jmair.common.dto;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.jmair.as.dto.ASDTO;
+import com.jmair.as.dto.ASStatus;
+import com.jmair.as.dto.ASSummary;
+import com.jmair.auth.dto.UserGrade;
+import com.jmair.cleaning.dto.CleanStatus;
+import com.jmair.cleaning.dto.CleanSummary;
+import com.jmair.cleaning.dto.CleaningDTO;
+import com.jmair.installation.dto.Install;
+import com.jmair.installation.dto.InstallDTO;
+import com.jmair.installation.dto.InstallSummary;
+
+// 관리자 목록 한 페이지의 DTO 변환(빌더) 비용과, 변환 + JSON 직렬화까지의 비용
+// ASService/CleanService/InstallService 가 쓰는 *Summary.toDTO() 를 그대로 호출
+// 실행: ./gradlew jmh -Pjmh.includes=DtoMappingBenchmark --args='DtoMappingBenchmark -prof gc'
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DtoMappingBenchmark {
+
+	@Param({"20", "100"})
+	private int pageSize;
+
+	// 스프링 부트 기본 설정과 같이 java.time 모듈 등록
+	private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+	private List<ASSummary> asRows;
+	private List<CleanSummary> cleanRows;
+	private List<InstallSummary> installRows;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		LocalDateTime base = LocalDateTime.of(2025, 6, 1, 9, 0);
+		asRows = new ArrayList<>();
+		cleanRows = new ArrayList<>();
+		installRows = new ArrayList<>();
+		for (int i = 0; i < pageSize; i++) {
+			asRows.add(new ASSummary(i, "고객" + i, "벽걸이형", base.minusHours(i), base, ASStatus.REQUEST,
+				UserGrade.NOUSER));
+			cleanRows.add(new CleanSummary(i, "고객" + i, "010-0000-" + i, "스탠드형", base.minusHours(i),
+				CleanStatus.REQUEST, UserGrade.USER));
+			installRows.add(new InstallSummary(i, "고객" + i, "010-0000-" + i, "02-000-" + i,
+				"거실 벽걸이 설치 요청", base.minusHours(i), Install.REQUEST, UserGrade.NOUSER));
+		}
+	}
+
+	@Benchmark
+	public List<ASDTO> asMapping() {
+		return asRows.stream().map(ASSummary::toDTO).toList();
+	}
+
+	@Benchmark
+	public List<CleaningDTO> cleanMapping() {
+		return cleanRows.stream().map(CleanSummary::toDTO).toList();
+	}
+
+	@Benchmark
+	public List<InstallDTO> installMapping() {
+		return installRows.stream().map(InstallSummary::toDTO).toList();
+	}
+
+	@Benchmark
+	public byte[] asMappingAndJson() throws Exception {
+		return objectMapper.writeValueAsBytes(asMapping());
+	}
+
+	@Benchmark
+	public byte[] cleanMappingAndJson() throws Exception {
+		return objectMapper.writeValueAsBytes(cleanMapping());
+	}
+
+	@Benchmark
+	public byte[] installMappingAndJson() throws Exception {
+		return objectMapper.writeValueAsBytes(installMapping());
+	}
+}
@@ -0,0 +1,74 @@
+package com.jmair.secondhand.entity;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+// 중고 상품 500건 목록 렌더링의 이미지 목록 처리
+// typeReferencePerRow: 기존 방식 (행마다 new TypeReference 로 readValue)
+// converterParsed: UsedImagesConverter + 미리 만든 ObjectReader 로 목록 사용
+// converterUntouched: 이미지를 쓰지 않는 경로 (예약, 내보내기 등) - 파싱 없음
+// 실행: ./gradlew jmh -Pjmh.includes=UsedImagesBenchmark --args='UsedImagesBenchmark -prof gc'
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class UsedImagesBenchmark {
+
+	private static final int ROWS = 500;
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+	private final UsedImagesConverter converter = new UsedImagesConverter();
+	private List<String> columns;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		columns = new ArrayList<>(ROWS);
+		for (int i = 0; i < ROWS; i++) {
+			List<String> ids = new ArrayList<>();
+			for (int j = 0; j < 1 + i % 5; j++) {
+				ids.add(String.format("%064x", (long) i * 31 + j) + ".jpg");
+			}
+			columns.add(UsedImages.of(ids).json());
+		}
+	}
+
+	@Benchmark
+	public void typeReferencePerRow(Blackhole blackhole) throws Exception {
+		for (String column : columns) {
+			blackhole.consume(objectMapper.readValue(column, new TypeReference<List<String>>() {}));
+		}
+	}
+
+	@Benchmark
+	public void converterParsed(Blackhole blackhole) {
+		for (String column : columns) {
+			blackhole.consume(converter.convertToEntityAttribute(column).ids());
+		}
+	}
+
+	@Benchmark
+	public void converterUntouched(Blackhole blackhole) {
+		for (String column : columns) {
+			blackhole.consume(converter.convertToEntityAttribute(column));
+		}
+	}
+}
@@ -0,0 +1,138 @@
+package com.jmair.secondhand.repository;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+// 64명 동시 구매 요청: 조건부 UPDATE 한 문장 vs SELECT ... FOR UPDATE 후 상태 확인/UPDATE (비관적 잠금)
+// 예약에 성공한 스레드는 바로 판매 중으로 되돌려 경합을 계속 유지 (items=1 은 인기 상품 한 개에 몰리는 경우)
+// 실행: ./gradlew jmh -Pjmh.includes=UsedReservationBenchmark
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(64)
+public class UsedReservationBenchmark {
+
+	private static final String URL = "jdbc:h2:mem:reservation;DB_CLOSE_DELAY=-1;LOCK_TIMEOUT=10000";
+
+	@Param({"1", "16"})
+	private int items;
+
+	private Connection schema;
+
+	@Setup(Level.Trial)
+	public void setUp() throws SQLException {
+		schema = DriverManager.getConnection(URL);
+		try (Statement statement = schema.createStatement()) {
+			statement.execute("CREATE TABLE used_entity (used_id INT PRIMARY KEY, used_state VARCHAR(20) NOT NULL,"
+				+ " registered_user_id INT, used_edit_time TIMESTAMP)");
+			statement.execute("INSERT INTO used_entity (used_id, used_state) SELECT X, 'SALE' FROM SYSTEM_RANGE(1, "
+				+ items + ")");
+		}
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() throws SQLException {
+		try (Statement statement = schema.createStatement()) {
+			statement.execute("DROP ALL OBJECTS");
+		}
+		schema.close();
+	}
+
+	@State(Scope.Thread)
+	public static class Buyer {
+
+		private static int nextId;
+
+		private int userId;
+		private Connection connection;
+		private PreparedStatement conditionalUpdate;
+		private PreparedStatement selectForUpdate;
+		private PreparedStatement reserve;
+		private PreparedStatement release;
+
+		@Setup(Level.Trial)
+		public void setUp() throws SQLException {
+			synchronized (Buyer.class) {
+				userId = ++nextId;
+			}
+			connection = DriverManager.getConnection(URL);
+			connection.setAutoCommit(false);
+			conditionalUpdate = connection.prepareStatement("UPDATE used_entity SET used_state = 'RESERVATION',"
+				+ " registered_user_id = ?, used_edit_time = CURRENT_TIMESTAMP WHERE used_id = ? AND used_state = 'SALE'");
+			selectForUpdate = connection.prepareStatement(
+				"SELECT used_state FROM used_entity WHERE used_id = ? FOR UPDATE");
+			reserve = connection.prepareStatement("UPDATE used_entity SET used_state = 'RESERVATION',"
+				+ " registered_user_id = ?, used_edit_time = CURRENT_TIMESTAMP WHERE used_id = ?");
+			release = connection.prepareStatement(
+				"UPDATE used_entity SET used_state = 'SALE', registered_user_id = NULL WHERE used_id = ?");
+		}
+
+		@TearDown(Level.Trial)
+		public void tearDown() throws SQLException {
+			connection.close();
+		}
+
+		private void release(int usedId) throws SQLException {
+			release.setInt(1, usedId);
+			release.executeUpdate();
+			connection.commit();
+		}
+	}
+
+	@Benchmark
+	public boolean conditionalUpdate(Buyer buyer) throws SQLException {
+		int usedId = ThreadLocalRandom.current().nextInt(items) + 1;
+		buyer.conditionalUpdate.setInt(1, buyer.userId);
+		buyer.conditionalUpdate.setInt(2, usedId);
+		int updated = buyer.conditionalUpdate.executeUpdate();
+		buyer.connection.commit();
+		if (updated == 1) {
+			buyer.release(usedId);
+		}
+		return updated == 1;
+	}
+
+	@Benchmark
+	public boolean pessimisticLock(Buyer buyer) throws SQLException {
+		int usedId = ThreadLocalRandom.current().nextInt(items) + 1;
+		buyer.selectForUpdate.setInt(1, usedId);
+		boolean onSale;
+		try (ResultSet resultSet = buyer.selectForUpdate.executeQuery()) {
+			onSale = resultSet.next() && "SALE".equals(resultSet.getString(1));
+		}
+		if (onSale) {
+			buyer.reserve.setInt(1, buyer.userId);
+			buyer.reserve.setInt(2, usedId);
+			buyer.reserve.executeUpdate();
+		}
+		buyer.connection.commit();
+		if (onSale) {
+			buyer.release(usedId);
+		}
+		return onSale;
+	}
+}
@@ -3,6 +3,8 @@ package com.jmair.as.dto;
 import java.time.LocalDateTime;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
 import com.jmair.auth.dto.UserGrade;
 import com.jmair.cleaning.dto.CleanStatus;
 
@@ -53,4 +55,8 @@ public class ASDTO {
 	private UserGrade registeredUserGrade;
 	@Size(max = 1000, message = "최대 1000자")
 	private String asNote;
+	// 비밀번호 확인 후 발급되는 게스트 티켓 (응답 전용)
+	@JsonInclude(JsonInclude.Include.NON_NULL)
+	@JsonProperty(access = JsonProperty.Access.READ_ONLY)
+	private String guestTicket;
 }
@@ -0,0 +1,22 @@
+package com.jmair.as.dto;
+
+import java.time.LocalDateTime;
+
+import com.jmair.auth.dto.UserGrade;
+
+// 관리자 목록용 요약 프로젝션 - 설명/메모/비밀번호 컬럼은 읽지 않고 영속성 컨텍스트에도 올라가지 않음
+public record ASSummary(Integer asId, String asName, String productType, LocalDateTime asStartTime,
+						LocalDateTime asEditTime, ASStatus asStatus, UserGrade registeredUserGrade) {
+
+	public ASDTO toDTO() {
+		return ASDTO.builder()
+			.asId(asId)
+			.asName(asName)
+			.productType(productType)
+			.asStartTime(asStartTime)
+			.asEditTime(asEditTime)
+			.asStatus(asStatus)
+			.registeredUserGrade(registeredUserGrade)
+			.build();
+	}
+}
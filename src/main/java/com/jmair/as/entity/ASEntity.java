@@ -14,6 +14,8 @@ import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -22,6 +24,11 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 @Entity
+// 비회원 조회(이름 + 핸드폰 번호, 삭제 제외)와 관리자 목록(최신순 키셋 페이지네이션)용 인덱스
+@Table(indexes = {
+	@Index(name = "idx_as_name_number_status", columnList = "asName, asNumber, asStatus"),
+	@Index(name = "idx_as_start_time", columnList = "asStartTime, asId")
+})
 @Getter
 @Setter
 @Builder(toBuilder = true)
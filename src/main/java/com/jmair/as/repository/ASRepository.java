@@ -1,8 +1,50 @@
 package com.jmair.as.repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import com.jmair.as.dto.ASStatus;
+import com.jmair.as.dto.ASSummary;
 import com.jmair.as.entity.ASEntity;
 
+import jakarta.persistence.QueryHint;
+
 public interface ASRepository extends JpaRepository<ASEntity, Integer> {
+
+	// 비회원 조회 - idx_as_name_number_status 인덱스 사용
+	List<ASEntity> findByAsNameAndAsNumberAndAsStatusNot(String asName, String asNumber, ASStatus asStatus);
+
+	// 관리자 목록 - 상태/기간 필터와 (시간, id) 키셋 조건을 SQL 로 처리, limit 은 페이지 크기 + 1
+	// 목록에 표시하는 컬럼만 생성자 표현식으로 조회 (엔티티 미생성)
+	@Query("""
+		SELECT new com.jmair.as.dto.ASSummary(a.asId, a.asName, a.productType, a.asStartTime,
+		       a.asEditTime, a.asStatus, a.registeredUserGrade)
+		FROM ASEntity a
+		WHERE a.asStatus <> :deleted
+		  AND (:status IS NULL OR a.asStatus = :status)
+		  AND (:fromTime IS NULL OR a.asStartTime >= :fromTime)
+		  AND (:toTime IS NULL OR a.asStartTime < :toTime)
+		  AND (:cursorTime IS NULL OR a.asStartTime < :cursorTime
+		       OR (a.asStartTime = :cursorTime AND a.asId < :cursorId))
+		ORDER BY a.asStartTime DESC, a.asId DESC
+		""")
+	List<ASSummary> findAdminPage(@Param("deleted") ASStatus deleted, @Param("status") ASStatus status,
+		@Param("fromTime") LocalDateTime fromTime, @Param("toTime") LocalDateTime toTime,
+		@Param("cursorTime") LocalDateTime cursorTime, @Param("cursorId") Integer cursorId, Limit limit);
+
+	// 관리자 내보내기 - 호출 측 트랜잭션 안에서 fetch size 단위로 읽음 (MySQL 은 JpaConfig 가 useCursorFetch=true 지정)
+	@QueryHints({
+		@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+		@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+	})
+	@Query("SELECT a FROM ASEntity a WHERE a.asStatus <> :deleted ORDER BY a.asId")
+	Stream<ASEntity> streamForExport(@Param("deleted") ASStatus deleted);
 }
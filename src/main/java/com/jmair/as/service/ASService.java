@@ -1,39 +1,75 @@
 package com.jmair.as.service;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
-import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.jmair.as.dto.ASDTO;
 import com.jmair.as.dto.ASStatus;
+import com.jmair.as.dto.ASSummary;
 import com.jmair.as.entity.ASEntity;
 import com.jmair.as.repository.ASRepository;
 import com.jmair.auth.dto.UserGrade;
 import com.jmair.auth.entity.User;
+import com.jmair.auth.service.GuestTicketService;
+import com.jmair.auth.service.PasswordHashingService;
 import com.jmair.auth.service.UserService;
+import com.jmair.common.dto.CursorPage;
+import com.jmair.common.dto.ExportFormat;
+import com.jmair.common.dto.ListCondition;
 import com.jmair.common.exeption.ForbiddenException;
 import com.jmair.common.exeption.ResourceNotFoundException;
 import com.jmair.common.exeption.UnauthorizedException;
+import com.jmair.common.jfr.DtoMappingEvent;
+import com.jmair.common.util.ExportWriter;
+import com.jmair.common.util.KeysetCursor;
 
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 
 @Service
 @RequiredArgsConstructor
 public class ASService {
 
+	// 게스트 티켓 서명 도메인
+	public static final String TICKET_DOMAIN = "as";
+
+	// 관리자 내보내기 컬럼 (비밀번호 제외)
+	private static final List<ExportWriter.Column<ASEntity>> EXPORT_COLUMNS = List.of(
+		ExportWriter.column("asId", ASEntity::getAsId),
+		ExportWriter.column("asName", ASEntity::getAsName),
+		ExportWriter.column("asNumber", ASEntity::getAsNumber),
+		ExportWriter.column("asEmail", ASEntity::getAsEmail),
+		ExportWriter.column("productType", ASEntity::getProductType),
+		ExportWriter.column("asDescription", ASEntity::getAsDescription),
+		ExportWriter.column("asAdress", ASEntity::getAsAdress),
+		ExportWriter.column("asDetailAdress", ASEntity::getAsDetailAdress),
+		ExportWriter.column("asFirstReservationTime", ASEntity::getAsFirstReservationTime),
+		ExportWriter.column("asSecondReservationTime", ASEntity::getAsSecondReservationTime),
+		ExportWriter.column("asStartTime", ASEntity::getAsStartTime),
+		ExportWriter.column("asEditTime", ASEntity::getAsEditTime),
+		ExportWriter.column("asEndTime", ASEntity::getAsEndTime),
+		ExportWriter.column("asStatus", ASEntity::getAsStatus),
+		ExportWriter.column("registeredUserGrade", ASEntity::getRegisteredUserGrade),
+		ExportWriter.column("asNote", ASEntity::getAsNote)
+	);
+
 	private final ASRepository asRepository;
-	private final PasswordEncoder passwordEncoder;
+	private final PasswordHashingService passwordHashingService;
+	private final GuestTicketService guestTicketService;
 	private final UserService userService;
+	private final EntityManager entityManager;
 
-	// 등록
-	@Transactional
+	// 등록 - 비밀번호 해시는 트랜잭션 밖에서 수행해 커넥션을 점유하지 않음
 	public ASDTO createASRequest(ASDTO dto) {
 		// 현재 인증된 사용자가 있다면 해당 유저의 UserGrade를, 없으면 NOUSER로 처리
 		Authentication auth = SecurityContextHolder.getContext().getAuthentication();
@@ -43,6 +79,7 @@ public class ASService {
 		} else {
 			registerGrade = UserGrade.NOUSER;
 		}
+		String encodedPassword = passwordHashingService.encode(dto.getAsPassword());
 
 		ASEntity request = ASEntity.builder()
 			.asName(dto.getAsName())
@@ -52,7 +89,7 @@ public class ASService {
 			.asDescription(dto.getAsDescription())
 			.asAdress(dto.getAsAdress())
 			.asDetailAdress(dto.getAsDetailAdress())
-			.asPassword(passwordEncoder.encode(dto.getAsPassword()))
+			.asPassword(encodedPassword)
 			.asStatus(ASStatus.REQUEST)
 			.asFirstReservationTime(dto.getAsFirstReservationTime())
 			.asSecondReservationTime(dto.getAsSecondReservationTime())
@@ -78,39 +115,42 @@ public class ASService {
 			.build();
 	}
 
-	// 전체 조회
+	// 전체 조회 권한 (관리자, 엔지니어) - 없으면 비회원 조회
+	public boolean canViewAllRequests(Optional<User> currentUser) {
+		if (currentUser.isEmpty()) {
+			return false;
+		}
+		User user = currentUser.get();
+		return user.getUserGrade() == UserGrade.ENGINEER ||
+			user.getUserGrade() == UserGrade.ADMIN ||
+			user.getUserGrade() == UserGrade.SUPERADMIN ||
+			user.getUserGrade() == UserGrade.ADMINWATCHER;
+	}
+
+	// 관리자 전체 조회 - 최신순 커서 페이지 (상태/기간 필터)
 	@Transactional(readOnly = true)
-	public List<ASDTO> getAllASRequests(Optional<User> currentUser, String asName, String asNumber) {
-		List<ASEntity> all = asRepository.findAll();
-		// 관리자
-		if (currentUser.isPresent()) {
-			User user = currentUser.get();
-			if (user.getUserGrade() == UserGrade.ENGINEER ||
-				user.getUserGrade() == UserGrade.ADMIN ||
-				user.getUserGrade() == UserGrade.SUPERADMIN ||
-				user.getUserGrade() == UserGrade.ADMINWATCHER) {
-				return all.stream()
-					.filter(entity -> entity.getAsStatus() != ASStatus.FALLSE)
-					.map(entity -> ASDTO.builder()
-						.asId(entity.getAsId())
-						.asName(entity.getAsName())
-						.productType(entity.getProductType())
-						.asStartTime(entity.getAsStartTime())
-						.asEditTime(entity.getAsEditTime())
-						.asStatus(entity.getAsStatus())
-						.registeredUserGrade(entity.getRegisteredUserGrade())
-						.build())
-					.collect(Collectors.toList());
-			}
+	public CursorPage<ASDTO> getAdminASRequests(Optional<User> currentUser, ListCondition<ASStatus> condition) {
+		if (!canViewAllRequests(currentUser)) {
+			throw new ForbiddenException("전체 조회 권한이 없습니다.");
 		}
-		// 일반 사용자 또는 비로그인 사용자의 경우, 이름과 핸드폰 번호를 필수로 받아 일치하는 건만 조회
+		KeysetCursor.Position position = condition.position();
+		int size = condition.pageSize();
+		List<ASSummary> rows = asRepository.findAdminPage(ASStatus.FALLSE, condition.status(),
+			condition.fromTime(), condition.toTime(),
+			position != null ? position.time() : null, position != null ? position.id() : null,
+			Limit.of(size + 1));
+		return KeysetCursor.page(rows, size, ASSummary::asStartTime, ASSummary::asId, ASSummary::toDTO);
+	}
+
+	// 비회원 조회 - 이름과 핸드폰 번호를 필수로 받아 일치하는 건 전체 (페이지 없이 배열로 응답)
+	@Transactional(readOnly = true)
+	public List<ASDTO> getGuestASRequests(String asName, String asNumber) {
 		if (asName == null || asName.isBlank() || asNumber == null || asNumber.isBlank()) {
 			throw new IllegalArgumentException("일반 사용자는 이름과 핸드폰 번호를 제공해야 합니다.");
 		}
-		return all.stream()
-			.filter(entity -> entity.getAsStatus() != ASStatus.FALLSE)
-			.filter(entity -> entity.getAsName().equals(asName) && entity.getAsNumber().equals(asNumber))
-			.map(entity -> ASDTO.builder()
+		return DtoMappingEvent.map(
+			asRepository.findByAsNameAndAsNumberAndAsStatusNot(asName, asNumber, ASStatus.FALLSE),
+			entity -> ASDTO.builder()
 				.asId(entity.getAsId())
 				.asName(entity.getAsName())
 				.asNumber(entity.getAsNumber())
@@ -124,12 +164,11 @@ public class ASService {
 				.asSecondReservationTime(entity.getAsSecondReservationTime())
 				.asStatus(entity.getAsStatus())
 				.registeredUserGrade(entity.getRegisteredUserGrade())
-				.build())
-			.collect(Collectors.toList());
+				.build());
 	}
 
-	@Transactional(readOnly = true)
-	public ASDTO getASRequestDetail(Integer asId, String providedPassword, Optional<User> currentUser) {
+	// 조회 트랜잭션이 끝난 뒤 비밀번호 검증 (유효한 게스트 티켓이 있으면 생략)
+	public ASDTO getASRequestDetail(Integer asId, String providedPassword, String ticket, Optional<User> currentUser) {
 		ASEntity entity = asRepository.findById(asId)
 			.orElseThrow(() -> new ResourceNotFoundException("세척 신청을 찾을 수 없습니다."));
 		if (entity.getAsStatus() == ASStatus.FALLSE) {
@@ -140,15 +179,10 @@ public class ASService {
 				currentUser.get().getUserGrade() == UserGrade.ADMIN ||
 				currentUser.get().getUserGrade() == UserGrade.SUPERADMIN ||
 				currentUser.get().getUserGrade() == UserGrade.ADMINWATCHER);
+		String guestTicket = null;
 		if (!isAdmin) {
-			if (providedPassword == null || providedPassword.isBlank()) {
-				throw new UnauthorizedException("비밀번호가 필요합니다.");
-			}
-			boolean matches = passwordEncoder.matches(providedPassword, entity.getAsPassword());
-			System.out.println("passwordEncoder.matches 결과: " + matches);
-			if (!matches) {
-				throw new UnauthorizedException("비밀번호가 일치하지 않습니다.");
-			}
+			guestTicket = guestTicketService.authorize(TICKET_DOMAIN, entity.getAsId(), entity.getAsPassword(),
+				providedPassword, ticket);
 		}
 
 		return ASDTO.builder()
@@ -166,12 +200,12 @@ public class ASService {
 			.asSecondReservationTime(entity.getAsSecondReservationTime())
 			.asStatus(entity.getAsStatus())
 			.registeredUserGrade(entity.getRegisteredUserGrade())
+			.guestTicket(guestTicket)
 			.build();
 	}
 
-	// 일반 사용자 수정(비밀번호 확인 필요)
-	@Transactional
-	public ASDTO editASRequestForUser(Integer asId, ASDTO dto, String providedPassword) {
+	// 일반 사용자 수정(비밀번호 또는 게스트 티켓 확인 필요) - 검증은 트랜잭션 밖, 저장만 트랜잭션
+	public ASDTO editASRequestForUser(Integer asId, ASDTO dto, String providedPassword, String ticket) {
 		ASEntity entity = asRepository.findById(asId)
 			.orElseThrow(() -> new ResourceNotFoundException("세척 신청을 찾을 수 없습니다."));
 
@@ -180,9 +214,8 @@ public class ASService {
 		}
 
 		// 비밀번호 검증 (비로그인 혹은 일반 사용자의 경우)
-		if (providedPassword == null || !passwordEncoder.matches(providedPassword, entity.getAsPassword())) {
-			throw new UnauthorizedException("비밀번호가 일치하지 않습니다.");
-		}
+		String guestTicket = guestTicketService.authorize(TICKET_DOMAIN, entity.getAsId(), entity.getAsPassword(),
+			providedPassword, ticket);
 
 		// 일반 사용자가 수정 가능한 모든 필드 업데이트
 		entity.setAsName(dto.getAsName());
@@ -218,6 +251,7 @@ public class ASService {
 			.asStatus(updated.getAsStatus())
 			.asNote(updated.getAsNote())
 			.registeredUserGrade(updated.getRegisteredUserGrade())
+			.guestTicket(guestTicket)
 			.build();
 	}
 
@@ -278,4 +312,26 @@ public class ASService {
 		entity.setAsEndTime(LocalDateTime.now());
 		asRepository.save(entity);
 	}
+
+	// 내보내기 권한 확인 - 응답 스트림을 열기 전에 요청 스레드에서 호출
+	public void checkExportPermission() {
+		Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+		if (auth == null || !(auth.getPrincipal() instanceof User currentUser)) {
+			throw new UnauthorizedException("로그인한 사용자 정보가 없습니다.");
+		}
+		if (!(currentUser.getUserGrade() == UserGrade.ENGINEER ||
+			currentUser.getUserGrade() == UserGrade.ADMIN ||
+			currentUser.getUserGrade() == UserGrade.SUPERADMIN ||
+			currentUser.getUserGrade() == UserGrade.ADMINWATCHER)) {
+			throw new ForbiddenException("내보내기 권한이 없습니다.");
+		}
+	}
+
+	// 관리자 내보내기 - 한 건씩 읽어 기록한 뒤 바로 분리해 테이블 크기와 무관하게 힙 사용량 유지
+	@Transactional(readOnly = true)
+	public long exportASRequests(ExportFormat format, OutputStream out) throws IOException {
+		try (Stream<ASEntity> rows = asRepository.streamForExport(ASStatus.FALLSE)) {
+			return ExportWriter.write(rows, format, EXPORT_COLUMNS, out, entityManager::detach);
+		}
+	}
 }
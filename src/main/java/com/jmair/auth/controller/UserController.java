@@ -32,14 +32,15 @@ import com.jmair.auth.dto.response.EngineerStatusDTO;
 import com.jmair.auth.dto.response.UserResponseDTO;
 import com.jmair.auth.entity.User;
 import com.jmair.auth.service.TokenService;
+import com.jmair.auth.service.UserLookupService;
 import com.jmair.auth.service.UserService;
+import com.jmair.auth.util.AuthContext;
 import com.jmair.auth.util.JwtUtil;
 import com.jmair.common.exeption.ForbiddenException;
-import com.jmair.common.exeption.TokenExpiredException;
-import com.jmair.common.exeption.TokenInvalidException;
+import com.jmair.common.exeption.ServiceUnavailableException;
 import com.jmair.common.exeption.UnauthorizedException;
 
-import jakarta.servlet.http.Cookie;
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
@@ -52,13 +53,16 @@ public class UserController {
 
 	private final UserService userService;
 	private final TokenService tokenService;
+	private final UserLookupService userLookupService;
 	private final JwtUtil jwtUtil;
 	private static final Logger logger = LoggerFactory.getLogger(UserController.class);
 
 	@Autowired
-	public UserController(UserService userService, TokenService tokenService, JwtUtil jwtUtil) {
+	public UserController(UserService userService, TokenService tokenService,
+		UserLookupService userLookupService, JwtUtil jwtUtil) {
 		this.userService = userService;
 		this.tokenService = tokenService;
+		this.userLookupService = userLookupService;
 		this.jwtUtil = jwtUtil;
 	}
 
@@ -70,6 +74,8 @@ public class UserController {
 			return ResponseEntity.ok("회원가입 성공");
 		} catch (IllegalArgumentException e) {
 			return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
+		} catch (ServiceUnavailableException e) {
+			return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(e.getMessage());
 		} catch (Exception e) {
 			return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("회원가입 중 오류가 발생했습니다.");
 		}
@@ -101,7 +107,7 @@ public class UserController {
 			response.addHeader("Set-Cookie", refreshCookie.toString());
 
 			// 로그인한 사용자 정보 조회
-			User user = userService.getUserByLogin(loginDTO.getUserLogin());
+			User user = userLookupService.getUserByLogin(loginDTO.getUserLogin());
 
 			// JSON 응답 생성
 			Map<String, Object> responseBody = new HashMap<>();
@@ -115,6 +121,8 @@ public class UserController {
 			return ResponseEntity.ok(responseBody);
 		} catch (IllegalArgumentException e) {
 			return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(e.getMessage());
+		} catch (ServiceUnavailableException e) {
+			return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(e.getMessage());
 		} catch (Exception e) {
 			return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("로그인 중 오류가 발생했습니다.");
 		}
@@ -123,63 +131,64 @@ public class UserController {
 	// 로그인 상태 관리용
 	@GetMapping("/current")
 	public ResponseEntity<?> getCurrentUser(HttpServletRequest request, HttpServletResponse response) {
-		String accessToken = null;
-		String refreshToken = null;
-		if (request.getCookies() != null) {
-			for (Cookie cookie : request.getCookies()) {
-				if ("access_token".equals(cookie.getName())) {
-					accessToken = cookie.getValue();
-				} else if ("refresh_token".equals(cookie.getName())) {
-					refreshToken = cookie.getValue();
-				}
+		// 쿠키 확인과 액세스 토큰 검증은 JwtAuthenticationFilter 에서 한 번만 수행
+		AuthContext context = AuthContext.from(request);
+		switch (context.getStatus()) {
+			case AUTHENTICATED: {
+				User user = context.getUser();
+				Map<String, Object> result = new HashMap<>();
+				result.put("user", Map.of("userLogin", user.getUserLogin(), "userName", user.getUserName(), "userGrade", user.getUserGrade()));
+				return ResponseEntity.ok(result);
 			}
+			case EXPIRED:
+				// 액세스 토큰 만료 시 리프레시 토큰 검증
+				return refreshTokens(context.getRefreshToken(), response);
+			case INVALID:
+				return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("유효하지 않은 토큰입니다.");
+			default:
+				return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("로그인 정보가 없습니다.");
 		}
-		if (accessToken == null) {
+	}
+
+	private ResponseEntity<?> refreshTokens(String refreshToken, HttpServletResponse response) {
+		if (refreshToken == null) {
 			return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("로그인 정보가 없습니다.");
 		}
 		try {
-			// 액세스 토큰 검증 및 사용자 조회
-			User user = tokenService.validateTokenAndGetUser(accessToken);
-			Map<String, Object> result = new HashMap<>();
-			result.put("user", Map.of("userLogin", user.getUserLogin(), "userName", user.getUserName(), "userGrade", user.getUserGrade()));
-			return ResponseEntity.ok(result);
-		} catch (TokenExpiredException e) {
-			// 액세스 토큰 만료 시 리프레시 토큰 검증
-			if (refreshToken == null) {
-				return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("로그인 정보가 없습니다.");
+			// 리프레시 토큰으로 사용자 정보 추출
+			Claims claims = jwtUtil.parseClaims(refreshToken);
+			User user = userLookupService.getUserByLogin(claims.getSubject());
+			// 탈퇴한 회원, 버전이 다른(탈퇴/등급 변경 이전에 발급된) 토큰은 재발급하지 않음
+			// 버전이 없는 이전 리프레시 토큰도 무효화 여부를 알 수 없으므로 다시 로그인하도록 함
+			Integer tokenVersion = claims.get(JwtUtil.CLAIM_TOKEN_VERSION, Integer.class);
+			if (!user.isStatus() || tokenVersion == null || tokenVersion != user.getTokenVersion()) {
+				return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("유효하지 않은 토큰입니다.");
 			}
-			try {
-				// 리프레시 토큰으로 사용자 정보 추출
-				String userLogin = jwtUtil.validateAndExtractUserLogin(refreshToken);
-				User user = userService.getUserByLogin(userLogin);
-				// 새 토큰 발급
-				Map<String, String> newTokens = tokenService.refreshToken(user);
-				String newAccessToken = newTokens.get("accessToken");
-				String newRefreshToken = newTokens.get("refreshToken");
+			// 새 토큰 발급
+			Map<String, String> newTokens = tokenService.refreshToken(user);
+			String newAccessToken = newTokens.get("accessToken");
+			String newRefreshToken = newTokens.get("refreshToken");
 
-				// 새 토큰을 쿠키에 설정
-				ResponseCookie newAccessCookie = ResponseCookie.from("access_token", newAccessToken)
-					.httpOnly(true)
-					.secure(false) // 배포시 true로 변경
-					.path("/")
-					.maxAge(15 * 60)
-					.build();
-				ResponseCookie newRefreshCookie = ResponseCookie.from("refresh_token", newRefreshToken)
-					.httpOnly(true)
-					.secure(false) // 배포시 true로 변경
-					.path("/")
-					.maxAge(7 * 24 * 60 * 60)
-					.build();
-				response.addHeader("Set-Cookie", newAccessCookie.toString());
-				response.addHeader("Set-Cookie", newRefreshCookie.toString());
+			// 새 토큰을 쿠키에 설정
+			ResponseCookie newAccessCookie = ResponseCookie.from("access_token", newAccessToken)
+				.httpOnly(true)
+				.secure(false) // 배포시 true로 변경
+				.path("/")
+				.maxAge(15 * 60)
+				.build();
+			ResponseCookie newRefreshCookie = ResponseCookie.from("refresh_token", newRefreshToken)
+				.httpOnly(true)
+				.secure(false) // 배포시 true로 변경
+				.path("/")
+				.maxAge(7 * 24 * 60 * 60)
+				.build();
+			response.addHeader("Set-Cookie", newAccessCookie.toString());
+			response.addHeader("Set-Cookie", newRefreshCookie.toString());
 
-				Map<String, Object> result = new HashMap<>();
-				result.put("user", Map.of("userLogin", user.getUserLogin(), "userName", user.getUserName()));
-				return ResponseEntity.ok(result);
-			} catch (Exception ex) {
-				return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("유효하지 않은 토큰입니다.");
-			}
-		} catch (TokenInvalidException e) {
+			Map<String, Object> result = new HashMap<>();
+			result.put("user", Map.of("userLogin", user.getUserLogin(), "userName", user.getUserName()));
+			return ResponseEntity.ok(result);
+		} catch (Exception ex) {
 			return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("유효하지 않은 토큰입니다.");
 		}
 	}
@@ -50,4 +50,8 @@ public class User {
     private LocalDateTime joinDate;
     private LocalDateTime engineerAppliedAt;
     private LocalDateTime deleteDate;
+
+	// 탈퇴, 등급 변경 시 증가시켜 이전에 발급된 액세스 토큰을 무효화
+	@Column(nullable = false)
+	private int tokenVersion;
 }
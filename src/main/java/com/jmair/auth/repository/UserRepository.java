@@ -2,7 +2,10 @@ package com.jmair.auth.repository;
 
 import com.jmair.auth.dto.UserGrade;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import com.jmair.auth.entity.User;
+import java.time.LocalDateTime;
 import java.util.Optional;
 
 public interface UserRepository extends JpaRepository<User, Integer> {
@@ -12,6 +15,16 @@ public interface UserRepository extends JpaRepository<User, Integer> {
 	// 로그인
         Optional<User> findByUserLogin(String userLogin);
 
+        // 토큰 버전만 조회 (stateless 인증)
+        @Query("select u.tokenVersion from User u where u.userLogin = :userLogin")
+        Optional<Integer> findTokenVersionByUserLogin(String userLogin);
+
+        // 엔지니어 신청 - USER 등급인 경우에만 WAITING 으로 변경
+        @Modifying(clearAutomatically = true)
+        @Query("update User u set u.userGrade = com.jmair.auth.dto.UserGrade.WAITING, u.engineerAppliedAt = :appliedAt "
+                + "where u.userLogin = :userLogin and u.userGrade = com.jmair.auth.dto.UserGrade.USER")
+        int applyForEngineer(String userLogin, LocalDateTime appliedAt);
+
         // 등급으로 조회
         java.util.List<User> findByUserGrade(UserGrade userGrade);
 
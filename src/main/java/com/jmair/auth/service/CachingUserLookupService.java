@@ -0,0 +1,55 @@
+package com.jmair.auth.service;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.jmair.auth.entity.User;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+// UserLookupService 캐시 데코레이터 - 크기/TTL 제한, 회원 변경 시 해당 키만 무효화
+// 적중/미적중/축출 횟수는 /actuator/metrics/cache.gets, cache.evictions (cache=userLookup) 로 확인
+@Service
+@Primary
+public class CachingUserLookupService implements UserLookupService {
+
+	private final UserLookupService delegate;
+	private final Cache<String, User> cache;
+
+	public CachingUserLookupService(@Qualifier("userService") UserLookupService delegate,
+		MeterRegistry meterRegistry,
+		@Value("${spring.user-cache.maximum-size:10000}") long maximumSize,
+		@Value("${spring.user-cache.ttl-seconds:60}") long ttlSeconds) {
+		this.delegate = delegate;
+		this.cache = Caffeine.newBuilder()
+			.maximumSize(maximumSize)
+			.expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+			.recordStats()
+			.build();
+		CaffeineCacheMetrics.monitor(meterRegistry, cache, "userLookup");
+	}
+
+	// 존재하지 않는 회원은 예외가 그대로 전달되고 캐시에 남지 않음
+	@Override
+	public User getUserByLogin(String userLogin) {
+		return cache.get(userLogin, delegate::getUserByLogin);
+	}
+
+	public void invalidate(String userLogin) {
+		cache.invalidate(userLogin);
+	}
+
+	// 커밋 이후에 무효화해야 커밋 전 값이 다시 캐시되지 않음
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onUserChanged(UserChangedEvent event) {
+		invalidate(event.userLogin());
+	}
+}
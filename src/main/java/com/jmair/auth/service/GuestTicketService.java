@@ -0,0 +1,151 @@
+package com.jmair.auth.service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.util.Base64;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ResponseCookie;
+import org.springframework.stereotype.Service;
+
+import com.jmair.common.exeption.UnauthorizedException;
+
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+
+/**
+ * 비회원 신청 조회용 게스트 티켓.
+ * 비밀번호를 한 번 확인하면 신청 id 에 묶인 HMAC 서명 티켓을 발급하고,
+ * 이후 같은 신청의 상세 조회/수정은 BCrypt 대신 티켓 검증(수 μs)으로 처리한다.
+ *
+ * <pre>
+ * 형식 : {id}.{만료 epoch 초}.{HMAC-SHA256(도메인|id|만료|저장된 비밀번호 해시)}
+ * 전달 : guest_ticket 쿠키 또는 X-Guest-Ticket 헤더
+ * </pre>
+ *
+ * 저장된 비밀번호 해시를 서명에 포함하므로 비밀번호가 바뀌면 기존 티켓은 바로 무효가 된다.
+ */
+@Service
+public class GuestTicketService {
+
+	public static final String COOKIE_NAME = "guest_ticket";
+	public static final String HEADER_NAME = "X-Guest-Ticket";
+
+	private static final String ALGORITHM = "HmacSHA256";
+
+	private final PasswordHashingService passwordHashingService;
+	private final SecretKeySpec key;
+	private final long ttlSeconds;
+	// Mac 은 스레드 안전하지 않으므로 스레드마다 하나씩 재사용
+	private final ThreadLocal<Mac> mac;
+
+	public GuestTicketService(PasswordHashingService passwordHashingService,
+		@Value("${spring.jwt.secret-key}") String jwtSecretKey,
+		@Value("${spring.guest-ticket.secret-key:}") String secretKey,
+		@Value("${spring.guest-ticket.ttl-seconds:600}") long ttlSeconds) {
+		// 별도 키가 없으면 JWT 키에서 용도별 키를 파생해 같은 키를 두 용도로 쓰지 않음
+		byte[] keyBytes = secretKey.isBlank()
+			? hmac(new SecretKeySpec(jwtSecretKey.getBytes(StandardCharsets.UTF_8), ALGORITHM), "guest-ticket")
+			: secretKey.getBytes(StandardCharsets.UTF_8);
+		this.passwordHashingService = passwordHashingService;
+		this.key = new SecretKeySpec(keyBytes, ALGORITHM);
+		this.ttlSeconds = ttlSeconds;
+		this.mac = ThreadLocal.withInitial(() -> newMac(key));
+	}
+
+	/**
+	 * 비회원 접근 확인. 유효한 티켓이면 비밀번호 검증을 생략하고 null 을 반환하며,
+	 * 비밀번호로 확인한 경우 새로 발급한 티켓을 반환한다.
+	 */
+	public String authorize(String domain, Integer id, String passwordHash, String providedPassword, String ticket) {
+		if (verify(ticket, domain, id, passwordHash)) {
+			return null;
+		}
+		if (providedPassword == null || providedPassword.isBlank()) {
+			throw new UnauthorizedException("비밀번호가 필요합니다.");
+		}
+		if (!passwordHashingService.matches(providedPassword, passwordHash)) {
+			throw new UnauthorizedException("비밀번호가 일치하지 않습니다.");
+		}
+		return issue(domain, id, passwordHash);
+	}
+
+	public String issue(String domain, Integer id, String passwordHash) {
+		long expiresAt = System.currentTimeMillis() / 1000 + ttlSeconds;
+		return id + "." + expiresAt + "." + sign(domain, id, expiresAt, passwordHash);
+	}
+
+	public boolean verify(String ticket, String domain, Integer id, String passwordHash) {
+		if (ticket == null || ticket.isBlank() || id == null || passwordHash == null) {
+			return false;
+		}
+		String[] parts = ticket.split("\\.");
+		if (parts.length != 3 || !parts[0].equals(String.valueOf(id))) {
+			return false;
+		}
+		long expiresAt;
+		try {
+			expiresAt = Long.parseLong(parts[1]);
+		} catch (NumberFormatException e) {
+			return false;
+		}
+		if (expiresAt < System.currentTimeMillis() / 1000) {
+			return false;
+		}
+		String expected = sign(domain, id, expiresAt, passwordHash);
+		return MessageDigest.isEqual(expected.getBytes(StandardCharsets.US_ASCII),
+			parts[2].getBytes(StandardCharsets.US_ASCII));
+	}
+
+	// 헤더 우선, 없으면 쿠키
+	public static String resolveTicket(HttpServletRequest request) {
+		String header = request.getHeader(HEADER_NAME);
+		if (header != null && !header.isBlank()) {
+			return header;
+		}
+		if (request.getCookies() != null) {
+			for (Cookie cookie : request.getCookies()) {
+				if (COOKIE_NAME.equals(cookie.getName())) {
+					return cookie.getValue();
+				}
+			}
+		}
+		return null;
+	}
+
+	// 도메인별 API 경로로 범위를 한정해 AS/세척/설치 티켓이 서로 덮어쓰지 않게 함
+	public ResponseCookie toCookie(String ticket, String path) {
+		return ResponseCookie.from(COOKIE_NAME, ticket)
+			.httpOnly(true)
+			.secure(true)
+			.path(path)
+			.maxAge(Duration.ofSeconds(ttlSeconds))
+			.build();
+	}
+
+	private String sign(String domain, Integer id, long expiresAt, String passwordHash) {
+		Mac current = mac.get();
+		byte[] signature = current.doFinal(
+			(domain + "|" + id + "|" + expiresAt + "|" + passwordHash).getBytes(StandardCharsets.UTF_8));
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(signature);
+	}
+
+	private static byte[] hmac(SecretKeySpec key, String data) {
+		return newMac(key).doFinal(data.getBytes(StandardCharsets.UTF_8));
+	}
+
+	private static Mac newMac(SecretKeySpec key) {
+		try {
+			Mac mac = Mac.getInstance(ALGORITHM);
+			mac.init(key);
+			return mac;
+		} catch (GeneralSecurityException e) {
+			throw new IllegalStateException("HMAC 초기화에 실패했습니다.", e);
+		}
+	}
+}
@@ -0,0 +1,174 @@
+package com.jmair.auth.service;
+
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import com.jmair.common.exeption.ServiceUnavailableException;
+import com.jmair.common.jfr.PasswordHashEvent;
+import com.jmair.common.metrics.MetricDomain;
+import com.jmair.common.metrics.ServiceMethodTracker;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * 비밀번호 해시/검증 전용 실행기.
+ * BCrypt 연산을 요청 스레드가 아닌 코어 수 크기의 고정 풀에서 수행하고,
+ * 대기열이 가득 차면 바로 ServiceUnavailableException(503) 으로 거절한다.
+ *
+ * <pre>
+ * spring.password-hashing.threads        : 작업 스레드 수 (0 이면 코어 수)
+ * spring.password-hashing.queue-capacity : 대기열 크기
+ * spring.password-hashing.timeout-ms     : 대기 + 실행 최대 시간
+ * </pre>
+ *
+ * 메트릭: jmair.password.queue.depth, jmair.password.active, jmair.password.wait,
+ * jmair.password.hash{operation=encode|matches, domain=호출한 서비스의 업무 영역, outcome=success|match|mismatch|error},
+ * jmair.password.rejected{reason}
+ * JFR: com.jmair.PasswordHash
+ */
+@Service
+public class PasswordHashingService {
+
+	private static final String BUSY_MESSAGE = "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.";
+
+	private final PasswordEncoder passwordEncoder;
+	private final ThreadPoolExecutor executor;
+	private final long timeoutMillis;
+	private final MeterRegistry meterRegistry;
+	private final Timer waitTimer;
+	private final Map<String, Timer> hashTimers = new ConcurrentHashMap<>();
+	private final Counter queueFullCounter;
+	private final Counter timeoutCounter;
+
+	public PasswordHashingService(PasswordEncoder passwordEncoder, MeterRegistry meterRegistry,
+		@Value("${spring.password-hashing.threads:0}") int threads,
+		@Value("${spring.password-hashing.queue-capacity:64}") int queueCapacity,
+		@Value("${spring.password-hashing.timeout-ms:5000}") long timeoutMillis) {
+		int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+		this.passwordEncoder = passwordEncoder;
+		this.meterRegistry = meterRegistry;
+		this.timeoutMillis = timeoutMillis;
+		this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+			new ArrayBlockingQueue<>(queueCapacity), threadFactory(), new ThreadPoolExecutor.AbortPolicy());
+
+		Gauge.builder("jmair.password.queue.depth", executor, e -> e.getQueue().size())
+			.description("비밀번호 해시 대기열 길이")
+			.register(meterRegistry);
+		Gauge.builder("jmair.password.active", executor, ThreadPoolExecutor::getActiveCount)
+			.description("비밀번호 해시 실행 중인 작업 수")
+			.register(meterRegistry);
+		this.waitTimer = Timer.builder("jmair.password.wait")
+			.description("비밀번호 해시 대기열 대기 시간")
+			.publishPercentileHistogram()
+			.register(meterRegistry);
+		this.queueFullCounter = rejectedCounter(meterRegistry, "queue_full");
+		this.timeoutCounter = rejectedCounter(meterRegistry, "timeout");
+	}
+
+	public String encode(String rawPassword) {
+		return submit("encode", () -> passwordEncoder.encode(rawPassword), result -> "success");
+	}
+
+	public boolean matches(String rawPassword, String encodedPassword) {
+		return submit("matches", () -> passwordEncoder.matches(rawPassword, encodedPassword),
+			matched -> matched ? "match" : "mismatch");
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		executor.shutdownNow();
+	}
+
+	private <T> T submit(String operation, Callable<T> task, Function<T, String> outcome) {
+		// 업무 영역은 요청 스레드에서 확인 (실행기 스레드에는 서비스 호출 정보가 없음)
+		MetricDomain domain = ServiceMethodTracker.currentDomain();
+		long submittedAt = System.nanoTime();
+		Future<T> future;
+		try {
+			future = executor.submit(() -> {
+				PasswordHashEvent event = new PasswordHashEvent();
+				event.begin();
+				long startedAt = System.nanoTime();
+				waitTimer.record(startedAt - submittedAt, TimeUnit.NANOSECONDS);
+				String result = "error";
+				try {
+					T value = task.call();
+					result = outcome.apply(value);
+					return value;
+				} finally {
+					hashTimer(operation, domain, result).record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+					event.operation = operation;
+					event.domain = domain.tag();
+					event.outcome = result;
+					event.queueWait = startedAt - submittedAt;
+					event.commit();
+				}
+			});
+		} catch (RejectedExecutionException e) {
+			queueFullCounter.increment();
+			throw new ServiceUnavailableException(BUSY_MESSAGE);
+		}
+
+		try {
+			return future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+		} catch (TimeoutException e) {
+			future.cancel(true);
+			timeoutCounter.increment();
+			throw new ServiceUnavailableException(BUSY_MESSAGE);
+		} catch (InterruptedException e) {
+			future.cancel(true);
+			Thread.currentThread().interrupt();
+			throw new ServiceUnavailableException(BUSY_MESSAGE);
+		} catch (ExecutionException e) {
+			// 인코더 예외(null 비밀번호 등)는 호출한 쪽에서 그대로 받도록 전달
+			if (e.getCause() instanceof RuntimeException runtimeException) {
+				throw runtimeException;
+			}
+			throw new IllegalStateException(e.getCause());
+		}
+	}
+
+	private Timer hashTimer(String operation, MetricDomain domain, String outcome) {
+		return hashTimers.computeIfAbsent(operation + ":" + domain.tag() + ":" + outcome,
+			key -> Timer.builder("jmair.password.hash")
+				.description("비밀번호 해시 실행 시간")
+				.tags("operation", operation, "domain", domain.tag(), "outcome", outcome)
+				.publishPercentileHistogram()
+				.register(meterRegistry));
+	}
+
+	private static Counter rejectedCounter(MeterRegistry meterRegistry, String reason) {
+		return Counter.builder("jmair.password.rejected")
+			.description("거절된 비밀번호 해시 요청 수")
+			.tag("reason", reason)
+			.register(meterRegistry);
+	}
+
+	private static ThreadFactory threadFactory() {
+		AtomicInteger sequence = new AtomicInteger();
+		return runnable -> {
+			Thread thread = new Thread(runnable, "password-hashing-" + sequence.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		};
+	}
+}
@@ -0,0 +1,6 @@
+package com.jmair.auth.service;
+
+// 회원 정보가 변경되었음을 알리는 이벤트 (가입, 탈퇴, 엔지니어 신청/승인)
+// 커밋 이후 회원 조회 캐시와 토큰 버전 캐시에서 해당 키를 비움
+public record UserChangedEvent(String userLogin) {
+}
@@ -11,7 +11,7 @@ import com.jmair.common.exeption.TokenExpiredException;
 import com.jmair.common.exeption.TokenInvalidException;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.JwtException;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -26,11 +26,12 @@ import com.jmair.auth.dto.response.EngineerStatusDTO;
 import com.jmair.auth.dto.response.UserResponseDTO;
 import com.jmair.auth.entity.User;
 import com.jmair.auth.repository.UserRepository;
+import com.jmair.auth.util.AuthContext;
 import com.jmair.auth.util.JwtUtil;
 import com.jmair.common.exeption.ForbiddenException;
 import com.jmair.common.exeption.UnauthorizedException;
+import com.jmair.common.jfr.DtoMappingEvent;
 
-import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 
@@ -39,10 +40,12 @@ import lombok.RequiredArgsConstructor;
 public class UserService implements TokenValidator, UserLookupService {
 
 	private final UserRepository userRepository;
-	private final PasswordEncoder passwordEncoder;
+	private final PasswordHashingService passwordHashingService;
 	private final JwtUtil jwtUtil;
+	private final ApplicationEventPublisher eventPublisher;
 
-	// TokenValidator
+	// TokenValidator - 이 서비스는 회원 조회 캐시(CachingUserLookupService)의 원본이라 캐시를 거치지 않고 DB에서 조회
+	// (캐시를 거친 검증은 TokenService, 요청 인증은 JwtAuthenticationFilter 사용)
 	@Override
 	public User validateTokenAndGetUser(String token) throws TokenExpiredException {
 		try {
@@ -55,20 +58,19 @@ public class UserService implements TokenValidator, UserLookupService {
 		}
 	}
 
-	// UserLookupService
+	// UserLookupService - CachingUserLookupService 가 캐시 미적중 시 호출
 	@Override
 	public User getUserByLogin(String userLogin) {
 		return userRepository.findByUserLogin(userLogin)
 				.orElseThrow(() -> new IllegalArgumentException("유저 정보를 찾을 수 없습니다."));
 	}
 
-	// 회원가입
-	@Transactional
+	// 회원가입 - 비밀번호 해시는 트랜잭션 밖에서 수행
 	public void join(UserDTO userDTO) {
 		if (userRepository.existsByUserLogin(userDTO.getUserLogin())) {
 			throw new IllegalArgumentException("이미 존재하는 회원입니다.");
 		}
-		String encodedPassword = passwordEncoder.encode(userDTO.getPassword());
+		String encodedPassword = passwordHashingService.encode(userDTO.getPassword());
 
 		User user = new User();
 		user.setUserLogin(userDTO.getUserLogin());
@@ -81,10 +83,10 @@ public class UserService implements TokenValidator, UserLookupService {
 		user.setStatus(true);
 
 		userRepository.save(user);
+		eventPublisher.publishEvent(new UserChangedEvent(user.getUserLogin()));
 	}
 
-	// 로그인 - JWT 토큰 반환
-	@Transactional
+	// 로그인 - JWT 토큰 반환 (회원 조회 후 커넥션 반납, 비밀번호 검증은 트랜잭션 밖)
 	public Tokens login(LoginDTO loginDTO) {
 		User user = userRepository.findByUserLogin(loginDTO.getUserLogin())
 				.orElseThrow(() -> new IllegalArgumentException("아이디 또는 비밀번호가 일치하지 않습니다."));
@@ -93,7 +95,7 @@ public class UserService implements TokenValidator, UserLookupService {
 			throw new IllegalArgumentException("탈퇴한 회원입니다. 로그인할 수 없습니다.");
 		}
 
-		if (!passwordEncoder.matches(loginDTO.getPassword(), user.getPassword())) {
+		if (!passwordHashingService.matches(loginDTO.getPassword(), user.getPassword())) {
 			throw new IllegalArgumentException("아이디 또는 비밀번호가 일치하지 않습니다.");
 		}
 
@@ -103,8 +105,7 @@ public class UserService implements TokenValidator, UserLookupService {
 		return new Tokens(accessToken, refreshToken);
 	}
 
-	// 네이버 로그인
-	@Transactional
+	// 네이버 로그인 - 신규 회원의 임시 비밀번호 해시는 트랜잭션 밖에서 수행
 	public Map<String, Object> naverLogin(SocialDTO socialDTO) {
 		String userLogin = socialDTO.getUserLogin();
 		String name = socialDTO.getUserName();
@@ -118,7 +119,7 @@ public class UserService implements TokenValidator, UserLookupService {
 			user.setUserName(name);
 			user.setEmail(email);
 			String dummyPassword = UUID.randomUUID().toString();
-			user.setPassword(passwordEncoder.encode(dummyPassword));
+			user.setPassword(passwordHashingService.encode(dummyPassword));
 			user.setUserGrade(UserGrade.USER);
 			user.setStatus(true);
 			user.setJoinDate(LocalDateTime.now());
@@ -139,8 +140,7 @@ public class UserService implements TokenValidator, UserLookupService {
 		return result;
 	}
 
-	// 카카오 로그인
-	@Transactional
+	// 카카오 로그인 - 신규 회원의 임시 비밀번호 해시는 트랜잭션 밖에서 수행
 	public Map<String, Object> kakaoLogin(SocialDTO socialDTO) {
 		String userLogin = socialDTO.getUserLogin();
 		String name = socialDTO.getUserName();
@@ -154,7 +154,7 @@ public class UserService implements TokenValidator, UserLookupService {
 			user.setUserName(name);
 			user.setEmail(email);
 			String dummyPassword = UUID.randomUUID().toString();
-			user.setPassword(passwordEncoder.encode(dummyPassword));
+			user.setPassword(passwordHashingService.encode(dummyPassword));
 			user.setUserGrade(UserGrade.USER);
 			user.setStatus(true);
 			user.setJoinDate(LocalDateTime.now());
@@ -178,11 +178,7 @@ public class UserService implements TokenValidator, UserLookupService {
 	// 전체 회원 조회 (관리자용)
     @Transactional(readOnly = true)
     public List<UserResponseDTO> getAllUsersForAdmin(HttpServletRequest request) {
-		String accessToken = extractAccessTokenFromRequest(request);
-		if (accessToken == null) {
-			throw new UnauthorizedException("로그인 정보가 없습니다.");
-		}
-		User currentUser = validateTokenAndGetUser(accessToken);
+		User currentUser = getCurrentUser(request);
 		if (!(currentUser.getUserGrade() == UserGrade.ENGINEER ||
 				currentUser.getUserGrade() == UserGrade.ADMIN ||
 				currentUser.getUserGrade() == UserGrade.SUPERADMIN ||
@@ -190,7 +186,7 @@ public class UserService implements TokenValidator, UserLookupService {
 			throw new ForbiddenException("관리자만 회원 목록을 조회할 수 있습니다.");
 		}
         List<User> users = userRepository.findAll();
-        return users.stream().map(u -> {
+        return DtoMappingEvent.map(users, u -> {
                 UserResponseDTO dto = new UserResponseDTO();
                 dto.setUserLogin(u.getUserLogin());
                 dto.setUserName(u.getUserName());
@@ -200,16 +196,12 @@ public class UserService implements TokenValidator, UserLookupService {
                 dto.setUserGrade(u.getUserGrade());
                 dto.setStatus(u.isStatus());
                 return dto;
-        }).collect(Collectors.toList());
+        });
 	}
 
 	// 회원 상세 조회 (관리자 또는 자신만 조회)
     public UserResponseDTO getUserDetail(String userLogin, HttpServletRequest request) {
-		String accessToken = extractAccessTokenFromRequest(request);
-		if (accessToken == null) {
-			throw new UnauthorizedException("로그인 정보가 없습니다.");
-		}
-		User currentUser = validateTokenAndGetUser(accessToken);
+		User currentUser = getCurrentUser(request);
 		if (!(currentUser.getUserGrade() == UserGrade.ENGINEER ||
 				currentUser.getUserGrade() == UserGrade.ADMIN ||
 				currentUser.getUserGrade() == UserGrade.SUPERADMIN ||
@@ -230,16 +222,19 @@ public class UserService implements TokenValidator, UserLookupService {
         return dto;
     }
 
-	// 쿠키에서 access_token 추출
-	private String extractAccessTokenFromRequest(HttpServletRequest request) {
-		if (request.getCookies() != null) {
-			for (Cookie cookie : request.getCookies()) {
-				if ("access_token".equals(cookie.getName())) {
-					return cookie.getValue();
-				}
-			}
+	// 필터에서 검증한 요청 단위 인증 정보에서 현재 사용자 조회
+	private User getCurrentUser(HttpServletRequest request) {
+		AuthContext context = AuthContext.from(request);
+		switch (context.getStatus()) {
+			case AUTHENTICATED:
+				return context.getUser();
+			case EXPIRED:
+				throw new TokenExpiredException("토큰이 만료되었습니다.");
+			case INVALID:
+				throw new TokenInvalidException("토큰이 유효하지 않습니다.");
+			default:
+				throw new UnauthorizedException("로그인 정보가 없습니다.");
 		}
-		return null;
 	}
 
 	// 전체 회원 조회 (단순 조회)
@@ -260,39 +255,41 @@ public class UserService implements TokenValidator, UserLookupService {
 
 		user.setStatus(false);
 		user.setDeleteDate(LocalDateTime.now());
-				userRepository.save(user);
+		user.setTokenVersion(user.getTokenVersion() + 1);
+		userRepository.save(user);
+		eventPublisher.publishEvent(new UserChangedEvent(user.getUserLogin()));
 	}
 
         // 엔지니어 신청
     @Transactional
     public EngineerApplyDTO applyForEngineer(HttpServletRequest request) {
-                String accessToken = extractAccessTokenFromRequest(request);
-                if (accessToken == null) {
-                        throw new UnauthorizedException("로그인 정보가 없습니다.");
-                }
-                User user = validateTokenAndGetUser(accessToken);
+                User user = getCurrentUser(request);
 
                 if (user.getUserGrade() != UserGrade.USER) {
                         throw new IllegalArgumentException("엔지니어 신청이 불가능한 등급입니다.");
                 }
 
-                user.setUserGrade(UserGrade.WAITING);
-        user.setEngineerAppliedAt(LocalDateTime.now());
+        // 인증 시 조회한 회원을 다시 읽지 않고 등급 조건부 UPDATE 로 변경
+        LocalDateTime appliedAt = LocalDateTime.now();
+        if (userRepository.applyForEngineer(user.getUserLogin(), appliedAt) == 0) {
+                throw new IllegalArgumentException("엔지니어 신청이 불가능한 등급입니다.");
+        }
+        eventPublisher.publishEvent(new UserChangedEvent(user.getUserLogin()));
 
         EngineerApplyDTO dto = new EngineerApplyDTO();
-        dto.setUserGrade(user.getUserGrade());
-        dto.setAppliedAt(user.getEngineerAppliedAt());
+        dto.setUserGrade(UserGrade.WAITING);
+        dto.setAppliedAt(appliedAt);
         return dto;
     }
 
     // 엔지니어 신청 상태 조회
     @Transactional(readOnly = true)
     public EngineerStatusDTO getEngineerStatus(HttpServletRequest request) {
-		String accessToken = extractAccessTokenFromRequest(request);
-		if (accessToken == null) {
-						throw new UnauthorizedException("로그인 정보가 없습니다.");
+		User user = getCurrentUser(request);
+		if (AuthContext.from(request).isClaimsOnly()) {
+			// 토큰 클레임에는 신청 일시가 없으므로 회원 정보를 조회
+			user = getUserByLogin(user.getUserLogin());
 		}
-		User user = validateTokenAndGetUser(accessToken);
         UserGrade grade = user.getUserGrade();
         if (user.getEngineerAppliedAt() != null && grade == UserGrade.USER) {
                         grade = UserGrade.WAITING;
@@ -305,11 +302,7 @@ public class UserService implements TokenValidator, UserLookupService {
 
     @Transactional(readOnly = true)
     public List<EngineerApplicantDTO> getEngineerApplicants(HttpServletRequest request) {
-		String accessToken = extractAccessTokenFromRequest(request);
-		if (accessToken == null) {
-			throw new UnauthorizedException("로그인 정보가 없습니다.");
-		}
-		User currentUser = validateTokenAndGetUser(accessToken);
+		User currentUser = getCurrentUser(request);
 		if (!(currentUser.getUserGrade() == UserGrade.ADMIN ||
 				currentUser.getUserGrade() == UserGrade.SUPERADMIN)) {
 			throw new ForbiddenException("관리자만 조회할 수 있습니다.");
@@ -332,11 +325,7 @@ public class UserService implements TokenValidator, UserLookupService {
 	// 엔지니어로 등급 변경 (관리자용)
 	@Transactional
 	public void promoteToEngineer(String userLogin, HttpServletRequest request) {
-		String accessToken = extractAccessTokenFromRequest(request);
-		if (accessToken == null) {
-			throw new UnauthorizedException("로그인 정보가 없습니다.");
-		}
-		User currentUser = validateTokenAndGetUser(accessToken);
+		User currentUser = getCurrentUser(request);
 		if (!(currentUser.getUserGrade() == UserGrade.ADMIN ||
 			currentUser.getUserGrade() == UserGrade.SUPERADMIN)) {
 			throw new ForbiddenException("관리자만 등급을 변경할 수 있습니다.");
@@ -346,6 +335,8 @@ public class UserService implements TokenValidator, UserLookupService {
 			.orElseThrow(() -> new IllegalArgumentException("해당 유저를 찾을 수 없습니다."));
 
 		userToPromote.setUserGrade(UserGrade.ENGINEER);
+		userToPromote.setTokenVersion(userToPromote.getTokenVersion() + 1);
 		userRepository.save(userToPromote);
+		eventPublisher.publishEvent(new UserChangedEvent(userToPromote.getUserLogin()));
 	}
 }
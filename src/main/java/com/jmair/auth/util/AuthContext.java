@@ -0,0 +1,46 @@
+package com.jmair.auth.util;
+
+import com.jmair.auth.entity.User;
+
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.Getter;
+
+// 요청 단위 인증 정보 - JwtAuthenticationFilter 가 쿠키 확인과 토큰 검증을 한 번만 수행하고 요청 속성에 보관
+@Getter
+public class AuthContext {
+
+	public static final String ATTRIBUTE = AuthContext.class.getName();
+
+	private static final AuthContext ANONYMOUS = new AuthContext(Status.ANONYMOUS, null, null, null, false);
+
+	public enum Status {
+		ANONYMOUS, // 액세스 토큰 없음
+		AUTHENTICATED, // 검증 완료
+		EXPIRED, // 액세스 토큰 만료
+		INVALID // 서명 오류, 탈퇴 등으로 무효화된 토큰
+	}
+
+	private final Status status;
+	private final User user;
+	private final String accessToken;
+	private final String refreshToken;
+	// stateless 모드에서 토큰 클레임으로만 만든 사용자 (id, 아이디, 이름, 등급만 포함)
+	private final boolean claimsOnly;
+
+	public AuthContext(Status status, User user, String accessToken, String refreshToken, boolean claimsOnly) {
+		this.status = status;
+		this.user = user;
+		this.accessToken = accessToken;
+		this.refreshToken = refreshToken;
+		this.claimsOnly = claimsOnly;
+	}
+
+	public static AuthContext from(HttpServletRequest request) {
+		Object context = request.getAttribute(ATTRIBUTE);
+		return context instanceof AuthContext authContext ? authContext : ANONYMOUS;
+	}
+
+	public boolean isAuthenticated() {
+		return status == Status.AUTHENTICATED;
+	}
+}
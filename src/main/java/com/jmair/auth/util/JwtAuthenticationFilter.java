@@ -6,21 +6,45 @@ import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.filter.OncePerRequestFilter;
 import java.io.IOException;
-import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import com.jmair.auth.dto.UserGrade;
 import com.jmair.auth.entity.User;
-import com.jmair.auth.service.UserService;
+import com.jmair.auth.service.UserLookupService;
+import com.jmair.common.metrics.MetricDomain;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 
+// 토큰 검증 시간: jmair.auth.token.verify{domain=요청 URL 의 업무 영역, outcome=authenticated|expired|invalid|revoked}
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
+	public static final String VERIFY_METRIC = "jmair.auth.token.verify";
+
 	private final JwtUtil jwtUtil;
-	private final UserService userService;
+	private final UserLookupService userLookupService;
+	private final TokenVersionCache tokenVersionCache;
+	// true 이면 토큰 클레임만으로 사용자 정보를 구성 (요청마다 회원 조회 생략)
+	private final boolean stateless;
+	private final MeterRegistry meterRegistry;
+	private final Map<String, Timer> verifyTimers = new ConcurrentHashMap<>();
 
-	public JwtAuthenticationFilter(JwtUtil jwtUtil, UserService userService) {
+	public JwtAuthenticationFilter(JwtUtil jwtUtil, UserLookupService userLookupService,
+		TokenVersionCache tokenVersionCache, boolean stateless, MeterRegistry meterRegistry) {
 		this.jwtUtil = jwtUtil;
-		this.userService = userService;
+		this.userLookupService = userLookupService;
+		this.tokenVersionCache = tokenVersionCache;
+		this.stateless = stateless;
+		this.meterRegistry = meterRegistry;
 	}
 
 	@Override
@@ -28,28 +52,97 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 		HttpServletResponse response,
 		FilterChain filterChain) throws ServletException, IOException {
 		String token = null;
-		if (request.getCookies() != null) {
-			for (Cookie cookie : request.getCookies()) {
+		String refreshToken = null;
+		Cookie[] cookies = request.getCookies();
+		if (cookies != null) {
+			for (Cookie cookie : cookies) {
 				if ("access_token".equals(cookie.getName())) {
 					token = cookie.getValue();
-					break;
+				} else if ("refresh_token".equals(cookie.getName())) {
+					refreshToken = cookie.getValue();
 				}
 			}
 		}
 
-		if (token != null) {
-			try {
-				String userLogin = jwtUtil.validateAndExtractUserLogin(token);
-				User user = userService.getUserByLogin(userLogin);
-				// 필요에 따라 사용자 권한(GrantedAuthority) 설정
-				UsernamePasswordAuthenticationToken auth =
-					new UsernamePasswordAuthenticationToken(user, null, new ArrayList<>());
-				SecurityContextHolder.getContext().setAuthentication(auth);
-			} catch (Exception e) {
-				// 유효하지 않은 토큰이면 인증 해제
-				SecurityContextHolder.clearContext();
-			}
+		AuthContext context;
+		if (token == null) {
+			context = new AuthContext(AuthContext.Status.ANONYMOUS, null, null, refreshToken, false);
+		} else {
+			context = authenticate(token, refreshToken, MetricDomain.fromPath(request.getRequestURI()));
+		}
+		// 서비스, 컨트롤러는 쿠키/토큰을 다시 확인하지 않고 이 값을 사용
+		request.setAttribute(AuthContext.ATTRIBUTE, context);
+
+		if (context.isAuthenticated()) {
+			// 회원 등급을 권한으로 설정 (ROLE_ADMIN 등, 관리 엔드포인트 접근 제한에 사용)
+			UsernamePasswordAuthenticationToken auth = new UsernamePasswordAuthenticationToken(context.getUser(), null,
+				List.of(new SimpleGrantedAuthority("ROLE_" + context.getUser().getUserGrade().name())));
+			SecurityContextHolder.getContext().setAuthentication(auth);
+		} else if (token != null) {
+			// 유효하지 않은 토큰이면 인증 해제
+			SecurityContextHolder.clearContext();
 		}
 		filterChain.doFilter(request, response);
 	}
+
+	private Timer verifyTimer(MetricDomain domain, String outcome) {
+		return verifyTimers.computeIfAbsent(domain.tag() + ":" + outcome, key -> Timer.builder(VERIFY_METRIC)
+			.description("JWT 검증 시간 (회원 조회 포함)")
+			.tags("domain", domain.tag(), "outcome", outcome)
+			.publishPercentileHistogram()
+			.register(meterRegistry));
+	}
+
+	private AuthContext authenticate(String token, String refreshToken, MetricDomain domain) {
+		long started = System.nanoTime();
+		String outcome = "invalid";
+		try {
+			Claims claims = jwtUtil.parseClaims(token);
+			boolean claimsOnly = stateless
+				&& claims.get(JwtUtil.CLAIM_TOKEN_VERSION) != null
+				&& claims.get(JwtUtil.CLAIM_USER_ID) != null;
+			User user = claimsOnly ? userFromClaims(claims) : userFromDatabase(claims);
+			if (user == null) {
+				// 탈퇴, 등급 변경 등으로 무효화된 토큰
+				outcome = "revoked";
+				return new AuthContext(AuthContext.Status.INVALID, null, token, refreshToken, false);
+			}
+			outcome = "authenticated";
+			return new AuthContext(AuthContext.Status.AUTHENTICATED, user, token, refreshToken, claimsOnly);
+		} catch (ExpiredJwtException e) {
+			outcome = "expired";
+			return new AuthContext(AuthContext.Status.EXPIRED, null, token, refreshToken, false);
+		} catch (Exception e) {
+			return new AuthContext(AuthContext.Status.INVALID, null, token, refreshToken, false);
+		} finally {
+			verifyTimer(domain, outcome).record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+		}
+	}
+
+	private User userFromClaims(Claims claims) {
+		String userLogin = claims.getSubject();
+		int tokenVersion = claims.get(JwtUtil.CLAIM_TOKEN_VERSION, Integer.class);
+		if (tokenVersionCache.currentVersion(userLogin) != tokenVersion) {
+			return null;
+		}
+		User user = new User();
+		user.setId(claims.get(JwtUtil.CLAIM_USER_ID, Integer.class));
+		user.setUserLogin(userLogin);
+		user.setUserName(claims.get(JwtUtil.CLAIM_USER_NAME, String.class));
+		user.setUserGrade(UserGrade.valueOf(claims.get(JwtUtil.CLAIM_ROLE, String.class)));
+		user.setTokenVersion(tokenVersion);
+		// 탈퇴하면 버전이 올라가므로 버전이 일치하는 토큰의 회원은 활성 상태
+		user.setStatus(true);
+		return user;
+	}
+
+	// 기본 모드 또는 버전 정보가 없는 이전 토큰은 DB에서 조회
+	private User userFromDatabase(Claims claims) {
+		Integer tokenVersion = claims.get(JwtUtil.CLAIM_TOKEN_VERSION, Integer.class);
+		User user = userLookupService.getUserByLogin(claims.getSubject());
+		if (tokenVersion != null && tokenVersion != user.getTokenVersion()) {
+			return null;
+		}
+		return user;
+	}
 }
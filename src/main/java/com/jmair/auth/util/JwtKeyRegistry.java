@@ -0,0 +1,100 @@
+package com.jmair.auth.util;
+
+import java.nio.charset.StandardCharsets;
+import java.security.Key;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import javax.crypto.SecretKey;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SigningKeyResolverAdapter;
+import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.SignatureException;
+
+/**
+ * JWT 서명 키 레지스트리.
+ * 애플리케이션 시작 시 한 번만 키와 파서를 만들어 두고, 토큰 헤더의 kid 값으로 검증 키를 고른다.
+ *
+ * <pre>
+ * spring.jwt.secret-key        : 현재 서명에 사용하는 키
+ * spring.jwt.key-id            : 현재 키의 kid (기본값 k1)
+ * spring.jwt.verification-keys : 검증만 허용할 이전 키 목록 (kid=secret,kid=secret)
+ * </pre>
+ *
+ * 키 교체 시 새 키를 secret-key 로 올리고 기존 키를 verification-keys 로 옮기면
+ * 이미 발급된 토큰이 만료될 때까지 그대로 통과한다.
+ */
+@Component
+public class JwtKeyRegistry {
+
+	private final String activeKeyId;
+	private final SecretKey activeKey;
+	private final Map<String, SecretKey> keys;
+	private final JwtParser parser;
+
+	public JwtKeyRegistry(@Value("${spring.jwt.secret-key}") String secretKey,
+		@Value("${spring.jwt.key-id:k1}") String keyId,
+		@Value("${spring.jwt.verification-keys:}") String verificationKeys) {
+		Map<String, SecretKey> resolved = new LinkedHashMap<>();
+		for (String entry : verificationKeys.split(",")) {
+			if (entry.isBlank()) {
+				continue;
+			}
+			int separator = entry.indexOf('=');
+			if (separator <= 0 || separator == entry.length() - 1) {
+				throw new IllegalArgumentException("spring.jwt.verification-keys 형식이 올바르지 않습니다. (kid=secret)");
+			}
+			resolved.put(entry.substring(0, separator).trim(), toKey(entry.substring(separator + 1).trim()));
+		}
+		this.activeKeyId = keyId;
+		this.activeKey = toKey(secretKey);
+		resolved.put(keyId, activeKey);
+		this.keys = Collections.unmodifiableMap(resolved);
+
+		// JwtParser 는 불변 객체이므로 하나를 만들어 모든 요청에서 공유한다.
+		this.parser = Jwts.parserBuilder()
+			.setSigningKeyResolver(new SigningKeyResolverAdapter() {
+				@Override
+				public Key resolveSigningKey(JwsHeader header, Claims claims) {
+					return keyFor(header.getKeyId());
+				}
+			})
+			.build();
+	}
+
+	public String getActiveKeyId() {
+		return activeKeyId;
+	}
+
+	public SecretKey getActiveKey() {
+		return activeKey;
+	}
+
+	public JwtParser getParser() {
+		return parser;
+	}
+
+	// kid 가 없는 토큰은 레지스트리 도입 이전에 발급된 것이므로 현재 키로 검증
+	private SecretKey keyFor(String keyId) {
+		if (keyId == null) {
+			return activeKey;
+		}
+		SecretKey key = keys.get(keyId);
+		if (key == null) {
+			throw new SignatureException("등록되지 않은 키입니다. kid=" + keyId);
+		}
+		return key;
+	}
+
+	private static SecretKey toKey(String secret) {
+		return Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+	}
+}
@@ -1,54 +1,83 @@
 package com.jmair.auth.util;
 
-import java.nio.charset.StandardCharsets;
 import java.util.Date;
 
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import com.jmair.auth.entity.User;
+import com.jmair.common.jfr.JwtValidationEvent;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
-import io.jsonwebtoken.security.Keys;
 
 @Component
 public class JwtUtil {
 
-	@Value("${spring.jwt.secret-key}")
-	private String secretKey;
+	private final JwtKeyRegistry keyRegistry;
+
+	public static final String CLAIM_ROLE = "role";
+	public static final String CLAIM_USER_ID = "uid";
+	public static final String CLAIM_USER_NAME = "name";
+	public static final String CLAIM_TOKEN_VERSION = "ver";
 
 	private static final long ACCESS_TOKEN_VALIDITY = 1000 * 60 * 15;
 	private static final long REFRESH_TOKEN_VALIDITY = 1000 * 60 * 60 * 24 * 7;
 
+	public JwtUtil(JwtKeyRegistry keyRegistry) {
+		this.keyRegistry = keyRegistry;
+	}
+
 	public String generateAccessToken(User user) {
 		return Jwts.builder()
+			.setHeaderParam("kid", keyRegistry.getActiveKeyId())
 			.setSubject(user.getUserLogin())
-			.claim("role", user.getUserGrade().toString())
+			.claim(CLAIM_ROLE, user.getUserGrade().toString())
+			.claim(CLAIM_USER_ID, user.getId())
+			.claim(CLAIM_USER_NAME, user.getUserName())
+			.claim(CLAIM_TOKEN_VERSION, user.getTokenVersion())
 			.setIssuedAt(new Date())
 			.setExpiration(new Date(System.currentTimeMillis() + ACCESS_TOKEN_VALIDITY))
-			.signWith(Keys.hmacShaKeyFor(secretKey.getBytes(StandardCharsets.UTF_8)), SignatureAlgorithm.HS256)
+			.signWith(keyRegistry.getActiveKey(), SignatureAlgorithm.HS256)
 			.compact();
 	}
 
+	// 탈퇴, 등급 변경으로 버전이 올라가면 재발급에 쓸 수 없도록 버전 포함
 	public String generateRefreshToken(User user) {
 		return Jwts.builder()
+			.setHeaderParam("kid", keyRegistry.getActiveKeyId())
 			.setSubject(user.getUserLogin())
+			.claim(CLAIM_TOKEN_VERSION, user.getTokenVersion())
 			.setIssuedAt(new Date())
 			.setExpiration(new Date(System.currentTimeMillis() + REFRESH_TOKEN_VALIDITY))
-			.signWith(Keys.hmacShaKeyFor(secretKey.getBytes(StandardCharsets.UTF_8)), SignatureAlgorithm.HS256)
+			.signWith(keyRegistry.getActiveKey(), SignatureAlgorithm.HS256)
 			.compact();
 	}
 
-	public String validateAndExtractUserLogin(String token) {
+	// 서명/만료 검증 후 클레임 반환 (JwtException 그대로 전달), JFR com.jmair.JwtValidation 이벤트 기록
+	public Claims parseClaims(String token) {
+		JwtValidationEvent event = new JwtValidationEvent();
+		event.begin();
+		String outcome = "invalid";
 		try {
-			Claims claims = Jwts.parserBuilder()
-				.setSigningKey(Keys.hmacShaKeyFor(secretKey.getBytes(StandardCharsets.UTF_8)))
-				.build()
+			Claims claims = keyRegistry.getParser()
 				.parseClaimsJws(token)
 				.getBody();
-			return claims.getSubject();
+			outcome = "valid";
+			return claims;
+		} catch (ExpiredJwtException e) {
+			outcome = "expired";
+			throw e;
+		} finally {
+			event.outcome = outcome;
+			event.commit();
+		}
+	}
+
+	public String validateAndExtractUserLogin(String token) {
+		try {
+			return parseClaims(token).getSubject();
 		} catch (Exception e) {
 			System.err.println("JWT 검증 실패: " + e.getMessage());
 			throw new IllegalArgumentException("유효하지 않은 토큰입니다.");
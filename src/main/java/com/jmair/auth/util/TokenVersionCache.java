@@ -0,0 +1,45 @@
+package com.jmair.auth.util;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.jmair.auth.repository.UserRepository;
+import com.jmair.auth.service.UserChangedEvent;
+
+// 사용자별 토큰 버전 캐시 - stateless 인증에서 요청마다 DB를 조회하지 않기 위해 사용 (크기/TTL 제한)
+@Component
+public class TokenVersionCache {
+
+	// 존재하지 않는 사용자는 어떤 토큰 버전과도 일치하지 않도록 -1로 기록
+	private static final int UNKNOWN_USER = -1;
+
+	private final UserRepository userRepository;
+	private final Cache<String, Integer> versions;
+
+	public TokenVersionCache(UserRepository userRepository,
+		@Value("${spring.jwt.token-version-ttl-seconds:30}") long ttlSeconds,
+		@Value("${spring.jwt.token-version-maximum-size:10000}") long maximumSize) {
+		this.userRepository = userRepository;
+		this.versions = Caffeine.newBuilder()
+			.maximumSize(maximumSize)
+			.expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+			.build();
+	}
+
+	// 다른 서버에서 변경된 버전은 TTL 이 지나면 다시 읽어 반영
+	public int currentVersion(String userLogin) {
+		return versions.get(userLogin,
+			login -> userRepository.findTokenVersionByUserLogin(login).orElse(UNKNOWN_USER));
+	}
+
+	// 이 서버에서 버전을 올린 경우 즉시 반영 - 커밋 이후에 비워야 롤백된 버전이 캐시에 남지 않음
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onUserChanged(UserChangedEvent event) {
+		versions.invalidate(event.userLogin());
+	}
+}
@@ -1,9 +1,13 @@
 package com.jmair.cleaning.controller;
 
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
@@ -17,15 +21,24 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import com.jmair.as.dto.ASDTO;
 import com.jmair.auth.entity.User;
+import com.jmair.auth.service.GuestTicketService;
+import com.jmair.cleaning.dto.CleanStatus;
 import com.jmair.cleaning.dto.CleaningDTO;
 import com.jmair.cleaning.service.CleanService;
+import com.jmair.common.dto.CursorPage;
+import com.jmair.common.dto.ExportFormat;
+import com.jmair.common.dto.ListCondition;
 import com.jmair.common.exeption.ForbiddenException;
 import com.jmair.common.exeption.ResourceNotFoundException;
+import com.jmair.common.exeption.ServiceUnavailableException;
 import com.jmair.common.exeption.UnauthorizedException;
 
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 
@@ -35,6 +48,7 @@ import lombok.RequiredArgsConstructor;
 public class CleanController {
 
 	private final CleanService cleanService;
+	private final GuestTicketService guestTicketService;
 
 	@PostMapping("/post")
 	public ResponseEntity<?> createCleaningRequest(@Valid @RequestBody CleaningDTO dto) {
@@ -43,24 +57,37 @@ public class CleanController {
 			return ResponseEntity.ok(created);
 		} catch (IllegalArgumentException e) {
 			return ResponseEntity.badRequest().body(e.getMessage());
+		} catch (ServiceUnavailableException e) {
+			return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(e.getMessage());
 		} catch(Exception e) {
 			return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
 				.body("에어컨 세척 신청 등록 중 오류가 발생했습니다.");
 		}
 	}
 
-	// 전체 조회
+	// 전체 조회 (관리자: ?status=&from=yyyy-MM-dd&to=yyyy-MM-dd&size=&cursor=이전 응답의 nextCursor)
 	@GetMapping
 	public ResponseEntity<?> getAllCleaningRequests(
 		@RequestParam(value = "name", required = false) String cleanName,
-		@RequestParam(value = "phone", required = false) String cleanNumber) {
+		@RequestParam(value = "phone", required = false) String cleanNumber,
+		@RequestParam(value = "status", required = false) CleanStatus status,
+		@RequestParam(value = "from", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+		@RequestParam(value = "to", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+		@RequestParam(value = "cursor", required = false) String cursor,
+		@RequestParam(value = "size", required = false) Integer size) {
 		Authentication auth = SecurityContextHolder.getContext().getAuthentication();
 		Optional<User> currentUser = Optional.empty();
 		if (auth != null && auth.getPrincipal() instanceof User) {
 			currentUser = Optional.of((User) auth.getPrincipal());
 		}
 		try {
-			List<CleaningDTO> list = cleanService.getAllCleaningRequests(currentUser, cleanName, cleanNumber);
+			if (cleanService.canViewAllRequests(currentUser)) {
+				CursorPage<CleaningDTO> page = cleanService.getAdminCleaningRequests(currentUser,
+					new ListCondition<>(status, from, to, cursor, size));
+				return ResponseEntity.ok(page);
+			}
+			// 비회원 조회는 기존과 같이 배열로 응답
+			List<CleaningDTO> list = cleanService.getGuestCleaningRequests(cleanName, cleanNumber);
 			return ResponseEntity.ok(list);
 		} catch (IllegalArgumentException e) {
 			return ResponseEntity.badRequest().body(e.getMessage());
@@ -70,23 +97,48 @@ public class CleanController {
 		}
 	}
 
+	// 관리자 내보내기 (?format=csv|ndjson) - 전체 신청을 목록으로 모으지 않고 응답에 바로 스트리밍
+	// 형식 오류는 400, 권한 오류는 스트림을 열기 전에 GlobalExceptionHandler 로 응답
+	@GetMapping("/export")
+	public ResponseEntity<?> exportCleanRequests(
+		@RequestParam(value = "format", required = false) String format) {
+		ExportFormat exportFormat;
+		try {
+			exportFormat = ExportFormat.from(format);
+		} catch (IllegalArgumentException e) {
+			return ResponseEntity.badRequest().body(e.getMessage());
+		}
+		cleanService.checkExportPermission();
+		StreamingResponseBody body = out -> cleanService.exportCleanRequests(exportFormat, out);
+		return ResponseEntity.ok()
+			.contentType(exportFormat.mediaType())
+			.header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+				.filename("clean-requests." + exportFormat.extension()).build().toString())
+			.body(body);
+	}
+
 	// 관리자 상세 조회
 	@GetMapping("/{cleanId}")
 	public ResponseEntity<?> getCleaningRequestDetail(
 		@PathVariable Integer cleanId,
-		@RequestParam(value = "password", required = false) String providedPassword) {
+		@RequestParam(value = "password", required = false) String providedPassword,
+		HttpServletRequest request, HttpServletResponse response) {
 		Authentication auth = SecurityContextHolder.getContext().getAuthentication();
 		Optional<User> currentUser = Optional.empty();
 		if (auth != null && auth.getPrincipal() instanceof User) {
 			currentUser = Optional.of((User) auth.getPrincipal());
 		}
 		try {
-			CleaningDTO dto = cleanService.getCleaningRequestDetail(cleanId, providedPassword, currentUser);
+			CleaningDTO dto = cleanService.getCleaningRequestDetail(cleanId, providedPassword,
+				GuestTicketService.resolveTicket(request), currentUser);
+			addGuestTicketCookie(response, dto.getGuestTicket());
 			return ResponseEntity.ok(dto);
 		} catch (UnauthorizedException e) {
 			return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(e.getMessage());
 		} catch (ResourceNotFoundException e) {
 			return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
+		} catch (ServiceUnavailableException e) {
+			return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(e.getMessage());
 		} catch(Exception e) {
 			return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
 				.body("세척 신청 상세 조회 중 오류가 발생했습니다.");
@@ -97,19 +149,24 @@ public class CleanController {
 	@PostMapping("/user/{cleanId}")
 	public ResponseEntity<?> getCleaningRequestDetail(
 		@PathVariable Integer cleanId,
-		@RequestBody Map<String, String> requestBody
+		@RequestBody Map<String, String> requestBody,
+		HttpServletRequest request, HttpServletResponse response
 	){
 		String providedPassword = requestBody.get("password");
-		if (providedPassword == null || providedPassword.isBlank()) {
+		String ticket = GuestTicketService.resolveTicket(request);
+		if ((providedPassword == null || providedPassword.isBlank()) && ticket == null) {
 			return ResponseEntity.badRequest().body("비밀번호는 필수입니다.");
 		}
 		try {
-			CleaningDTO dto = cleanService.getCleaningRequestDetail(cleanId, providedPassword, Optional.empty());
+			CleaningDTO dto = cleanService.getCleaningRequestDetail(cleanId, providedPassword, ticket, Optional.empty());
+			addGuestTicketCookie(response, dto.getGuestTicket());
 			return ResponseEntity.ok(dto);
 		} catch (UnauthorizedException e) {
 			return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(e.getMessage());
 		} catch (ResourceNotFoundException e) {
 			return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
+		} catch (ServiceUnavailableException e) {
+			return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(e.getMessage());
 		} catch (Exception e) {
 			return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
 				.body("세척 신청 상세 조회 중 오류가 발생했습니다.");
@@ -121,14 +178,19 @@ public class CleanController {
 	public ResponseEntity<?> editCleaningRequestForUser(
 		@PathVariable Integer cleanId,
 		@Valid @RequestBody CleaningDTO dto,
-		@RequestParam("password") String providedPassword) {
+		@RequestParam(value = "password", required = false) String providedPassword,
+		HttpServletRequest request, HttpServletResponse response) {
 		try {
-			CleaningDTO updated = cleanService.editCleaningRequestForUser(cleanId, dto, providedPassword);
+			CleaningDTO updated = cleanService.editCleaningRequestForUser(cleanId, dto, providedPassword,
+				GuestTicketService.resolveTicket(request));
+			addGuestTicketCookie(response, updated.getGuestTicket());
 			return ResponseEntity.ok(updated);
 		} catch (UnauthorizedException e) {
 			return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(e.getMessage());
 		} catch (ResourceNotFoundException e) {
 			return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
+		} catch (ServiceUnavailableException e) {
+			return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(e.getMessage());
 		} catch (Exception e) {
 			return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
 				.body("세척 신청 수정 중 오류가 발생했습니다.");
@@ -169,4 +231,10 @@ public class CleanController {
 		}
 	}
 
+	// 비밀번호로 확인한 경우 새로 발급된 게스트 티켓을 쿠키로 전달 (헤더 방식은 응답 본문의 guestTicket 사용)
+	private void addGuestTicketCookie(HttpServletResponse response, String guestTicket) {
+		if (guestTicket != null) {
+			response.addHeader("Set-Cookie", guestTicketService.toCookie(guestTicket, "/api/v1/clean").toString());
+		}
+	}
 }
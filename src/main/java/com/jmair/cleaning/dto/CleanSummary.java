@@ -0,0 +1,22 @@
+package com.jmair.cleaning.dto;
+
+import java.time.LocalDateTime;
+
+import com.jmair.auth.dto.UserGrade;
+
+// 관리자 목록용 요약 프로젝션 - 설명/메모/비밀번호 컬럼은 읽지 않고 영속성 컨텍스트에도 올라가지 않음
+public record CleanSummary(Integer cleanId, String cleanName, String cleanNumber, String productType,
+						   LocalDateTime cleanStartTime, CleanStatus cleanStatus, UserGrade registeredUserGrade) {
+
+	public CleaningDTO toDTO() {
+		return CleaningDTO.builder()
+			.cleanId(cleanId)
+			.cleanName(cleanName)
+			.cleanNumber(cleanNumber)
+			.productType(productType)
+			.cleanStartTime(cleanStartTime)
+			.cleanStatus(cleanStatus)
+			.registeredUserGrade(registeredUserGrade)
+			.build();
+	}
+}
@@ -3,6 +3,8 @@ package com.jmair.cleaning.dto;
 import java.time.LocalDateTime;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
 import com.jmair.auth.dto.UserGrade;
 
 import jakarta.validation.constraints.Email;
@@ -54,4 +56,8 @@ public class CleaningDTO {
 	private UserGrade registeredUserGrade;
 	@Size(max = 1000, message = "최대 1000자")
 	private String cleanNote;
+	// 비밀번호 확인 후 발급되는 게스트 티켓 (응답 전용)
+	@JsonInclude(JsonInclude.Include.NON_NULL)
+	@JsonProperty(access = JsonProperty.Access.READ_ONLY)
+	private String guestTicket;
 }
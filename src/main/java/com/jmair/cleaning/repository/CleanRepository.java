@@ -1,12 +1,54 @@
 package com.jmair.cleaning.repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import com.jmair.cleaning.dto.CleanStatus;
+import com.jmair.cleaning.dto.CleanSummary;
 import com.jmair.cleaning.entity.CleanEntity;
 
+import jakarta.persistence.QueryHint;
+
 @Repository
 public interface CleanRepository extends JpaRepository<CleanEntity, Integer> {
 
-}
 
+	// 비회원 조회 - idx_clean_name_number_status 인덱스 사용
+	List<CleanEntity> findByCleanNameAndCleanNumberAndCleanStatusNot(String cleanName, String cleanNumber,
+		CleanStatus cleanStatus);
+
+	// 관리자 목록 - 상태/기간 필터와 (시간, id) 키셋 조건을 SQL 로 처리, limit 은 페이지 크기 + 1
+	// 목록에 표시하는 컬럼만 생성자 표현식으로 조회 (엔티티 미생성)
+	@Query("""
+		SELECT new com.jmair.cleaning.dto.CleanSummary(c.cleanId, c.cleanName, c.cleanNumber, c.productType,
+		       c.cleanStartTime, c.cleanStatus, c.registeredUserGrade)
+		FROM CleanEntity c
+		WHERE c.cleanStatus <> :deleted
+		  AND (:status IS NULL OR c.cleanStatus = :status)
+		  AND (:fromTime IS NULL OR c.cleanStartTime >= :fromTime)
+		  AND (:toTime IS NULL OR c.cleanStartTime < :toTime)
+		  AND (:cursorTime IS NULL OR c.cleanStartTime < :cursorTime
+		       OR (c.cleanStartTime = :cursorTime AND c.cleanId < :cursorId))
+		ORDER BY c.cleanStartTime DESC, c.cleanId DESC
+		""")
+	List<CleanSummary> findAdminPage(@Param("deleted") CleanStatus deleted, @Param("status") CleanStatus status,
+		@Param("fromTime") LocalDateTime fromTime, @Param("toTime") LocalDateTime toTime,
+		@Param("cursorTime") LocalDateTime cursorTime, @Param("cursorId") Integer cursorId, Limit limit);
+
+	// 관리자 내보내기 - 호출 측 트랜잭션 안에서 fetch size 단위로 읽음 (MySQL 은 JpaConfig 가 useCursorFetch=true 지정)
+	@QueryHints({
+		@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+		@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+	})
+	@Query("SELECT c FROM CleanEntity c WHERE c.cleanStatus <> :deleted ORDER BY c.cleanId")
+	Stream<CleanEntity> streamForExport(@Param("deleted") CleanStatus deleted);
+}
@@ -1,39 +1,75 @@
 package com.jmair.cleaning.service;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
-import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.jmair.auth.dto.UserGrade;
 import com.jmair.auth.entity.User;
+import com.jmair.auth.service.GuestTicketService;
+import com.jmair.auth.service.PasswordHashingService;
 import com.jmair.auth.service.UserService;
 import com.jmair.cleaning.dto.CleanStatus;
+import com.jmair.cleaning.dto.CleanSummary;
 import com.jmair.cleaning.dto.CleaningDTO;
 import com.jmair.cleaning.entity.CleanEntity;
 import com.jmair.cleaning.repository.CleanRepository;
+import com.jmair.common.dto.CursorPage;
+import com.jmair.common.dto.ExportFormat;
+import com.jmair.common.dto.ListCondition;
 import com.jmair.common.exeption.ForbiddenException;
 import com.jmair.common.exeption.ResourceNotFoundException;
 import com.jmair.common.exeption.UnauthorizedException;
+import com.jmair.common.jfr.DtoMappingEvent;
+import com.jmair.common.util.ExportWriter;
+import com.jmair.common.util.KeysetCursor;
 
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 
 @Service
 @RequiredArgsConstructor
 public class CleanService {
 
+	// 게스트 티켓 서명 도메인
+	public static final String TICKET_DOMAIN = "clean";
+
+	// 관리자 내보내기 컬럼 (비밀번호 제외)
+	private static final List<ExportWriter.Column<CleanEntity>> EXPORT_COLUMNS = List.of(
+		ExportWriter.column("cleanId", CleanEntity::getCleanId),
+		ExportWriter.column("cleanName", CleanEntity::getCleanName),
+		ExportWriter.column("cleanNumber", CleanEntity::getCleanNumber),
+		ExportWriter.column("cleanEmail", CleanEntity::getCleanEmail),
+		ExportWriter.column("productType", CleanEntity::getProductType),
+		ExportWriter.column("cleanDescription", CleanEntity::getCleanDescription),
+		ExportWriter.column("cleanAdress", CleanEntity::getCleanAdress),
+		ExportWriter.column("cleanDetailAdress", CleanEntity::getCleanDetailAdress),
+		ExportWriter.column("cleanFirstReservationTime", CleanEntity::getCleanFirstReservationTime),
+		ExportWriter.column("cleanSecondReservationTime", CleanEntity::getCleanSecondReservationTime),
+		ExportWriter.column("cleanStartTime", CleanEntity::getCleanStartTime),
+		ExportWriter.column("cleanEditTime", CleanEntity::getCleanEditTime),
+		ExportWriter.column("cleanEndTime", CleanEntity::getCleanEndTime),
+		ExportWriter.column("cleanStatus", CleanEntity::getCleanStatus),
+		ExportWriter.column("registeredUserGrade", CleanEntity::getRegisteredUserGrade),
+		ExportWriter.column("cleanNote", CleanEntity::getCleanNote)
+	);
+
 	private final CleanRepository cleanRepository;
-	private final PasswordEncoder passwordEncoder;
+	private final PasswordHashingService passwordHashingService;
+	private final GuestTicketService guestTicketService;
 	private final UserService userService;
+	private final EntityManager entityManager;
 
-	// 등록
-	@Transactional
+	// 등록 - 비밀번호 해시는 트랜잭션 밖에서 수행해 커넥션을 점유하지 않음
 	public CleaningDTO createCleaningRequest(CleaningDTO dto) {
 
 		Authentication auth = SecurityContextHolder.getContext().getAuthentication();
@@ -43,6 +79,7 @@ public class CleanService {
 		} else {
 			registerGrade = UserGrade.NOUSER;
 		}
+		String encodedPassword = passwordHashingService.encode(dto.getCleanPassword());
 
 		CleanEntity request = CleanEntity.builder()
 			.cleanName(dto.getCleanName())
@@ -52,7 +89,7 @@ public class CleanService {
 			.cleanDescription(dto.getCleanDescription())
 			.cleanAdress(dto.getCleanAdress())
 			.cleanDetailAdress(dto.getCleanDetailAdress())
-			.cleanPassword(passwordEncoder.encode(dto.getCleanPassword()))
+			.cleanPassword(encodedPassword)
 			.cleanStatus(CleanStatus.REQUEST)
 			.cleanFirstReservationTime(dto.getCleanFirstReservationTime())
 			.cleanSecondReservationTime(dto.getCleanSecondReservationTime())
@@ -78,39 +115,44 @@ public class CleanService {
 			.build();
 	}
 
-	// 전체 조회
+	// 전체 조회 권한 (관리자, 엔지니어) - 없으면 비회원 조회
+	public boolean canViewAllRequests(Optional<User> currentUser) {
+		if (currentUser.isEmpty()) {
+			return false;
+		}
+		User user = currentUser.get();
+		return user.getUserGrade() == UserGrade.ENGINEER ||
+			user.getUserGrade() == UserGrade.ADMIN ||
+			user.getUserGrade() == UserGrade.SUPERADMIN ||
+			user.getUserGrade() == UserGrade.ADMINWATCHER;
+	}
+
+	// 관리자 전체 조회 - 최신순 커서 페이지 (상태/기간 필터)
 	@Transactional(readOnly = true)
-	public List<CleaningDTO> getAllCleaningRequests(Optional<User> currentUser, String cleanName, String cleanNumber) {
-		List<CleanEntity> all = cleanRepository.findAll();
-		// 관리자
-		if (currentUser.isPresent()) {
-			User user = currentUser.get();
-			if (user.getUserGrade() == UserGrade.ENGINEER ||
-				user.getUserGrade() == UserGrade.ADMIN ||
-				user.getUserGrade() == UserGrade.SUPERADMIN ||
-				user.getUserGrade() == UserGrade.ADMINWATCHER) {
-				return all.stream()
-					.filter(entity -> entity.getCleanStatus() != CleanStatus.FALLSE)
-					.map(entity -> CleaningDTO.builder()
-						.cleanId(entity.getCleanId())
-						.cleanName(entity.getCleanName())
-						.cleanNumber(entity.getCleanNumber())
-						.productType(entity.getProductType())
-						.cleanStartTime(entity.getCleanStartTime())
-						.cleanStatus(entity.getCleanStatus())
-						.registeredUserGrade(entity.getRegisteredUserGrade())
-						.build())
-					.collect(Collectors.toList());
-			}
+	public CursorPage<CleaningDTO> getAdminCleaningRequests(Optional<User> currentUser,
+		ListCondition<CleanStatus> condition) {
+		if (!canViewAllRequests(currentUser)) {
+			throw new ForbiddenException("전체 조회 권한이 없습니다.");
 		}
-		// 일반 사용자 또는 비로그인 사용자의 경우, 이름과 핸드폰 번호를 필수로 받아 일치하는 건만 조회
+		KeysetCursor.Position position = condition.position();
+		int size = condition.pageSize();
+		List<CleanSummary> rows = cleanRepository.findAdminPage(CleanStatus.FALLSE, condition.status(),
+			condition.fromTime(), condition.toTime(),
+			position != null ? position.time() : null, position != null ? position.id() : null,
+			Limit.of(size + 1));
+		return KeysetCursor.page(rows, size, CleanSummary::cleanStartTime, CleanSummary::cleanId,
+			CleanSummary::toDTO);
+	}
+
+	// 비회원 조회 - 이름과 핸드폰 번호를 필수로 받아 일치하는 건 전체 (페이지 없이 배열로 응답)
+	@Transactional(readOnly = true)
+	public List<CleaningDTO> getGuestCleaningRequests(String cleanName, String cleanNumber) {
 		if (cleanName == null || cleanName.isBlank() || cleanNumber == null || cleanNumber.isBlank()) {
 			throw new IllegalArgumentException("일반 사용자는 이름과 핸드폰 번호를 제공해야 합니다.");
 		}
-		return all.stream()
-			.filter(entity -> entity.getCleanStatus() != CleanStatus.FALLSE)
-			.filter(entity -> entity.getCleanName().equals(cleanName) && entity.getCleanNumber().equals(cleanNumber))
-			.map(entity -> CleaningDTO.builder()
+		return DtoMappingEvent.map(
+			cleanRepository.findByCleanNameAndCleanNumberAndCleanStatusNot(cleanName, cleanNumber, CleanStatus.FALLSE),
+			entity -> CleaningDTO.builder()
 				.cleanId(entity.getCleanId())
 				.cleanName(entity.getCleanName())
 				.cleanNumber(entity.getCleanNumber())
@@ -118,13 +160,12 @@ public class CleanService {
 				.cleanStartTime(entity.getCleanStartTime())
 				.cleanStatus(entity.getCleanStatus())
 				.registeredUserGrade(entity.getRegisteredUserGrade())
-				.build())
-			.collect(Collectors.toList());
+				.build());
 	}
 
-	// 상세 조회
-	@Transactional(readOnly = true)
-	public CleaningDTO getCleaningRequestDetail(Integer cleanId, String providedPassword, Optional<User> currentUser) {
+	// 상세 조회 - 조회 트랜잭션이 끝난 뒤 비밀번호 검증 (유효한 게스트 티켓이 있으면 생략)
+	public CleaningDTO getCleaningRequestDetail(Integer cleanId, String providedPassword, String ticket,
+		Optional<User> currentUser) {
 		CleanEntity entity = cleanRepository.findById(cleanId)
 			.orElseThrow(() -> new ResourceNotFoundException("세척 신청을 찾을 수 없습니다."));
 
@@ -133,13 +174,13 @@ public class CleanService {
 		}
 
 		// 관리 권한이 없는 경우 비밀번호 검증 (로그인하지 않은 경우도 포함)
+		String guestTicket = null;
 		if (currentUser.isEmpty() || !(currentUser.get().getUserGrade() == UserGrade.ENGINEER ||
 			currentUser.get().getUserGrade() == UserGrade.ADMIN ||
 			currentUser.get().getUserGrade() == UserGrade.SUPERADMIN ||
 			currentUser.get().getUserGrade() == UserGrade.ADMINWATCHER)) {
-			if (providedPassword == null || !passwordEncoder.matches(providedPassword, entity.getCleanPassword())) {
-				throw new UnauthorizedException("비밀번호가 일치하지 않거나 비밀번호가 필요합니다.");
-			}
+			guestTicket = guestTicketService.authorize(TICKET_DOMAIN, entity.getCleanId(), entity.getCleanPassword(),
+				providedPassword, ticket);
 		}
 
 		return CleaningDTO.builder()
@@ -157,12 +198,13 @@ public class CleanService {
 			.cleanSecondReservationTime(entity.getCleanSecondReservationTime())
 			.cleanStatus(entity.getCleanStatus())
 			.registeredUserGrade(entity.getRegisteredUserGrade())
+			.guestTicket(guestTicket)
 			.build();
 	}
 
-	// 일반 사용자 수정(비밀번호 확인 필요)
-	@Transactional
-	public CleaningDTO editCleaningRequestForUser(Integer cleanId, CleaningDTO dto, String providedPassword) {
+	// 일반 사용자 수정(비밀번호 또는 게스트 티켓 확인 필요) - 검증은 트랜잭션 밖, 저장만 트랜잭션
+	public CleaningDTO editCleaningRequestForUser(Integer cleanId, CleaningDTO dto, String providedPassword,
+		String ticket) {
 		CleanEntity entity = cleanRepository.findById(cleanId)
 			.orElseThrow(() -> new ResourceNotFoundException("세척 신청을 찾을 수 없습니다."));
 
@@ -171,9 +213,8 @@ public class CleanService {
 		}
 
 		// 비밀번호 검증 (비로그인 혹은 일반 사용자의 경우)
-		if (providedPassword == null || !passwordEncoder.matches(providedPassword, entity.getCleanPassword())) {
-			throw new UnauthorizedException("비밀번호가 일치하지 않습니다.");
-		}
+		String guestTicket = guestTicketService.authorize(TICKET_DOMAIN, entity.getCleanId(), entity.getCleanPassword(),
+			providedPassword, ticket);
 
 		// 일반 사용자가 수정 가능한 모든 필드 업데이트
 		entity.setCleanName(dto.getCleanName());
@@ -209,6 +250,7 @@ public class CleanService {
 			.cleanStatus(updated.getCleanStatus())
 			.cleanNote(updated.getCleanNote())
 			.registeredUserGrade(updated.getRegisteredUserGrade())
+			.guestTicket(guestTicket)
 			.build();
 	}
 
@@ -269,4 +311,26 @@ public class CleanService {
 		entity.setCleanEndTime(LocalDateTime.now());
 		cleanRepository.save(entity);
 	}
+
+	// 내보내기 권한 확인 - 응답 스트림을 열기 전에 요청 스레드에서 호출
+	public void checkExportPermission() {
+		Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+		if (auth == null || !(auth.getPrincipal() instanceof User currentUser)) {
+			throw new UnauthorizedException("로그인한 사용자 정보가 없습니다.");
+		}
+		if (!(currentUser.getUserGrade() == UserGrade.ENGINEER ||
+			currentUser.getUserGrade() == UserGrade.ADMIN ||
+			currentUser.getUserGrade() == UserGrade.SUPERADMIN ||
+			currentUser.getUserGrade() == UserGrade.ADMINWATCHER)) {
+			throw new ForbiddenException("내보내기 권한이 없습니다.");
+		}
+	}
+
+	// 관리자 내보내기 - 한 건씩 읽어 기록한 뒤 바로 분리해 테이블 크기와 무관하게 힙 사용량 유지
+	@Transactional(readOnly = true)
+	public long exportCleanRequests(ExportFormat format, OutputStream out) throws IOException {
+		try (Stream<CleanEntity> rows = cleanRepository.streamForExport(CleanStatus.FALLSE)) {
+			return ExportWriter.write(rows, format, EXPORT_COLUMNS, out, entityManager::detach);
+		}
+	}
 }
@@ -0,0 +1,5 @@
+package com.jmair.common.cache;
+
+// 공개 목록(중고 상품, 공지사항)의 내용이 바뀌었음을 알리는 이벤트 - 커밋 후 해당 목록 캐시만 비움
+public record CatalogChangedEvent(CatalogResponseCache.Catalog catalog) {
+}
@@ -0,0 +1,181 @@
+package com.jmair.common.cache;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Base64;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.context.request.WebRequest;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+// 공개 목록 응답 캐시 - 직렬화된 JSON 바이트와 강한 ETag(SHA-256)를 보관
+// If-None-Match 가 일치하면 DB 조회와 직렬화 없이 304, 관리자 변경은 CatalogChangedEvent 로 커밋 후 해당 목록만 무효화
+// 무효화 직후 동시에 들어온 요청은 한 번의 조회를 함께 기다림 (같은 세대의 조회만 공유)
+// 적중/미적중/공유(coalesced)/304 횟수는 /actuator/metrics/jmair.catalog.cache (catalog, result 태그)
+@Component
+public class CatalogResponseCache {
+
+	public enum Catalog {
+		USED, NOTICES
+	}
+
+	// loader 결과 - 직렬화할 본문과, 같은 조회에서 만든 응답별 부가 정보(예: 목록의 썸네일 절감량)
+	public record Loaded<A>(Object body, A attachment) {
+	}
+
+	record CachedResponse(byte[] body, String etag, Instant lastModified, Object attachment) {
+	}
+
+	// 진행 중인 조회 - 시작할 때의 무효화 세대와 결과
+	private record InFlight(long generation, CompletableFuture<CachedResponse> result) {
+	}
+
+	private final ObjectMapper objectMapper;
+	private final Map<Catalog, CachedResponse> responses = new ConcurrentHashMap<>();
+	private final Map<Catalog, InFlight> inFlight = new ConcurrentHashMap<>();
+	// 무효화 횟수 - 조회 중에 무효화되면 이전 데이터로 만든 응답을 저장하지 않도록 비교
+	private final Map<Catalog, AtomicLong> generations = new EnumMap<>(Catalog.class);
+	private final Map<Catalog, Counter> hits = new EnumMap<>(Catalog.class);
+	private final Map<Catalog, Counter> misses = new EnumMap<>(Catalog.class);
+	private final Map<Catalog, Counter> coalesced = new EnumMap<>(Catalog.class);
+	private final Map<Catalog, Counter> notModified = new EnumMap<>(Catalog.class);
+
+	public CatalogResponseCache(ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+		this.objectMapper = objectMapper;
+		for (Catalog catalog : Catalog.values()) {
+			String name = catalog.name().toLowerCase();
+			generations.put(catalog, new AtomicLong());
+			hits.put(catalog, meterRegistry.counter("jmair.catalog.cache", "catalog", name, "result", "hit"));
+			misses.put(catalog, meterRegistry.counter("jmair.catalog.cache", "catalog", name, "result", "miss"));
+			coalesced.put(catalog, meterRegistry.counter("jmair.catalog.cache", "catalog", name, "result", "coalesced"));
+			notModified.put(catalog, meterRegistry.counter("jmair.catalog.cache", "catalog", name, "result", "not_modified"));
+		}
+	}
+
+	// 캐시된 응답으로 200 또는 304 - 캐시가 비어 있을 때만 loader 로 조회
+	// 브라우저가 매번 재검증하도록 no-cache (304 는 본문 없이 바로 응답)
+	public ResponseEntity<byte[]> respond(Catalog catalog, WebRequest webRequest, Supplier<?> loader) {
+		return respond(catalog, webRequest, () -> new Loaded<>(loader.get(), null), attachment -> {
+		});
+	}
+
+	// 본문을 내려주는 응답(200)마다 캐시된 본문의 attachment 로 onServed 호출 (304 는 본문이 없으므로 제외)
+	// attachment 는 본문과 함께 저장되므로 저장되지 않은 조회 결과가 캐시된 본문을 설명하는 일은 없음
+	@SuppressWarnings("unchecked")
+	public <A> ResponseEntity<byte[]> respond(Catalog catalog, WebRequest webRequest, Supplier<Loaded<A>> loader,
+		Consumer<? super A> onServed) {
+		CachedResponse cached = load(catalog, loader);
+		if (webRequest.checkNotModified(cached.etag(), cached.lastModified().toEpochMilli())) {
+			notModified.get(catalog).increment();
+			return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+				.eTag(cached.etag())
+				.cacheControl(CacheControl.noCache())
+				.build();
+		}
+		onServed.accept((A) cached.attachment());
+		return ResponseEntity.ok()
+			.eTag(cached.etag())
+			.lastModified(cached.lastModified())
+			.cacheControl(CacheControl.noCache())
+			.contentType(MediaType.APPLICATION_JSON)
+			.body(cached.body());
+	}
+
+	CachedResponse get(Catalog catalog, Supplier<?> loader) {
+		return load(catalog, () -> new Loaded<>(loader.get(), null));
+	}
+
+	private CachedResponse load(Catalog catalog, Supplier<? extends Loaded<?>> loader) {
+		CachedResponse cached = responses.get(catalog);
+		if (cached != null) {
+			hits.get(catalog).increment();
+			return cached;
+		}
+		AtomicLong generation = generations.get(catalog);
+		long loadedGeneration = generation.get();
+		InFlight mine = new InFlight(loadedGeneration, new CompletableFuture<>());
+		// 같은 세대의 조회가 진행 중이면 그 결과를 기다림 - 무효화 이전에 시작한 조회는 공유하지 않음
+		InFlight current = inFlight.compute(catalog,
+			(key, existing) -> existing != null && existing.generation() == loadedGeneration ? existing : mine);
+		if (current != mine) {
+			coalesced.get(catalog).increment();
+			return await(current.result());
+		}
+		try {
+			// 이전 조회가 끝나며 저장한 직후일 수 있음
+			cached = responses.get(catalog);
+			if (cached != null) {
+				hits.get(catalog).increment();
+			} else {
+				misses.get(catalog).increment();
+				CachedResponse loaded = serialize(loader.get());
+				// 무효화와 같은 키 잠금 안에서 비교 후 저장 - 조회 도중 무효화됐으면 저장하지 않고 이번 응답에만 사용
+				responses.compute(catalog, (key, stored) -> generation.get() == loadedGeneration ? loaded : stored);
+				cached = loaded;
+			}
+			mine.result().complete(cached);
+			return cached;
+		} catch (RuntimeException | Error e) {
+			mine.result().completeExceptionally(e);
+			throw e;
+		} finally {
+			inFlight.remove(catalog, mine);
+		}
+	}
+
+	private static CachedResponse await(CompletableFuture<CachedResponse> result) {
+		try {
+			return result.join();
+		} catch (CompletionException e) {
+			if (e.getCause() instanceof RuntimeException cause) {
+				throw cause;
+			}
+			throw e;
+		}
+	}
+
+	public void invalidate(Catalog catalog) {
+		responses.compute(catalog, (key, current) -> {
+			generations.get(catalog).incrementAndGet();
+			return null;
+		});
+	}
+
+	// 커밋 이후에 무효화해야 커밋 전 값이 다시 캐시되지 않음
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onCatalogChanged(CatalogChangedEvent event) {
+		invalidate(event.catalog());
+	}
+
+	private CachedResponse serialize(Loaded<?> value) {
+		try {
+			byte[] body = objectMapper.writeValueAsBytes(value.body());
+			byte[] hash = MessageDigest.getInstance("SHA-256").digest(body);
+			String etag = "\"" + Base64.getUrlEncoder().withoutPadding().encodeToString(hash) + "\"";
+			// HTTP 날짜는 초 단위
+			return new CachedResponse(body, etag, Instant.now().truncatedTo(ChronoUnit.SECONDS), value.attachment());
+		} catch (JsonProcessingException | NoSuchAlgorithmException e) {
+			throw new IllegalStateException("목록 응답을 만들 수 없습니다.", e);
+		}
+	}
+}
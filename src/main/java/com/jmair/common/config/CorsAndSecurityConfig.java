@@ -20,9 +20,12 @@ import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
-import com.jmair.auth.service.UserService;
+import com.jmair.auth.service.UserLookupService;
 import com.jmair.auth.util.JwtAuthenticationFilter;
 import com.jmair.auth.util.JwtUtil;
+import com.jmair.auth.util.TokenVersionCache;
+
+import io.micrometer.core.instrument.MeterRegistry;
 
 @Configuration
 @EnableWebSecurity
@@ -37,12 +40,23 @@ public class CorsAndSecurityConfig {
 	@Value("${spring.cors.allowed-headers}")
 	private String allowedHeaders;
 
+	// 토큰 클레임만으로 인증 (회원 조회 생략)
+	@Value("${spring.jwt.stateless:false}")
+	private boolean statelessAuth;
+
+	// 관리 포트 (management.server.port) - 설정한 경우 이 포트로 들어온 Prometheus 수집/상태 확인은 인증 없이 허용
+	@Value("${management.server.port:-1}")
+	private int managementPort;
+
 	private final JwtUtil jwtUtil;
-	private final UserService userService;
+	private final UserLookupService userLookupService;
+	private final TokenVersionCache tokenVersionCache;
 
-	public CorsAndSecurityConfig(@Lazy JwtUtil jwtUtil, @Lazy UserService userService) {
+	public CorsAndSecurityConfig(@Lazy JwtUtil jwtUtil, @Lazy UserLookupService userLookupService,
+		@Lazy TokenVersionCache tokenVersionCache) {
 		this.jwtUtil = jwtUtil;
-		this.userService = userService;
+		this.userLookupService = userLookupService;
+		this.tokenVersionCache = tokenVersionCache;
 	}
 
 	@Bean
@@ -51,14 +65,20 @@ public class CorsAndSecurityConfig {
 	}
 
 	@Bean
-	public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
+	public SecurityFilterChain securityFilterChain(HttpSecurity http, MeterRegistry meterRegistry) throws Exception {
 		http
 			.cors(Customizer.withDefaults())
 			.csrf().disable()
 			// JWT 인증 필터를 UsernamePasswordAuthenticationFilter 이전에 등록
-			.addFilterBefore(new JwtAuthenticationFilter(jwtUtil, userService),
+			.addFilterBefore(new JwtAuthenticationFilter(jwtUtil, userLookupService, tokenVersionCache, statelessAuth,
+					meterRegistry),
 				UsernamePasswordAuthenticationFilter.class)
 			.authorizeHttpRequests(authz -> authz
+				// 관리 포트는 외부에 공개하지 않고 수집기만 접근, 서비스 포트의 /actuator 는 관리자만
+				.requestMatchers(request -> managementPort > 0 && request.getLocalPort() == managementPort
+					&& (request.getRequestURI().equals("/actuator/prometheus")
+					|| request.getRequestURI().startsWith("/actuator/health"))).permitAll()
+				.requestMatchers("/actuator/**").hasAnyRole("SUPERADMIN", "ADMIN")
 				.requestMatchers(HttpMethod.GET, "/api/v1/notices/**").permitAll()
 				.requestMatchers(HttpMethod.GET, "/api/v1/install/**").permitAll()
 				.requestMatchers(HttpMethod.POST, "/api/v1/install/**").permitAll()
@@ -0,0 +1,66 @@
+package com.jmair.common.config;
+
+import javax.sql.DataSource;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.PhysicalConnectionHandlingMode;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.jmair.common.metrics.ConnectionHoldTimeDataSource;
+import com.jmair.common.metrics.SqlStatementStats;
+import com.jmair.common.metrics.StatementStatsDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+@Configuration
+public class JpaConfig {
+
+	static final String USE_CURSOR_FETCH = "useCursorFetch";
+
+	// open-in-view 세션에서도 트랜잭션이 끝나면 커넥션을 풀에 반납
+	// (기본값은 요청이 끝날 때까지 보유하므로 비밀번호 해시 같은 CPU 작업 동안 커넥션이 묶임)
+	@Bean
+	public HibernatePropertiesCustomizer connectionReleaseCustomizer() {
+		return properties -> properties.put(AvailableSettings.CONNECTION_HANDLING,
+			PhysicalConnectionHandlingMode.DELAYED_ACQUISITION_AND_RELEASE_AFTER_TRANSACTION);
+	}
+
+	// 커넥션 점유 시간, SQL 문 통계 측정용 DataSource 래핑
+	@Bean
+	public static BeanPostProcessor connectionHoldTimeBeanPostProcessor(ObjectProvider<MeterRegistry> meterRegistry,
+		ObjectProvider<SqlStatementStats> sqlStatementStats) {
+		return new BeanPostProcessor() {
+			@Override
+			public Object postProcessAfterInitialization(Object bean, String beanName) {
+				if (bean instanceof DataSource dataSource && !(bean instanceof ConnectionHoldTimeDataSource)) {
+					return new ConnectionHoldTimeDataSource(
+						new StatementStatsDataSource(dataSource, sqlStatementStats), meterRegistry);
+				}
+				return bean;
+			}
+		};
+	}
+
+	// MySQL Connector/J 는 useCursorFetch=true 일 때만 fetch size 단위로 읽고, 없으면 결과 전체를 메모리에 올림
+	// 내보내기 스트리밍이 URL 설정에 의존하지 않도록 MySQL 풀에는 항상 지정 (URL 에 직접 지정했으면 그 값을 사용)
+	@Bean
+	public static BeanPostProcessor mysqlCursorFetchBeanPostProcessor() {
+		return new BeanPostProcessor() {
+			@Override
+			public Object postProcessBeforeInitialization(Object bean, String beanName) {
+				if (bean instanceof HikariDataSource hikari && hikari.getJdbcUrl() != null
+					&& hikari.getJdbcUrl().startsWith("jdbc:mysql:")
+					&& !hikari.getJdbcUrl().contains(USE_CURSOR_FETCH + "=")
+					&& !hikari.getDataSourceProperties().containsKey(USE_CURSOR_FETCH)) {
+					hikari.addDataSourceProperty(USE_CURSOR_FETCH, "true");
+				}
+				return bean;
+			}
+		};
+	}
+}
@@ -0,0 +1,7 @@
+package com.jmair.common.dto;
+
+import java.util.List;
+
+// 커서 기반 목록 응답 - nextCursor 를 다음 요청의 cursor 파라미터로 그대로 전달
+public record CursorPage<T>(List<T> content, String nextCursor, boolean hasNext) {
+}
@@ -0,0 +1,40 @@
+package com.jmair.common.dto;
+
+import java.nio.charset.StandardCharsets;
+
+import org.springframework.http.MediaType;
+
+// 관리자 내보내기 형식 - CSV 는 엑셀에서 한글이 깨지지 않도록 BOM 포함, NDJSON 은 한 줄에 JSON 객체 하나
+public enum ExportFormat {
+	CSV("csv", new MediaType("text", "csv", StandardCharsets.UTF_8)),
+	NDJSON("ndjson", MediaType.APPLICATION_NDJSON);
+
+	private final String extension;
+	private final MediaType mediaType;
+
+	ExportFormat(String extension, MediaType mediaType) {
+		this.extension = extension;
+		this.mediaType = mediaType;
+	}
+
+	public String extension() {
+		return extension;
+	}
+
+	public MediaType mediaType() {
+		return mediaType;
+	}
+
+	// format 파라미터 (대소문자 무시, 기본 csv)
+	public static ExportFormat from(String value) {
+		if (value == null || value.isBlank()) {
+			return CSV;
+		}
+		for (ExportFormat format : values()) {
+			if (format.extension.equalsIgnoreCase(value.trim())) {
+				return format;
+			}
+		}
+		throw new IllegalArgumentException("지원하지 않는 내보내기 형식입니다: " + value);
+	}
+}
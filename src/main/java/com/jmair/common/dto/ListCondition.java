@@ -0,0 +1,39 @@
+package com.jmair.common.dto;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import com.jmair.common.util.KeysetCursor;
+
+// 관리자 목록 조회 조건 - 상태/기간 필터는 SQL 로 전달, cursor 는 이전 응답의 nextCursor
+public record ListCondition<S>(S status, LocalDate from, LocalDate to, String cursor, Integer size) {
+
+	public static final int DEFAULT_SIZE = 20;
+	public static final int MAX_SIZE = 100;
+
+	public int pageSize() {
+		return pageSize(size);
+	}
+
+	// 요청 크기 -> 실제 페이지 크기 (없으면 기본값, 최대 MAX_SIZE)
+	public static int pageSize(Integer size) {
+		if (size == null || size <= 0) {
+			return DEFAULT_SIZE;
+		}
+		return Math.min(size, MAX_SIZE);
+	}
+
+	// 기간 시작일 00:00 (포함)
+	public LocalDateTime fromTime() {
+		return from != null ? from.atStartOfDay() : null;
+	}
+
+	// 기간 종료일 다음날 00:00 (미포함)
+	public LocalDateTime toTime() {
+		return to != null ? to.plusDays(1).atStartOfDay() : null;
+	}
+
+	public KeysetCursor.Position position() {
+		return KeysetCursor.decode(cursor);
+	}
+}
@@ -0,0 +1,7 @@
+package com.jmair.common.exeption;
+
+public class ConflictException extends RuntimeException {
+	public ConflictException(String message) {
+		super(message);
+	}
+}
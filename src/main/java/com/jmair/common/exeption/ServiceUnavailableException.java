@@ -0,0 +1,7 @@
+package com.jmair.common.exeption;
+
+public class ServiceUnavailableException extends RuntimeException {
+	public ServiceUnavailableException(String message) {
+		super(message);
+	}
+}
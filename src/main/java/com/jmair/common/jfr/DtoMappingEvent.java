@@ -0,0 +1,52 @@
+package com.jmair.common.jfr;
+
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import com.jmair.common.metrics.ServiceMethodTracker;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+// 조회 결과 -> 응답 DTO 변환 (목록 단위)
+@Name("com.jmair.DtoMapping")
+@Label("DTO Mapping")
+@Category({"JMair", "Mapping"})
+@Description("조회 결과 목록의 응답 DTO 변환")
+@StackTrace(false)
+public class DtoMappingEvent extends Event {
+
+	@Label("Domain")
+	public String domain;
+
+	@Label("Service Method")
+	public String serviceMethod;
+
+	@Label("Target")
+	@Description("변환 결과 DTO 타입")
+	public String target;
+
+	@Label("Rows")
+	public int rows;
+
+	// 목록 변환을 이벤트로 감싸 실행 (기록 중이 아니면 변환만 수행)
+	public static <E, T> List<T> map(List<E> rows, Function<E, T> mapper) {
+		DtoMappingEvent event = new DtoMappingEvent();
+		event.begin();
+		List<T> mapped = rows.stream().map(mapper).collect(Collectors.toList());
+		event.end();
+		if (event.shouldCommit()) {
+			event.domain = ServiceMethodTracker.currentDomain().tag();
+			event.serviceMethod = ServiceMethodTracker.currentMethod();
+			event.target = mapped.isEmpty() ? "" : mapped.get(0).getClass().getSimpleName();
+			event.rows = mapped.size();
+			event.commit();
+		}
+		return mapped;
+	}
+}
@@ -0,0 +1,148 @@
+package com.jmair.common.jfr;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.boot.actuate.endpoint.web.annotation.WebEndpoint;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+
+/**
+ * 재시작/에이전트 없이 JFR 기록 - 한 번에 하나, 시간/크기 제한.
+ *
+ * <pre>
+ * POST   /actuator/jfr {"durationSeconds": 60, "settings": "profile"} : 기록 시작 (settings: default | profile)
+ * GET    /actuator/jfr                                                : 기록 상태
+ * DELETE /actuator/jfr                                                : 기록 중지 후 .jfr 파일 다운로드
+ *
+ * spring.jfr.max-duration-seconds : 최대 기록 시간 (요청값이 더 크면 이 값으로 제한, 지나면 자동 중지)
+ * spring.jfr.max-size-mb          : 디스크에 유지할 최대 크기 (넘으면 오래된 구간부터 버림)
+ * spring.jfr.directory            : 기록 파일 위치 (비우면 임시 디렉터리)
+ * </pre>
+ *
+ * 서비스 포트에서는 ADMIN, SUPERADMIN 만 접근 가능 (management.endpoints.web.exposure.include 에 jfr 추가 필요)
+ */
+@Component
+@WebEndpoint(id = "jfr")
+public class JfrRecordingEndpoint {
+
+	private static final String OCTET_STREAM = "application/octet-stream";
+
+	private final Duration maxDuration;
+	private final long maxSizeBytes;
+	private final Path directory;
+
+	private Recording recording;
+	private Path destination;
+
+	public JfrRecordingEndpoint(
+		@Value("${spring.jfr.max-duration-seconds:300}") long maxDurationSeconds,
+		@Value("${spring.jfr.max-size-mb:64}") long maxSizeMb,
+		@Value("${spring.jfr.directory:}") String directory) {
+		this.maxDuration = Duration.ofSeconds(maxDurationSeconds);
+		this.maxSizeBytes = maxSizeMb * 1024 * 1024;
+		this.directory = directory.isBlank() ? Path.of(System.getProperty("java.io.tmpdir")) : Path.of(directory);
+	}
+
+	@WriteOperation
+	public synchronized WebEndpointResponse<Map<String, Object>> start(@Nullable Long durationSeconds,
+		@Nullable String settings) {
+		if (recording != null && recording.getState() == RecordingState.RUNNING) {
+			return new WebEndpointResponse<>(status(), WebEndpointResponse.STATUS_BAD_REQUEST);
+		}
+		Configuration configuration;
+		try {
+			configuration = Configuration.getConfiguration(settings != null ? settings : "default");
+		} catch (IOException | ParseException e) {
+			return new WebEndpointResponse<>(Map.of("error", "알 수 없는 JFR 설정입니다: " + settings),
+				WebEndpointResponse.STATUS_BAD_REQUEST);
+		}
+		discard();
+		Duration duration = durationSeconds != null && durationSeconds > 0
+			&& Duration.ofSeconds(durationSeconds).compareTo(maxDuration) < 0
+			? Duration.ofSeconds(durationSeconds) : maxDuration;
+		try {
+			Files.createDirectories(directory);
+			destination = directory.resolve("jmair-" + Instant.now().toEpochMilli() + ".jfr");
+			recording = new Recording(configuration);
+			recording.setName("jmair");
+			recording.setToDisk(true);
+			recording.setMaxSize(maxSizeBytes);
+			recording.setDuration(duration);
+			// 기록 시간이 지나 자동으로 멈출 때도 이 파일에 저장됨
+			recording.setDestination(destination);
+			recording.start();
+		} catch (IOException e) {
+			discard();
+			return new WebEndpointResponse<>(Map.of("error", "JFR 기록 파일을 만들 수 없습니다."),
+				WebEndpointResponse.STATUS_INTERNAL_SERVER_ERROR);
+		}
+		return new WebEndpointResponse<>(status(), WebEndpointResponse.STATUS_OK);
+	}
+
+	@ReadOperation
+	public synchronized Map<String, Object> status() {
+		Map<String, Object> status = new LinkedHashMap<>();
+		if (recording == null) {
+			status.put("state", "NONE");
+			return status;
+		}
+		status.put("state", recording.getState().name());
+		status.put("startTime", recording.getStartTime());
+		status.put("durationSeconds", recording.getDuration() != null ? recording.getDuration().toSeconds() : null);
+		status.put("maxSizeBytes", recording.getMaxSize());
+		status.put("sizeBytes", recording.getSize());
+		return status;
+	}
+
+	@DeleteOperation(produces = OCTET_STREAM)
+	public synchronized WebEndpointResponse<Resource> stop() {
+		if (recording == null) {
+			return new WebEndpointResponse<>(WebEndpointResponse.STATUS_NOT_FOUND);
+		}
+		if (recording.getState() == RecordingState.RUNNING) {
+			recording.stop();
+		}
+		recording.close();
+		recording = null;
+		if (destination == null || !Files.exists(destination)) {
+			return new WebEndpointResponse<>(WebEndpointResponse.STATUS_NOT_FOUND);
+		}
+		// 파일은 다음 기록을 시작하거나 종료할 때 삭제
+		return new WebEndpointResponse<>(new FileSystemResource(destination), WebEndpointResponse.STATUS_OK);
+	}
+
+	@PreDestroy
+	public synchronized void discard() {
+		if (recording != null) {
+			recording.close();
+			recording = null;
+		}
+		if (destination != null) {
+			try {
+				Files.deleteIfExists(destination);
+			} catch (IOException ignored) {
+				// 임시 파일 삭제 실패는 무시
+			}
+			destination = null;
+		}
+	}
+}
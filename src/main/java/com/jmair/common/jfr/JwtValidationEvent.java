@@ -0,0 +1,21 @@
+package com.jmair.common.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+// JWT 서명/만료 검증 (JwtUtil.parseClaims, validateAndExtractUserLogin)
+@Name("com.jmair.JwtValidation")
+@Label("JWT Validation")
+@Category({"JMair", "Auth"})
+@Description("JWT 서명/만료 검증")
+@StackTrace(false)
+public class JwtValidationEvent extends Event {
+
+	@Label("Outcome")
+	@Description("valid, expired, invalid")
+	public String outcome;
+}
@@ -0,0 +1,33 @@
+package com.jmair.common.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+// BCrypt 해시/검증 - 해시 전용 실행기 스레드에서 기록 (대기 시간은 queueWait)
+@Name("com.jmair.PasswordHash")
+@Label("Password Hash")
+@Category({"JMair", "Auth"})
+@Description("BCrypt 해시/검증")
+@StackTrace(false)
+public class PasswordHashEvent extends Event {
+
+	@Label("Operation")
+	@Description("encode, matches")
+	public String operation;
+
+	@Label("Domain")
+	public String domain;
+
+	@Label("Outcome")
+	@Description("success, match, mismatch, error")
+	public String outcome;
+
+	@Label("Queue Wait")
+	@Timespan(Timespan.NANOSECONDS)
+	public long queueWait;
+}
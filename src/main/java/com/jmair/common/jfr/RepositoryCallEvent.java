@@ -0,0 +1,32 @@
+package com.jmair.common.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+// 리포지토리 호출 (조회 행 수 포함) - 호출 위치를 보기 위해 스택 트레이스 기록
+@Name("com.jmair.RepositoryCall")
+@Label("Repository Call")
+@Category({"JMair", "Persistence"})
+@Description("Spring Data 리포지토리 호출")
+public class RepositoryCallEvent extends Event {
+
+	@Label("Domain")
+	public String domain;
+
+	@Label("Repository")
+	public String repository;
+
+	@Label("Method")
+	public String method;
+
+	@Label("Rows")
+	@Description("List/Slice 반환 행 수, 그 외 -1")
+	public int rows;
+
+	@Label("Outcome")
+	@Description("success, error")
+	public String outcome;
+}
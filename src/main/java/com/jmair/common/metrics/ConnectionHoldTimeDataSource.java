@@ -0,0 +1,90 @@
+package com.jmair.common.metrics;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+// 커넥션을 빌린 시점부터 반납(close)까지의 점유 시간을 서비스 메서드별 히스토그램으로 기록
+// 메트릭: jmair.db.connection.hold{method=ASService.createASRequest}
+public class ConnectionHoldTimeDataSource extends DelegatingDataSource {
+
+	public static final String METRIC_NAME = "jmair.db.connection.hold";
+
+	private final ObjectProvider<MeterRegistry> meterRegistry;
+	// DataSource 가 MeterRegistry 보다 먼저 만들어지므로 처음 기록할 때 한 번만 찾아 둠
+	private volatile MeterRegistry registry;
+	private final Map<String, Timer> holdTimers = new ConcurrentHashMap<>();
+
+	public ConnectionHoldTimeDataSource(DataSource targetDataSource, ObjectProvider<MeterRegistry> meterRegistry) {
+		super(targetDataSource);
+		this.meterRegistry = meterRegistry;
+	}
+
+	@Override
+	public Connection getConnection() throws SQLException {
+		return track(super.getConnection());
+	}
+
+	@Override
+	public Connection getConnection(String username, String password) throws SQLException {
+		return track(super.getConnection(username, password));
+	}
+
+	private Connection track(Connection connection) {
+		String method = ServiceMethodTracker.currentMethod();
+		long acquiredAt = System.nanoTime();
+		boolean[] closed = new boolean[1];
+		return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[] {Connection.class},
+			(proxy, invokedMethod, args) -> {
+				if ("close".equals(invokedMethod.getName()) && !closed[0]) {
+					closed[0] = true;
+					record(method, System.nanoTime() - acquiredAt);
+				}
+				try {
+					return invokedMethod.invoke(connection, args);
+				} catch (InvocationTargetException e) {
+					throw e.getTargetException();
+				}
+			});
+	}
+
+	private void record(String method, long elapsedNanos) {
+		Timer timer = holdTimer(method);
+		if (timer != null) {
+			timer.record(elapsedNanos, TimeUnit.NANOSECONDS);
+		}
+	}
+
+	private Timer holdTimer(String method) {
+		Timer timer = holdTimers.get(method);
+		if (timer != null) {
+			return timer;
+		}
+		MeterRegistry current = registry;
+		if (current == null) {
+			current = meterRegistry.getIfAvailable();
+			if (current == null) {
+				return null;
+			}
+			registry = current;
+		}
+		MeterRegistry target = current;
+		return holdTimers.computeIfAbsent(method, key -> Timer.builder(METRIC_NAME)
+			.description("JDBC 커넥션 점유 시간")
+			.tag("method", method)
+			.publishPercentileHistogram()
+			.register(target));
+	}
+}
@@ -0,0 +1,49 @@
+package com.jmair.common.metrics;
+
+// 메트릭 domain 태그 - 패키지/URL 로 업무 영역을 구분 (as, clean, install, used, notice, user)
+public enum MetricDomain {
+	AS("as", "com.jmair.as.", "/api/v1/service"),
+	CLEAN("clean", "com.jmair.cleaning.", "/api/v1/clean"),
+	INSTALL("install", "com.jmair.installation.", "/api/v1/install"),
+	USED("used", "com.jmair.secondhand.", "/api/v1/used"),
+	NOTICE("notice", "com.jmair.notice.", "/api/v1/notices"),
+	USER("user", "com.jmair.auth.", "/api/v1/user", "/api/v1/auth"),
+	OTHER("other", null);
+
+	private final String tag;
+	private final String packagePrefix;
+	private final String[] pathPrefixes;
+
+	MetricDomain(String tag, String packagePrefix, String... pathPrefixes) {
+		this.tag = tag;
+		this.packagePrefix = packagePrefix;
+		this.pathPrefixes = pathPrefixes;
+	}
+
+	public String tag() {
+		return tag;
+	}
+
+	public static MetricDomain fromClass(Class<?> type) {
+		String name = type.getName();
+		for (MetricDomain domain : values()) {
+			if (domain.packagePrefix != null && name.startsWith(domain.packagePrefix)) {
+				return domain;
+			}
+		}
+		return OTHER;
+	}
+
+	public static MetricDomain fromPath(String path) {
+		if (path != null) {
+			for (MetricDomain domain : values()) {
+				for (String prefix : domain.pathPrefixes) {
+					if (path.startsWith(prefix)) {
+						return domain;
+					}
+				}
+			}
+		}
+		return OTHER;
+	}
+}
@@ -0,0 +1,131 @@
+package com.jmair.common.metrics;
+
+import java.lang.reflect.Method;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.aop.framework.AopProxyUtils;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Component;
+
+import com.jmair.common.jfr.RepositoryCallEvent;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * 리포지토리 호출 시간과 반환 행 수 기록 (findAll 처럼 상속한 메서드 포함).
+ * 행 수는 List/Slice 를 반환하는 조회만 기록하고, Stream(내보내기)은 소비 전이라 제외.
+ *
+ * 메트릭: jmair.repository.query{domain, repository, method, outcome=success|error},
+ * jmair.repository.rows{domain, repository, method}
+ * JFR: com.jmair.RepositoryCall (도메인, 리포지토리, 메서드, 행 수, 결과)
+ */
+@Aspect
+@Component
+public class RepositoryMetrics {
+
+	private final MeterRegistry meterRegistry;
+	private final Map<Class<?>, Class<?>> repositoryTypes = new ConcurrentHashMap<>();
+	// findAll 같은 상속 메서드는 리포지토리마다 같은 Method 이므로 리포지토리와 함께 키로 사용
+	private final Map<MeterKey, Meters> meters = new ConcurrentHashMap<>();
+
+	public RepositoryMetrics(MeterRegistry meterRegistry) {
+		this.meterRegistry = meterRegistry;
+	}
+
+	private record MeterKey(Class<?> repository, Method method) {
+	}
+
+	private record Meters(Timer success, Timer error, DistributionSummary rows) {
+	}
+
+	@Around("execution(* org.springframework.data.repository.Repository+.*(..))")
+	public Object record(ProceedingJoinPoint joinPoint) throws Throwable {
+		Class<?> repository = repositoryType(joinPoint.getThis());
+		if (repository == null) {
+			return joinPoint.proceed();
+		}
+		Meters methodMeters = meters.computeIfAbsent(
+			new MeterKey(repository, ((MethodSignature) joinPoint.getSignature()).getMethod()),
+			key -> meters(key.repository(), key.method()));
+		RepositoryCallEvent event = new RepositoryCallEvent();
+		event.begin();
+		long started = System.nanoTime();
+		Object result;
+		try {
+			result = joinPoint.proceed();
+		} catch (Throwable e) {
+			methodMeters.error().record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+			commit(event, repository, joinPoint, -1, "error");
+			throw e;
+		}
+		methodMeters.success().record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+		int rows = -1;
+		if (result instanceof Collection<?> collection) {
+			rows = collection.size();
+		} else if (result instanceof Slice<?> slice) {
+			rows = slice.getNumberOfElements();
+		}
+		if (rows >= 0) {
+			methodMeters.rows().record(rows);
+		}
+		commit(event, repository, joinPoint, rows, "success");
+		return result;
+	}
+
+	private static void commit(RepositoryCallEvent event, Class<?> repository, ProceedingJoinPoint joinPoint,
+		int rows, String outcome) {
+		event.end();
+		if (event.shouldCommit()) {
+			event.domain = MetricDomain.fromClass(repository).tag();
+			event.repository = repository.getSimpleName();
+			event.method = joinPoint.getSignature().getName();
+			event.rows = rows;
+			event.outcome = outcome;
+			event.commit();
+		}
+	}
+
+	// 프록시가 구현한 com.jmair 리포지토리 인터페이스 (UsedRepository 등)
+	private Class<?> repositoryType(Object proxy) {
+		if (proxy == null) {
+			return null;
+		}
+		Class<?> repository = repositoryTypes.computeIfAbsent(proxy.getClass(), proxyClass -> {
+			for (Class<?> type : AopProxyUtils.proxiedUserInterfaces(proxy)) {
+				if (type.getName().startsWith("com.jmair.")) {
+					return type;
+				}
+			}
+			return Object.class;
+		});
+		return repository != Object.class ? repository : null;
+	}
+
+	private Meters meters(Class<?> repository, Method method) {
+		String domain = MetricDomain.fromClass(repository).tag();
+		return new Meters(timer(repository, method, domain, "success"), timer(repository, method, domain, "error"),
+			DistributionSummary.builder("jmair.repository.rows")
+				.description("리포지토리 조회 반환 행 수")
+				.tags("domain", domain, "repository", repository.getSimpleName(), "method", method.getName())
+				.publishPercentileHistogram()
+				.register(meterRegistry));
+	}
+
+	private Timer timer(Class<?> repository, Method method, String domain, String outcome) {
+		return Timer.builder("jmair.repository.query")
+			.description("리포지토리 호출 시간")
+			.tags("domain", domain, "repository", repository.getSimpleName(), "method", method.getName(),
+				"outcome", outcome)
+			.publishPercentileHistogram()
+			.register(meterRegistry);
+	}
+}
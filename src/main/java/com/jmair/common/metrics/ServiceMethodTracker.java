@@ -0,0 +1,45 @@
+package com.jmair.common.metrics;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+
+// 현재 스레드에서 실행 중인 가장 바깥쪽 서비스 메서드 이름을 기록 (예: ASService.createASRequest)
+@Aspect
+@Component
+public class ServiceMethodTracker {
+
+	public static final String NONE = "none";
+
+	private record Current(String method, MetricDomain domain) {
+	}
+
+	private static final ThreadLocal<Current> CURRENT = new ThreadLocal<>();
+
+	public static String currentMethod() {
+		Current current = CURRENT.get();
+		return current != null ? current.method() : NONE;
+	}
+
+	// 바깥쪽 서비스의 업무 영역 (GuestTicketService 처럼 여러 서비스가 쓰는 공용 서비스도 호출한 쪽으로 집계)
+	public static MetricDomain currentDomain() {
+		Current current = CURRENT.get();
+		return current != null ? current.domain() : MetricDomain.OTHER;
+	}
+
+	@Around("within(com.jmair..service..*)")
+	public Object track(ProceedingJoinPoint joinPoint) throws Throwable {
+		if (CURRENT.get() != null) {
+			return joinPoint.proceed();
+		}
+		Class<?> type = joinPoint.getSignature().getDeclaringType();
+		CURRENT.set(new Current(type.getSimpleName() + "." + joinPoint.getSignature().getName(),
+			MetricDomain.fromClass(type)));
+		try {
+			return joinPoint.proceed();
+		} finally {
+			CURRENT.remove();
+		}
+	}
+}
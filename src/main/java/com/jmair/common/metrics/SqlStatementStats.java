@@ -0,0 +1,190 @@
+package com.jmair.common.metrics;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * SQL 문별 실행 통계 - 정규화한 SQL 마다 HDR 히스토그램(µs)과 호출/행 수를 모으고,
+ * 느린 쿼리는 고정 크기 링 버퍼에 최근 것부터 덮어쓰며 보관 (쓰기 경로에 락 없음).
+ * 값은 StatementStatsDataSource 가 JDBC 실행 시점에 기록하고 /actuator/sqlstats 로 조회.
+ *
+ * <pre>
+ * spring.sql-stats.enabled           : 수집 여부 (기본 꺼짐 - 모든 JDBC 객체를 리플렉션 프록시로 감싸므로 perf 프로필에서만 켬)
+ * spring.sql-stats.slow-threshold-ms : 링 버퍼에 남길 최소 실행 시간 (0 이면 모든 문)
+ * spring.sql-stats.ring-size         : 링 버퍼 크기 (2의 거듭제곱으로 올림)
+ * spring.sql-stats.max-statements    : 따로 집계할 최대 SQL 종류 수 (넘으면 "(other)" 로 합침)
+ * </pre>
+ */
+@Component
+public class SqlStatementStats {
+
+	public static final String OTHER = "(other)";
+
+	// 1µs ~ 1시간, 유효 숫자 2자리 (문 종류당 수 KB)
+	private static final long HIGHEST_MICROS = TimeUnit.HOURS.toMicros(1);
+
+	private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+	private static final Pattern NUMBER_LITERAL = Pattern.compile("(?<![\\w.])-?\\d+(?:\\.\\d+)?(?![\\w.])");
+	private static final Pattern IN_LIST = Pattern.compile("(?i)\\b(in)\\s*\\(\\s*\\?(?:\\s*,\\s*\\?)+\\s*\\)");
+	private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+	private final boolean enabled;
+	private final long slowThresholdMicros;
+	private final int maxStatements;
+	private final Map<String, String> normalized = new ConcurrentHashMap<>();
+	private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+	private final AtomicReferenceArray<SlowQuery> ring;
+	private final int ringMask;
+	private final AtomicLong ringSequence = new AtomicLong();
+	private volatile Instant since = Instant.now();
+
+	public SqlStatementStats(
+		@Value("${spring.sql-stats.enabled:false}") boolean enabled,
+		@Value("${spring.sql-stats.slow-threshold-ms:100}") long slowThresholdMillis,
+		@Value("${spring.sql-stats.ring-size:256}") int ringSize,
+		@Value("${spring.sql-stats.max-statements:500}") int maxStatements) {
+		this.enabled = enabled;
+		this.slowThresholdMicros = TimeUnit.MILLISECONDS.toMicros(slowThresholdMillis);
+		this.maxStatements = maxStatements;
+		int capacity = Integer.highestOneBit(Math.max(ringSize, 2) - 1) << 1;
+		this.ring = new AtomicReferenceArray<>(capacity);
+		this.ringMask = capacity - 1;
+	}
+
+	// 느린 쿼리 한 건 (rows: 조회는 읽은 행 수, 변경은 영향받은 행 수)
+	public record SlowQuery(Instant at, String sql, long durationMicros, long rows, String serviceMethod,
+							String thread) {
+	}
+
+	// 통계 한 줄 (시간 단위 ms)
+	public record StatementReport(String sql, long count, double totalMillis, double meanMillis, double p50Millis,
+								  double p95Millis, double p99Millis, double maxMillis, long rows, double rowsPerCall) {
+	}
+
+	public record Report(Instant since, int statements, List<StatementReport> byTotalTime,
+						 List<StatementReport> byP99, List<SlowQuery> slowQueries) {
+	}
+
+	private static final class Entry {
+		private final Histogram micros = new ConcurrentHistogram(1, HIGHEST_MICROS, 2);
+		private final LongAdder count = new LongAdder();
+		private final LongAdder totalMicros = new LongAdder();
+		private final LongAdder rows = new LongAdder();
+		private final LongAccumulator maxMicros = new LongAccumulator(Math::max, 0);
+	}
+
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	public void record(String sql, long durationNanos, long rows) {
+		if (!enabled || sql == null) {
+			return;
+		}
+		String statement = normalize(sql);
+		long micros = Math.max(1, Math.min(TimeUnit.NANOSECONDS.toMicros(durationNanos), HIGHEST_MICROS));
+		Entry entry = entry(statement);
+		entry.micros.recordValue(micros);
+		entry.count.increment();
+		entry.totalMicros.add(micros);
+		entry.rows.add(Math.max(rows, 0));
+		entry.maxMicros.accumulate(micros);
+		if (micros >= slowThresholdMicros) {
+			ring.set((int) (ringSequence.getAndIncrement() & ringMask), new SlowQuery(Instant.now(), statement,
+				micros, rows, ServiceMethodTracker.currentMethod(), Thread.currentThread().getName()));
+		}
+	}
+
+	// 총 시간 상위 / p99 상위 limit 건과 최근 느린 쿼리 (최신순)
+	public Report report(int limit) {
+		List<StatementReport> all = new ArrayList<>(entries.size());
+		entries.forEach((sql, entry) -> all.add(toReport(sql, entry)));
+		List<StatementReport> byTotalTime = all.stream()
+			.sorted(Comparator.comparingDouble(StatementReport::totalMillis).reversed())
+			.limit(limit)
+			.toList();
+		List<StatementReport> byP99 = all.stream()
+			.sorted(Comparator.comparingDouble(StatementReport::p99Millis).reversed())
+			.limit(limit)
+			.toList();
+		return new Report(since, all.size(), byTotalTime, byP99, slowQueries());
+	}
+
+	public List<SlowQuery> slowQueries() {
+		long end = ringSequence.get();
+		long start = Math.max(0, end - ring.length());
+		List<SlowQuery> recent = new ArrayList<>((int) (end - start));
+		for (long sequence = end - 1; sequence >= start; sequence--) {
+			SlowQuery query = ring.get((int) (sequence & ringMask));
+			if (query != null) {
+				recent.add(query);
+			}
+		}
+		return recent;
+	}
+
+	public void reset() {
+		entries.clear();
+		for (int i = 0; i < ring.length(); i++) {
+			ring.set(i, null);
+		}
+		ringSequence.set(0);
+		since = Instant.now();
+	}
+
+	// 리터럴을 ? 로 바꾸고 IN (?, ?, ...) 목록과 공백을 합쳐 같은 모양의 문을 하나로 집계
+	static String normalizeSql(String sql) {
+		String result = STRING_LITERAL.matcher(sql).replaceAll("?");
+		result = NUMBER_LITERAL.matcher(result).replaceAll("?");
+		result = IN_LIST.matcher(result).replaceAll("$1 (?...)");
+		return WHITESPACE.matcher(result).replaceAll(" ").trim();
+	}
+
+	private String normalize(String sql) {
+		String cached = normalized.get(sql);
+		if (cached != null) {
+			return cached;
+		}
+		String result = normalizeSql(sql);
+		// 원문 캐시도 종류 수만큼만 유지 (리터럴이 박힌 문이 계속 달라지는 경우 대비)
+		if (normalized.size() < maxStatements * 4) {
+			normalized.put(sql, result);
+		}
+		return result;
+	}
+
+	private Entry entry(String statement) {
+		Entry entry = entries.get(statement);
+		if (entry != null) {
+			return entry;
+		}
+		String key = entries.size() < maxStatements ? statement : OTHER;
+		return entries.computeIfAbsent(key, ignored -> new Entry());
+	}
+
+	private static StatementReport toReport(String sql, Entry entry) {
+		long count = entry.count.sum();
+		long rows = entry.rows.sum();
+		Histogram histogram = entry.micros.copy();
+		double totalMillis = entry.totalMicros.sum() / 1000.0;
+		return new StatementReport(sql, count, totalMillis, count > 0 ? totalMillis / count : 0,
+			histogram.getValueAtPercentile(50) / 1000.0, histogram.getValueAtPercentile(95) / 1000.0,
+			histogram.getValueAtPercentile(99) / 1000.0, entry.maxMicros.get() / 1000.0, rows,
+			count > 0 ? (double) rows / count : 0);
+	}
+}
@@ -0,0 +1,43 @@
+package com.jmair.common.metrics;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+/**
+ * SQL 문별 DB 시간 상위 목록 - 어떤 리포지토리 호출이 DB 시간을 차지하는지 확인.
+ *
+ * <pre>
+ * GET    /actuator/sqlstats?limit=20 : 총 시간 상위, p99 상위 limit 건과 최근 느린 쿼리
+ * DELETE /actuator/sqlstats          : 통계와 느린 쿼리 초기화 (부하 테스트 구간을 나눌 때)
+ *
+ * spring.sql-stats.default-limit : limit 을 생략했을 때 건수
+ * </pre>
+ *
+ * 서비스 포트에서는 ADMIN, SUPERADMIN 만 접근 가능 (management.endpoints.web.exposure.include 에 sqlstats 추가 필요)
+ */
+@Component
+@Endpoint(id = "sqlstats")
+public class SqlStatsEndpoint {
+
+	private final SqlStatementStats stats;
+	private final int defaultLimit;
+
+	public SqlStatsEndpoint(SqlStatementStats stats, @Value("${spring.sql-stats.default-limit:20}") int defaultLimit) {
+		this.stats = stats;
+		this.defaultLimit = defaultLimit;
+	}
+
+	@ReadOperation
+	public SqlStatementStats.Report report(@Nullable Integer limit) {
+		return stats.report(limit != null && limit > 0 ? limit : defaultLimit);
+	}
+
+	@DeleteOperation
+	public void reset() {
+		stats.reset();
+	}
+}
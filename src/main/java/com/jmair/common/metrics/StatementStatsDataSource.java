@@ -0,0 +1,180 @@
+package com.jmair.common.metrics;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+// SQL 문 실행 시간과 행 수를 SqlStatementStats 에 기록
+// 시간 = execute 호출 + ResultSet.next 호출 시간 (행 사이 애플리케이션 처리 시간은 제외)
+// 행 수 = 조회는 읽은 행 수, 변경은 영향받은 행 수. ResultSet/Statement 를 닫거나 다음 문을 실행할 때 기록
+public class StatementStatsDataSource extends DelegatingDataSource {
+
+	private final ObjectProvider<SqlStatementStats> statsProvider;
+	private volatile SqlStatementStats stats;
+
+	public StatementStatsDataSource(DataSource targetDataSource, ObjectProvider<SqlStatementStats> statsProvider) {
+		super(targetDataSource);
+		this.statsProvider = statsProvider;
+	}
+
+	@Override
+	public Connection getConnection() throws SQLException {
+		return track(super.getConnection());
+	}
+
+	@Override
+	public Connection getConnection(String username, String password) throws SQLException {
+		return track(super.getConnection(username, password));
+	}
+
+	// 커넥션 풀 초기화처럼 통계 빈이 아직 없을 때는 래핑하지 않음
+	private Connection track(Connection connection) {
+		SqlStatementStats current = stats();
+		if (current == null || !current.isEnabled()) {
+			return connection;
+		}
+		return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[] {Connection.class},
+			(proxy, method, args) -> {
+				Object result = invoke(connection, method, args);
+				return switch (method.getName()) {
+					case "createStatement" -> statement(current, (Statement) result, Statement.class, null);
+					case "prepareStatement" ->
+						statement(current, (Statement) result, PreparedStatement.class, (String) args[0]);
+					case "prepareCall" -> statement(current, (Statement) result, CallableStatement.class, (String) args[0]);
+					default -> result;
+				};
+			});
+	}
+
+	private SqlStatementStats stats() {
+		SqlStatementStats current = stats;
+		if (current == null) {
+			current = statsProvider.getIfAvailable();
+			stats = current;
+		}
+		return current;
+	}
+
+	// 실행 한 번의 누적 시간과 행 수 (같은 Statement 안에서만 사용)
+	private static final class Execution {
+		private final SqlStatementStats stats;
+		private final String sql;
+		private long nanos;
+		private long rows;
+		private boolean recorded;
+
+		private Execution(SqlStatementStats stats, String sql) {
+			this.stats = stats;
+			this.sql = sql;
+		}
+
+		private void finish() {
+			if (!recorded) {
+				recorded = true;
+				stats.record(sql, nanos, rows);
+			}
+		}
+	}
+
+	private static Statement statement(SqlStatementStats stats, Statement statement, Class<? extends Statement> type,
+		String preparedSql) {
+		Execution[] current = new Execution[1];
+		return (Statement) Proxy.newProxyInstance(Statement.class.getClassLoader(), new Class<?>[] {type},
+			(proxy, method, args) -> {
+				String name = method.getName();
+				if (name.startsWith("execute")) {
+					if (current[0] != null) {
+						current[0].finish();
+					}
+					String sql = args != null && args.length > 0 && args[0] instanceof String text ? text : preparedSql;
+					Execution execution = new Execution(stats, sql);
+					current[0] = execution;
+					long started = System.nanoTime();
+					Object result;
+					try {
+						result = invoke(statement, method, args);
+					} finally {
+						// 실패한 문도 닫을 때 기록
+						execution.nanos += System.nanoTime() - started;
+					}
+					if (result instanceof ResultSet resultSet) {
+						return resultSet(resultSet, execution);
+					}
+					if (result instanceof Integer count) {
+						execution.rows = count;
+						execution.finish();
+					} else if (result instanceof Long count) {
+						execution.rows = count;
+						execution.finish();
+					} else if (result instanceof int[] || result instanceof long[]) {
+						execution.rows = batchRows(result);
+						execution.finish();
+					}
+					// execute() 가 true 면 getResultSet 으로 결과를 읽음
+					return result;
+				}
+				if ("getResultSet".equals(name) && current[0] != null) {
+					Object result = invoke(statement, method, args);
+					return result instanceof ResultSet resultSet ? resultSet(resultSet, current[0]) : result;
+				}
+				if ("close".equals(name) && current[0] != null) {
+					current[0].finish();
+				}
+				return invoke(statement, method, args);
+			});
+	}
+
+	private static ResultSet resultSet(ResultSet resultSet, Execution execution) {
+		return (ResultSet) Proxy.newProxyInstance(ResultSet.class.getClassLoader(), new Class<?>[] {ResultSet.class},
+			(proxy, method, args) -> {
+				switch (method.getName()) {
+					case "next" -> {
+						long started = System.nanoTime();
+						Object result = invoke(resultSet, method, args);
+						execution.nanos += System.nanoTime() - started;
+						if (Boolean.TRUE.equals(result)) {
+							execution.rows++;
+						}
+						return result;
+					}
+					case "close" -> execution.finish();
+					default -> {
+					}
+				}
+				return invoke(resultSet, method, args);
+			});
+	}
+
+	private static long batchRows(Object counts) {
+		long rows = 0;
+		if (counts instanceof int[] values) {
+			for (int value : values) {
+				rows += Math.max(value, 0);
+			}
+		} else {
+			for (long value : (long[]) counts) {
+				rows += Math.max(value, 0);
+			}
+		}
+		return rows;
+	}
+
+	private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+		try {
+			return method.invoke(target, args);
+		} catch (InvocationTargetException e) {
+			throw e.getTargetException();
+		}
+	}
+}
@@ -0,0 +1,282 @@
+package com.jmair.common.perf;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.function.BiFunction;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+/**
+ * perf 프로필 전용 가상 데이터 생성기.
+ * 같은 seed/until 이면 항상 같은 행을 만들어, 성능 변경 전후를 같은 데이터로 비교할 수 있게 한다.
+ * 엔티티/JPA 를 거치지 않고 JDBC 배치로 넣으므로 @CreationTimestamp 대신 분포에 맞춘 시각이 그대로 저장된다.
+ *
+ * <pre>
+ * 신청(AS/세척/설치): 최근일수록 많고 평일 업무 시간에 몰림, 오래된 신청은 대부분 완료,
+ *                    취소 5%, 삭제(FALLSE) 3%, 회원 신청 30%
+ * 중고 상품: 가격 10만~250만원(1만원 단위), 연식 2012~2024, 판매 중 60%, 예약 15%, 판매 완료 20%, 삭제 5%
+ * 공지사항: 게시 95%, 고정 5건
+ * 회원: 일반 97%, 엔지니어 2%, 승인 대기 0.5%, 관리자 0.5%, 탈퇴 3%
+ *       로그인 perf-user-{n}, perf-admin(ADMIN), perf-super(SUPERADMIN) / 비밀번호 perf1234!
+ * </pre>
+ */
+@Component
+@Profile("perf")
+public class PerfDataGenerator implements ApplicationRunner {
+
+	private static final Logger logger = LoggerFactory.getLogger(PerfDataGenerator.class);
+
+	public static final String PASSWORD = "perf1234!";
+
+	private static final String[] SURNAMES = {"김", "이", "박", "최", "정", "강", "조", "윤", "장", "임"};
+	private static final String[] GIVEN_NAMES = {"민준", "서연", "도윤", "지우", "하준", "서윤", "지호", "하은", "준우", "수아"};
+	private static final String[] PRODUCT_TYPES = {"벽걸이형", "스탠드형", "시스템", "창문형", "2in1"};
+	private static final String[] DISTRICTS = {"서울시 강남구", "서울시 마포구", "경기도 성남시", "경기도 수원시", "인천시 연수구",
+		"부산시 해운대구", "대전시 유성구"};
+	private static final String[] SLOTS = {"오전", "오후"};
+
+	private final JdbcTemplate jdbcTemplate;
+	private final PasswordEncoder passwordEncoder;
+	private final long seed;
+	private final LocalDateTime until;
+	private final int days;
+	private final int batchSize;
+	private final int asRequests;
+	private final int cleanRequests;
+	private final int installRequests;
+	private final int usedItems;
+	private final int notices;
+	private final int users;
+
+	public PerfDataGenerator(JdbcTemplate jdbcTemplate, PasswordEncoder passwordEncoder,
+		@Value("${spring.perf-data.seed:20250601}") long seed,
+		@Value("${spring.perf-data.until:2025-06-01}") LocalDate until,
+		@Value("${spring.perf-data.days:730}") int days,
+		@Value("${spring.perf-data.batch-size:5000}") int batchSize,
+		@Value("${spring.perf-data.as-requests:1000000}") int asRequests,
+		@Value("${spring.perf-data.clean-requests:1000000}") int cleanRequests,
+		@Value("${spring.perf-data.install-requests:1000000}") int installRequests,
+		@Value("${spring.perf-data.used-items:200000}") int usedItems,
+		@Value("${spring.perf-data.notices:2000}") int notices,
+		@Value("${spring.perf-data.users:200000}") int users) {
+		this.jdbcTemplate = jdbcTemplate;
+		this.passwordEncoder = passwordEncoder;
+		this.seed = seed;
+		this.until = until.atStartOfDay();
+		this.days = days;
+		this.batchSize = batchSize;
+		this.asRequests = asRequests;
+		this.cleanRequests = cleanRequests;
+		this.installRequests = installRequests;
+		this.usedItems = usedItems;
+		this.notices = notices;
+		this.users = users;
+	}
+
+	// 이미 생성된 DB(파일)면 건너뜀
+	@Override
+	public void run(ApplicationArguments args) {
+		Long existing = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM asentity", Long.class);
+		if (existing != null && existing > 0) {
+			logger.info("perf 데이터가 이미 있어 생성을 건너뜁니다 (AS 신청 {}건)", existing);
+			return;
+		}
+		generate();
+	}
+
+	public void generate() {
+		long started = System.currentTimeMillis();
+		// 신청 비밀번호/회원 비밀번호는 같은 해시를 공유 (BCrypt 는 한 번만 계산)
+		String passwordHash = passwordEncoder.encode(PASSWORD);
+		insertRequests("AS", asRequests, 1,
+			"INSERT INTO asentity (as_name, as_number, as_email, product_type, as_description, as_adress, "
+				+ "as_detail_adress, as_password, as_first_reservation_time, as_second_reservation_time, as_start_time, "
+				+ "as_edit_time, as_end_time, as_status, registered_user_grade, as_note) "
+				+ "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)",
+			(request, random) -> new Object[] {request.name, request.phone, request.email, request.productType,
+				"냉방이 약하고 실외기에서 소음이 납니다.", request.address, request.detailAddress, passwordHash,
+				request.firstSlot, request.secondSlot, request.start, request.edit, request.end, request.status,
+				request.grade, null});
+		insertRequests("세척", cleanRequests, 2,
+			"INSERT INTO clean_entity (clean_name, clean_number, clean_email, product_type, clean_description, "
+				+ "clean_adress, clean_detail_adress, clean_first_reservation_time, clean_second_reservation_time, "
+				+ "clean_start_time, clean_edit_time, clean_end_time, clean_status, clean_password, "
+				+ "registered_user_grade, clean_note) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)",
+			(request, random) -> new Object[] {request.name, request.phone, request.email, request.productType,
+				"여름 전 분해 세척 요청", request.address, request.detailAddress, request.firstSlot, request.secondSlot,
+				request.start, request.edit, request.end, request.status, passwordHash, request.grade, null});
+		insertRequests("설치", installRequests, 3,
+			"INSERT INTO install_request (install_name, install_address, install_detail_address, install_phone, "
+				+ "install_number, install_email, install_password, install_description, request_date, edit_time, "
+				+ "cancel_time, reservation_first_date, reservation_second_date, install_status, install_note, "
+				+ "registered_user_grade) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)",
+			(request, random) -> new Object[] {request.name, request.address, request.detailAddress, request.phone,
+				null, request.email, passwordHash, "거실 " + request.productType + " 설치 요청", request.start,
+				request.edit, request.status.equals("CANCEL") ? request.edit : null, request.firstSlot,
+				request.secondSlot, request.status, null, request.grade});
+		insertUsedItems();
+		insertNotices();
+		insertUsers(passwordHash);
+		logger.info("perf 데이터 생성 완료 ({}초)", (System.currentTimeMillis() - started) / 1000);
+	}
+
+	// 신청 공통 값 - 세 신청 테이블이 같은 분포를 쓰되 seed 를 달리해 서로 다른 행이 되도록 함
+	private record Request(String name, String phone, String email, String productType, String address,
+						   String detailAddress, String firstSlot, String secondSlot, Timestamp start, Timestamp edit,
+						   Timestamp end, String status, String grade) {
+	}
+
+	private void insertRequests(String label, int count, int stream, String sql,
+		BiFunction<Request, SplittableRandom, Object[]> row) {
+		SplittableRandom random = new SplittableRandom(seed * 31 + stream);
+		List<Object[]> batch = new ArrayList<>(batchSize);
+		for (int i = 0; i < count; i++) {
+			LocalDateTime start = requestTime(random);
+			String status = requestStatus(random, start);
+			LocalDateTime edit = status.equals("REQUEST") ? null : start.plusHours(1 + random.nextInt(72));
+			LocalDateTime end = status.equals("COMPLETION") || status.equals("FALLSE") ? edit : null;
+			LocalDate visit = start.toLocalDate().plusDays(1 + random.nextInt(14));
+			Request request = new Request(name(random), phone(random), random.nextInt(10) < 6 ? "guest" + i + "@example.com" : null,
+				pick(random, PRODUCT_TYPES), pick(random, DISTRICTS) + " " + (1 + random.nextInt(300)) + "번길",
+				(1 + random.nextInt(20)) + "층 " + (1 + random.nextInt(10)) + "호",
+				visit + " " + pick(random, SLOTS), random.nextBoolean() ? visit.plusDays(1) + " " + pick(random, SLOTS) : null,
+				Timestamp.valueOf(start), timestamp(edit), timestamp(end), status,
+				random.nextInt(10) < 3 ? "USER" : "NOUSER");
+			batch.add(row.apply(request, random));
+			flushIfFull(sql, batch, false);
+		}
+		flushIfFull(sql, batch, true);
+		logger.info("perf {} 신청 {}건 생성", label, count);
+	}
+
+	private void insertUsedItems() {
+		String sql = "INSERT INTO used_entity (used_name, used_cost, product_type, used_description, used_year, "
+			+ "used_time, used_post_time, used_edit_time, used_end_time, used_state, used_note, used_images, "
+			+ "registered_user_id) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+		SplittableRandom random = new SplittableRandom(seed * 31 + 4);
+		List<Object[]> batch = new ArrayList<>(batchSize);
+		for (int i = 0; i < usedItems; i++) {
+			String productType = pick(random, PRODUCT_TYPES);
+			LocalDateTime post = requestTime(random);
+			int roll = random.nextInt(100);
+			String state = roll < 60 ? "SALE" : roll < 75 ? "RESERVATION" : roll < 95 ? "COMPLETION" : "FALLSE";
+			LocalDateTime edit = state.equals("SALE") ? null : post.plusDays(1 + random.nextInt(30));
+			batch.add(new Object[] {"중고 " + productType + " 에어컨 " + i, 100_000 + random.nextInt(240) * 10_000,
+				productType, "정상 작동, 직접 수거 조건", 2012 + random.nextInt(13), (1 + random.nextInt(8)) + "년 사용",
+				Timestamp.valueOf(post), timestamp(edit), state.equals("SALE") || state.equals("RESERVATION") ? null : timestamp(edit),
+				state, null, "[]", state.equals("RESERVATION") ? 1 + random.nextInt(Math.max(users, 1)) : null});
+			flushIfFull(sql, batch, false);
+		}
+		flushIfFull(sql, batch, true);
+		logger.info("perf 중고 상품 {}건 생성", usedItems);
+	}
+
+	private void insertNotices() {
+		String sql = "INSERT INTO notice (notice_id, notice_title, notice_content, notice_writer, notice_post_time, "
+			+ "notice_edit_time, notice_delete_time, status, pinned) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+		SplittableRandom random = new SplittableRandom(seed * 31 + 5);
+		List<Object[]> batch = new ArrayList<>(batchSize);
+		String content = "여름철 에어컨 점검 및 세척 예약 안내입니다. ".repeat(40);
+		for (int i = 1; i <= notices; i++) {
+			boolean active = random.nextInt(100) < 95;
+			LocalDateTime post = requestTime(random);
+			batch.add(new Object[] {i, "공지 " + i, content, "관리자", Timestamp.valueOf(post), null,
+				active ? null : Timestamp.valueOf(post.plusDays(7)), active, active && i > notices - 5});
+			flushIfFull(sql, batch, false);
+		}
+		flushIfFull(sql, batch, true);
+		restartSequence("notice_seq", notices);
+		logger.info("perf 공지사항 {}건 생성", notices);
+	}
+
+	private void insertUsers(String passwordHash) {
+		String sql = "INSERT INTO users (id, user_login, user_name, password, phone_number, email, status, user_grade, "
+			+ "join_date, engineer_applied_at, delete_date, token_version) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+		SplittableRandom random = new SplittableRandom(seed * 31 + 6);
+		List<Object[]> batch = new ArrayList<>(batchSize);
+		batch.add(new Object[] {1, "perf-super", "성능 최고관리자", passwordHash, "010-0000-0001", null, true,
+			"SUPERADMIN", Timestamp.valueOf(until.minusDays(days)), null, null, 0});
+		batch.add(new Object[] {2, "perf-admin", "성능 관리자", passwordHash, "010-0000-0002", null, true, "ADMIN",
+			Timestamp.valueOf(until.minusDays(days)), null, null, 0});
+		for (int i = 3; i <= users; i++) {
+			int roll = random.nextInt(1000);
+			String grade = roll < 970 ? "USER" : roll < 990 ? "ENGINEER" : roll < 995 ? "WAITING" : "ADMIN";
+			LocalDateTime join = requestTime(random);
+			boolean active = random.nextInt(100) >= 3;
+			batch.add(new Object[] {i, "perf-user-" + i, name(random), passwordHash, phone(random),
+				"user" + i + "@example.com", active, grade, Timestamp.valueOf(join),
+				grade.equals("ENGINEER") || grade.equals("WAITING") ? Timestamp.valueOf(join.plusDays(3)) : null,
+				active ? null : Timestamp.valueOf(join.plusDays(30)), 0});
+			flushIfFull(sql, batch, false);
+		}
+		flushIfFull(sql, batch, true);
+		restartSequence("users_seq", users);
+		logger.info("perf 회원 {}건 생성", users);
+	}
+
+	// 최근일수록 많고(선형 증가), 평일 9~18시에 몰리는 시각
+	private LocalDateTime requestTime(SplittableRandom random) {
+		int daysAgo = (int) (days * (1 - Math.sqrt(random.nextDouble())));
+		LocalDateTime day = until.minusDays(daysAgo + 1L);
+		if (day.getDayOfWeek().getValue() >= 6 && random.nextInt(3) > 0) {
+			day = day.minusDays(day.getDayOfWeek().getValue() - 5L);
+		}
+		int hour = random.nextInt(10) < 8 ? 9 + random.nextInt(9) : random.nextInt(24);
+		return day.withHour(hour).withMinute(random.nextInt(60)).withSecond(random.nextInt(60));
+	}
+
+	// 30일 이전 신청은 대부분 완료, 최근 신청은 대기/확정 비중이 큼
+	private String requestStatus(SplittableRandom random, LocalDateTime start) {
+		int roll = random.nextInt(100);
+		if (roll < 3) {
+			return "FALLSE";
+		}
+		if (roll < 8) {
+			return "CANCEL";
+		}
+		if (start.isBefore(until.minusDays(30))) {
+			return roll < 95 ? "COMPLETION" : "RESERVATION";
+		}
+		return roll < 45 ? "REQUEST" : roll < 80 ? "RESERVATION" : "COMPLETION";
+	}
+
+	private void flushIfFull(String sql, List<Object[]> batch, boolean force) {
+		if (!batch.isEmpty() && (force || batch.size() >= batchSize)) {
+			jdbcTemplate.batchUpdate(sql, batch);
+			batch.clear();
+		}
+	}
+
+	// 직접 넣은 id 이후부터 Hibernate 시퀀스(pooled, 50 단위)가 이어지도록 조정
+	private void restartSequence(String sequence, int maxId) {
+		jdbcTemplate.execute("ALTER SEQUENCE " + sequence + " RESTART WITH " + (maxId + 51));
+	}
+
+	private static String name(SplittableRandom random) {
+		return pick(random, SURNAMES) + pick(random, GIVEN_NAMES);
+	}
+
+	private static String phone(SplittableRandom random) {
+		return String.format("010-%04d-%04d", random.nextInt(10000), random.nextInt(10000));
+	}
+
+	private static String pick(SplittableRandom random, String[] values) {
+		return values[random.nextInt(values.length)];
+	}
+
+	private static Timestamp timestamp(LocalDateTime time) {
+		return time != null ? Timestamp.valueOf(time) : null;
+	}
+}
@@ -0,0 +1,129 @@
+package com.jmair.common.util;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.jmair.common.dto.ExportFormat;
+
+/**
+ * 관리자 내보내기용 행 단위 기록기.
+ * 결과를 List 로 모으지 않고 Stream 에서 한 행씩 꺼내 바로 응답 스트림에 쓰며,
+ * 기록이 끝난 행은 afterRow 로 넘겨 호출 측에서 영속성 컨텍스트 분리 등을 처리한다.
+ */
+public final class ExportWriter {
+
+	private static final int BUFFER_SIZE = 64 * 1024;
+	private static final DateTimeFormatter TIME_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+	private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+	private ExportWriter() {
+	}
+
+	public record Column<T>(String name, Function<T, Object> value) {
+	}
+
+	public static <T> Column<T> column(String name, Function<T, Object> value) {
+		return new Column<>(name, value);
+	}
+
+	// 기록한 행 수를 반환
+	public static <T> long write(Stream<T> rows, ExportFormat format, List<Column<T>> columns, OutputStream out,
+		Consumer<? super T> afterRow) throws IOException {
+		Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), BUFFER_SIZE);
+		long count = format == ExportFormat.CSV
+			? writeCsv(rows.iterator(), columns, writer, afterRow)
+			: writeNdjson(rows.iterator(), columns, writer, afterRow);
+		writer.flush();
+		return count;
+	}
+
+	private static <T> long writeCsv(Iterator<T> rows, List<Column<T>> columns, Writer writer,
+		Consumer<? super T> afterRow) throws IOException {
+		writer.write('\uFEFF');
+		for (int i = 0; i < columns.size(); i++) {
+			if (i > 0) {
+				writer.write(',');
+			}
+			writer.write(columns.get(i).name());
+		}
+		writer.write("\r\n");
+		long count = 0;
+		while (rows.hasNext()) {
+			T row = rows.next();
+			for (int i = 0; i < columns.size(); i++) {
+				if (i > 0) {
+					writer.write(',');
+				}
+				writer.write(csvCell(columns.get(i).value().apply(row)));
+			}
+			writer.write("\r\n");
+			afterRow.accept(row);
+			count++;
+		}
+		return count;
+	}
+
+	private static <T> long writeNdjson(Iterator<T> rows, List<Column<T>> columns, Writer writer,
+		Consumer<? super T> afterRow) throws IOException {
+		JsonGenerator generator = JSON_FACTORY.createGenerator(writer);
+		generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+		// 객체 사이 구분자는 직접 쓰는 줄바꿈만 사용
+		generator.setRootValueSeparator(null);
+		long count = 0;
+		while (rows.hasNext()) {
+			T row = rows.next();
+			generator.writeStartObject();
+			for (Column<T> column : columns) {
+				Object value = column.value().apply(row);
+				if (value == null) {
+					generator.writeNullField(column.name());
+				} else if (value instanceof Integer number) {
+					generator.writeNumberField(column.name(), number);
+				} else {
+					generator.writeStringField(column.name(), text(value));
+				}
+			}
+			generator.writeEndObject();
+			generator.writeRaw('\n');
+			afterRow.accept(row);
+			count++;
+		}
+		generator.flush();
+		return count;
+	}
+
+	// RFC 4180 인용 + 엑셀 수식 실행 방지 (=, +, -, @ 로 시작하는 문자열 앞에 ' 추가)
+	static String csvCell(Object value) {
+		if (value == null) {
+			return "";
+		}
+		String text = text(value);
+		if (value instanceof String && !text.isEmpty() && "=+-@".indexOf(text.charAt(0)) >= 0) {
+			text = "'" + text;
+		}
+		if (text.indexOf(',') >= 0 || text.indexOf('"') >= 0 || text.indexOf('\n') >= 0 || text.indexOf('\r') >= 0) {
+			return '"' + text.replace("\"", "\"\"") + '"';
+		}
+		return text;
+	}
+
+	private static String text(Object value) {
+		if (value instanceof LocalDateTime time) {
+			return TIME_FORMAT.format(time);
+		}
+		return value.toString();
+	}
+}
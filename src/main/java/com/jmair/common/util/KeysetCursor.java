@@ -0,0 +1,93 @@
+package com.jmair.common.util;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+
+import com.jmair.common.dto.CursorPage;
+import com.jmair.common.jfr.DtoMappingEvent;
+
+/**
+ * (정렬 키, id) 기준 키셋 페이지네이션 커서. 정렬 키는 시작 시간 또는 가격 같은 정수.
+ * 마지막으로 내려준 행의 정렬 키와 id 를 base64url 로 감싸 클라이언트에는 불투명한 문자열로 전달한다.
+ * 관리자 목록은 최신순(시간 DESC, id DESC)이며 다음 페이지는 커서보다 "이전" 행만 조회한다.
+ */
+public final class KeysetCursor {
+
+	private static final String SEPARATOR = "|";
+
+	private KeysetCursor() {
+	}
+
+	public record Position(LocalDateTime time, Integer id) {
+	}
+
+	// 가격처럼 정수 정렬 키를 쓰는 목록의 위치
+	public record NumberPosition(long value, Integer id) {
+	}
+
+	public static String encode(Object key, Integer id) {
+		String raw = key + SEPARATOR + id;
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+	}
+
+	// 커서가 없으면 첫 페이지(null), 형식이 잘못되면 IllegalArgumentException
+	public static Position decode(String cursor) {
+		String[] parts = split(cursor);
+		if (parts == null) {
+			return null;
+		}
+		try {
+			return new Position(LocalDateTime.parse(parts[0]), Integer.valueOf(parts[1]));
+		} catch (IllegalArgumentException | DateTimeParseException e) {
+			throw new IllegalArgumentException("잘못된 커서입니다.");
+		}
+	}
+
+	public static NumberPosition decodeNumber(String cursor) {
+		String[] parts = split(cursor);
+		if (parts == null) {
+			return null;
+		}
+		try {
+			return new NumberPosition(Long.parseLong(parts[0]), Integer.valueOf(parts[1]));
+		} catch (IllegalArgumentException e) {
+			throw new IllegalArgumentException("잘못된 커서입니다.");
+		}
+	}
+
+	private static String[] split(String cursor) {
+		if (cursor == null || cursor.isBlank()) {
+			return null;
+		}
+		try {
+			String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+			int separator = raw.indexOf(SEPARATOR);
+			if (separator <= 0) {
+				throw new IllegalArgumentException("잘못된 커서입니다.");
+			}
+			return new String[] {raw.substring(0, separator), raw.substring(separator + 1)};
+		} catch (IllegalArgumentException e) {
+			throw new IllegalArgumentException("잘못된 커서입니다.");
+		}
+	}
+
+	/**
+	 * size + 1 건을 조회한 결과로 페이지를 만든다.
+	 * 초과분 한 건이 있으면 다음 페이지가 있다는 뜻이고, 마지막으로 포함된 행으로 커서를 만든다.
+	 */
+	public static <E, T> CursorPage<T> page(List<E> rows, int size, Function<E, ?> key,
+		Function<E, Integer> id, Function<E, T> mapper) {
+		boolean hasNext = rows.size() > size;
+		List<E> included = hasNext ? rows.subList(0, size) : rows;
+		String nextCursor = null;
+		if (hasNext) {
+			E last = included.get(included.size() - 1);
+			nextCursor = encode(key.apply(last), id.apply(last));
+		}
+		return new CursorPage<>(DtoMappingEvent.map(included, mapper), nextCursor, hasNext);
+	}
+}
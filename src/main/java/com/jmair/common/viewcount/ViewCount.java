@@ -0,0 +1,34 @@
+package com.jmair.common.viewcount;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 대상별 누적 조회수 - 읽기/쓰기는 ViewCounter 가 JDBC 배치로 처리하고, 엔티티는 테이블 정의용
+// 원본 테이블(공지/중고 상품)과 분리해 두어 엔티티 저장이 조회수를 덮어쓰지 않음
+@Entity
+@Table(name = "view_count", indexes = {
+	@Index(name = "idx_view_count_type_count", columnList = "itemType, viewCount")
+})
+@IdClass(ViewCountId.class)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ViewCount {
+
+	@Id
+	@Enumerated(EnumType.STRING)
+	@Column(length = 20)
+	private ViewTarget itemType;
+	@Id
+	private Integer itemId;
+	@Column(nullable = false)
+	private long viewCount;
+}
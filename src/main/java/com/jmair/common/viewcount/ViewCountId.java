@@ -0,0 +1,18 @@
+package com.jmair.common.viewcount;
+
+import java.io.Serializable;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+public class ViewCountId implements Serializable {
+
+	private ViewTarget itemType;
+	private Integer itemId;
+}
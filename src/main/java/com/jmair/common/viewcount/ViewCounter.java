@@ -0,0 +1,274 @@
+package com.jmair.common.viewcount;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * 공지사항/중고 상품 상세 조회수 집계기 (write-behind).
+ * 조회 요청은 노드 메모리의 대상별 LongAdder 만 증가시키고, 주기적으로 모은 증가분을 배치 UPDATE(없으면 INSERT)로 반영한다.
+ * 반영 후 해당 행의 누적값을 다시 읽어 메모리 순위를 갱신하므로 인기 순위 조회는 DB 를 거치지 않는다.
+ * 비정상 종료 시 잃는 조회수는 최대 한 주기 분량이며, 정상 종료 시에는 남은 증가분을 반영한다.
+ * 삭제된 대상은 커밋 후 ViewTargetRemovedEvent 로 지우고, 두 주기 동안 남겨 두는 삭제 표시로 진행 중이던 반영이 행을 되살리지 않게 한다.
+ * 메모리에는 대상별 상위 tracked-size 개 누적값과 최근 한 주기 동안 조회된 대상의 증가분만 보관한다.
+ *
+ * <pre>
+ * spring.view-count.flush-interval-seconds : 반영 주기
+ * spring.view-count.tracked-size           : 대상별로 메모리에 보관하는 상위 누적 조회수 수 (시작 시에도 이만큼 읽음)
+ * </pre>
+ */
+@Service
+public class ViewCounter {
+
+	private static final Logger logger = LoggerFactory.getLogger(ViewCounter.class);
+
+	// 인기 순위로 보관하는 최대 항목 수 (조회 API 의 limit 상한)
+	public static final int MAX_RANK = 100;
+
+	private static final String UPDATE_SQL =
+		"UPDATE view_count SET view_count = view_count + ? WHERE item_type = ? AND item_id = ?";
+	private static final String INSERT_SQL =
+		"INSERT INTO view_count (item_type, item_id, view_count) VALUES (?, ?, ?)";
+	private static final String DELETE_SQL = "DELETE FROM view_count WHERE item_type = ? AND item_id = ?";
+	// 삭제 표시를 유지하는 반영 주기 수 - 삭제 시점에 진행 중이던 반영과 그 사이 들어온 증가분까지 걸러짐
+	private static final int TOMBSTONE_FLUSHES = 2;
+
+	private final JdbcTemplate jdbcTemplate;
+	private final TransactionTemplate transactionTemplate;
+	// 커밋 이후(이벤트 리스너)에는 기존 트랜잭션에 참여하지 않도록 새 트랜잭션으로 삭제
+	private final TransactionTemplate removeTransactionTemplate;
+	private final long flushIntervalSeconds;
+	private final int trackedSize;
+	private final ScheduledExecutorService scheduler;
+
+	// 아직 DB 에 반영하지 않은 증가분 (대상 id -> 조회수)
+	private final Map<ViewTarget, Map<Integer, LongAdder>> pending = new EnumMap<>(ViewTarget.class);
+	// 마지막으로 DB 에서 읽은 누적 조회수
+	private final Map<ViewTarget, Map<Integer, Long>> totals = new EnumMap<>(ViewTarget.class);
+	private final Map<ViewTarget, List<ViewRank>> rankings = new ConcurrentHashMap<>();
+	// 삭제된 대상 id -> 삭제 시점까지 끝난 반영 횟수
+	private final Map<ViewTarget, Map<Integer, Long>> removed = new EnumMap<>(ViewTarget.class);
+	private final AtomicLong completedFlushes = new AtomicLong();
+
+	public ViewCounter(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+		@Value("${spring.view-count.flush-interval-seconds:5}") long flushIntervalSeconds,
+		@Value("${spring.view-count.tracked-size:1000}") int trackedSize) {
+		this.jdbcTemplate = jdbcTemplate;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		this.removeTransactionTemplate = new TransactionTemplate(transactionManager);
+		this.removeTransactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+		this.flushIntervalSeconds = flushIntervalSeconds;
+		this.trackedSize = trackedSize;
+		this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+			Thread thread = new Thread(runnable, "view-count-flush");
+			thread.setDaemon(true);
+			return thread;
+		});
+		for (ViewTarget target : ViewTarget.values()) {
+			pending.put(target, new ConcurrentHashMap<>());
+			totals.put(target, new ConcurrentHashMap<>());
+			removed.put(target, new ConcurrentHashMap<>());
+			rankings.put(target, List.of());
+		}
+	}
+
+	// 시작 시 대상별 상위 조회수를 읽어 순위를 만들고 주기 반영을 시작
+	@PostConstruct
+	public void start() {
+		for (ViewTarget target : ViewTarget.values()) {
+			jdbcTemplate.query("SELECT item_id, view_count FROM view_count WHERE item_type = ? "
+					+ "ORDER BY view_count DESC LIMIT " + trackedSize,
+				rs -> {
+					totals.get(target).put(rs.getInt(1), rs.getLong(2));
+				}, target.name());
+			rankings.put(target, rank(totals.get(target)));
+		}
+		scheduler.scheduleWithFixedDelay(this::flushQuietly, flushIntervalSeconds, flushIntervalSeconds,
+			TimeUnit.SECONDS);
+	}
+
+	@PreDestroy
+	public void stop() {
+		scheduler.shutdown();
+		flushQuietly();
+	}
+
+	public void increment(ViewTarget target, Integer id) {
+		if (removed.get(target).containsKey(id)) {
+			return;
+		}
+		Map<Integer, LongAdder> targetPending = pending.get(target);
+		LongAdder adder = targetPending.computeIfAbsent(id, key -> new LongAdder());
+		adder.increment();
+		// 반영 주기에 유휴 항목으로 빠진 셀이면 증가분을 현재 셀로 옮김
+		if (targetPending.get(id) != adder) {
+			targetPending.computeIfAbsent(id, key -> new LongAdder()).add(adder.sumThenReset());
+		}
+	}
+
+	// 삭제는 커밋된 경우에만 반영 - 롤백되면 조회수와 순위를 그대로 유지
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onRemoved(ViewTargetRemovedEvent event) {
+		remove(event.target(), event.id());
+	}
+
+	// 삭제된 대상은 순위에서 바로 빼고 누적 행도 지움
+	public void remove(ViewTarget target, Integer id) {
+		removed.get(target).put(id, completedFlushes.get());
+		pending.get(target).remove(id);
+		synchronized (totals) {
+			totals.get(target).remove(id);
+			rankings.put(target, rank(totals.get(target)));
+		}
+		removeTransactionTemplate.executeWithoutResult(status ->
+			jdbcTemplate.update(DELETE_SQL, target.name(), id));
+	}
+
+	// 메모리의 인기 순위 (마지막 반영 시점 기준)
+	public List<ViewRank> top(ViewTarget target, int limit) {
+		List<ViewRank> ranking = rankings.get(target);
+		return ranking.subList(0, Math.min(Math.max(limit, 0), ranking.size()));
+	}
+
+	void flushQuietly() {
+		try {
+			flush();
+		} catch (RuntimeException e) {
+			logger.warn("조회수 반영 실패 - 다음 주기에 다시 시도", e);
+		}
+	}
+
+	void flush() {
+		for (ViewTarget target : ViewTarget.values()) {
+			Map<Integer, Long> deltas = drain(target);
+			deltas.keySet().removeAll(removed.get(target).keySet());
+			if (deltas.isEmpty()) {
+				continue;
+			}
+			try {
+				transactionTemplate.executeWithoutResult(status -> write(target, deltas));
+			} catch (RuntimeException e) {
+				// 반영하지 못한 증가분은 되돌려 다음 주기에 다시 반영
+				deltas.forEach((id, delta) -> pending.get(target).computeIfAbsent(id, key -> new LongAdder()).add(delta));
+				throw e;
+			}
+			// 증가분을 모은 뒤 반영 전에 삭제된 대상은 방금 만든 행을 다시 지움
+			for (Integer id : deltas.keySet()) {
+				if (removed.get(target).containsKey(id)) {
+					jdbcTemplate.update(DELETE_SQL, target.name(), id);
+				}
+			}
+			refresh(target, deltas.keySet());
+		}
+		long flushes = completedFlushes.incrementAndGet();
+		removed.values().forEach(targetRemoved ->
+			targetRemoved.values().removeIf(removedAt -> flushes - removedAt >= TOMBSTONE_FLUSHES));
+	}
+
+	// sumThenReset 은 셀마다 getAndSet(0) 이라 동시에 들어온 증가분은 이번 값이나 다음 주기 중 한쪽에만 포함됨
+	// 한 주기 동안 조회되지 않은 항목은 빼서 조회된 적 있는 모든 id 가 남지 않게 함 (빠진 셀의 증가분은 increment 가 옮김)
+	private Map<Integer, Long> drain(ViewTarget target) {
+		Map<Integer, Long> deltas = new HashMap<>();
+		Map<Integer, LongAdder> targetPending = pending.get(target);
+		targetPending.forEach((id, adder) -> {
+			long delta = adder.sumThenReset();
+			if (delta > 0) {
+				deltas.put(id, delta);
+			} else {
+				targetPending.computeIfPresent(id, (key, current) -> current == adder && adder.sum() == 0 ? null : current);
+			}
+		});
+		return deltas;
+	}
+
+	private void write(ViewTarget target, Map<Integer, Long> deltas) {
+		List<Integer> ids = new ArrayList<>(deltas.keySet());
+		int[] updated = jdbcTemplate.batchUpdate(UPDATE_SQL, ids.stream()
+			.map(id -> new Object[] {deltas.get(id), target.name(), id})
+			.toList());
+		List<Integer> missing = new ArrayList<>();
+		for (int i = 0; i < updated.length; i++) {
+			if (updated[i] == 0) {
+				missing.add(ids.get(i));
+			}
+		}
+		for (Integer id : missing) {
+			try {
+				jdbcTemplate.update(INSERT_SQL, target.name(), id, deltas.get(id));
+			} catch (DuplicateKeyException e) {
+				// 다른 노드가 먼저 행을 만든 경우
+				jdbcTemplate.update(UPDATE_SQL, deltas.get(id), target.name(), id);
+			}
+		}
+	}
+
+	// 반영한 행의 누적값(다른 노드 증가분 포함)을 다시 읽어 순위 갱신
+	// 상위 tracked-size 개만 남기고, 빠진 대상은 다시 조회되면 DB 누적값으로 돌아옴
+	private void refresh(ViewTarget target, Set<Integer> ids) {
+		String placeholders = String.join(",", Collections.nCopies(ids.size(), "?"));
+		List<Object> args = new ArrayList<>();
+		args.add(target.name());
+		args.addAll(ids);
+		Map<Integer, Long> refreshed = new HashMap<>();
+		jdbcTemplate.query("SELECT item_id, view_count FROM view_count WHERE item_type = ? AND item_id IN ("
+				+ placeholders + ")",
+			rs -> {
+				refreshed.put(rs.getInt(1), rs.getLong(2));
+			}, args.toArray());
+		// remove 와 같은 잠금 - 삭제 표시 확인과 순위 반영 사이에 삭제된 대상이 다시 들어가지 않도록
+		synchronized (totals) {
+			Map<Integer, Long> targetTotals = totals.get(target);
+			refreshed.keySet().removeAll(removed.get(target).keySet());
+			targetTotals.putAll(refreshed);
+			if (targetTotals.size() > trackedSize) {
+				targetTotals.entrySet().stream()
+					.sorted(Map.Entry.comparingByValue())
+					.limit(targetTotals.size() - trackedSize)
+					.map(Map.Entry::getKey)
+					.toList()
+					.forEach(targetTotals::remove);
+			}
+			rankings.put(target, rank(targetTotals));
+		}
+	}
+
+	private static List<ViewRank> rank(Map<Integer, Long> counts) {
+		Comparator<ViewRank> order = Comparator.comparingLong(ViewRank::views).thenComparing(ViewRank::id,
+			Comparator.reverseOrder());
+		PriorityQueue<ViewRank> heap = new PriorityQueue<>(order);
+		counts.forEach((id, views) -> {
+			heap.add(new ViewRank(id, views));
+			if (heap.size() > MAX_RANK) {
+				heap.poll();
+			}
+		});
+		return heap.stream().sorted(order.reversed()).collect(Collectors.toUnmodifiableList());
+	}
+}
@@ -0,0 +1,5 @@
+package com.jmair.common.viewcount;
+
+// 인기 순위 항목 - 대상 id 와 마지막 반영 시점의 누적 조회수
+public record ViewRank(Integer id, long views) {
+}
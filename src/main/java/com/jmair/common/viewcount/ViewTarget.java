@@ -0,0 +1,6 @@
+package com.jmair.common.viewcount;
+
+// 조회수를 집계하는 대상 (공지사항 상세, 중고 상품 상세)
+public enum ViewTarget {
+	NOTICE, USED
+}
@@ -0,0 +1,5 @@
+package com.jmair.common.viewcount;
+
+// 공지사항/중고 상품이 삭제되었음을 알리는 이벤트 - 커밋 후 조회수 행과 인기 순위에서 제외
+public record ViewTargetRemovedEvent(ViewTarget target, Integer id) {
+}
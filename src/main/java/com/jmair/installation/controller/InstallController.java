@@ -1,11 +1,15 @@
 package com.jmair.installation.controller;
 
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
@@ -19,16 +23,24 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import com.jmair.as.dto.ASDTO;
 import com.jmair.auth.entity.User;
+import com.jmair.auth.service.GuestTicketService;
+import com.jmair.common.dto.CursorPage;
+import com.jmair.common.dto.ExportFormat;
+import com.jmair.common.dto.ListCondition;
 import com.jmair.common.exeption.ForbiddenException;
 import com.jmair.common.exeption.ResourceNotFoundException;
+import com.jmair.common.exeption.ServiceUnavailableException;
 import com.jmair.common.exeption.UnauthorizedException;
+import com.jmair.installation.dto.Install;
 import com.jmair.installation.dto.InstallDTO;
 import com.jmair.installation.service.InstallService;
 
 import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 
@@ -39,6 +51,7 @@ public class InstallController {
 
 	private static final Logger logger = LoggerFactory.getLogger(InstallController.class);
 	private final InstallService installService;
+	private final GuestTicketService guestTicketService;
 
 	// 설치 신청 등록
 	@PostMapping("/post")
@@ -48,17 +61,24 @@ public class InstallController {
 			return ResponseEntity.ok(created);
 		} catch (IllegalArgumentException e) {
 			return ResponseEntity.badRequest().body(e.getMessage());
+		} catch (ServiceUnavailableException e) {
+			return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(e.getMessage());
 		} catch (Exception e) {
 			return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
 				.body("에어컨 설치 신청 등록 중 오류가 발생했습니다.");
 		}
 	}
 
-	// 전체 조회
+	// 전체 조회 (관리자: ?status=&from=yyyy-MM-dd&to=yyyy-MM-dd&size=&cursor=이전 응답의 nextCursor)
 	@GetMapping
 	public ResponseEntity<?> getAllInstallRequests(
 		@RequestParam(value = "name", required = false) String installName,
 		@RequestParam(value = "phone", required = false) String installPhone,
+		@RequestParam(value = "status", required = false) Install status,
+		@RequestParam(value = "from", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+		@RequestParam(value = "to", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+		@RequestParam(value = "cursor", required = false) String cursor,
+		@RequestParam(value = "size", required = false) Integer size,
 		HttpServletRequest request) {
 		try {
 			// 현재 로그인한 사용자가 있다면 가져오기 (없으면 empty)
@@ -67,7 +87,13 @@ public class InstallController {
 			if (auth != null && auth.getPrincipal() instanceof User) {
 				currentUser = Optional.of((User) auth.getPrincipal());
 			}
-			List<InstallDTO> requests = installService.getAllInstallRequests(currentUser, installName, installPhone);
+			if (installService.canViewAllRequests(currentUser)) {
+				CursorPage<InstallDTO> page = installService.getAdminInstallRequests(currentUser,
+					new ListCondition<>(status, from, to, cursor, size));
+				return ResponseEntity.ok(page);
+			}
+			// 비회원 조회는 기존과 같이 배열로 응답
+			List<InstallDTO> requests = installService.getGuestInstallRequests(installName, installPhone);
 			return ResponseEntity.ok(requests);
 		} catch (IllegalArgumentException e) {
 			return ResponseEntity.badRequest().body(e.getMessage());
@@ -78,12 +104,32 @@ public class InstallController {
 		}
 	}
 
+	// 관리자 내보내기 (?format=csv|ndjson) - 전체 신청을 목록으로 모으지 않고 응답에 바로 스트리밍
+	// 형식 오류는 400, 권한 오류는 스트림을 열기 전에 GlobalExceptionHandler 로 응답
+	@GetMapping("/export")
+	public ResponseEntity<?> exportInstallRequests(
+		@RequestParam(value = "format", required = false) String format) {
+		ExportFormat exportFormat;
+		try {
+			exportFormat = ExportFormat.from(format);
+		} catch (IllegalArgumentException e) {
+			return ResponseEntity.badRequest().body(e.getMessage());
+		}
+		installService.checkExportPermission();
+		StreamingResponseBody body = out -> installService.exportInstallRequests(exportFormat, out);
+		return ResponseEntity.ok()
+			.contentType(exportFormat.mediaType())
+			.header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+				.filename("install-requests." + exportFormat.extension()).build().toString())
+			.body(body);
+	}
+
 	// 상세 조회
 	@GetMapping("/{installId}")
 	public ResponseEntity<?> getInstallRequestDetail(
 		@PathVariable Integer installId,
 		@RequestParam(value = "password", required = false) String providedPassword,
-		HttpServletRequest request) {
+		HttpServletRequest request, HttpServletResponse response) {
 
 		Authentication auth = SecurityContextHolder.getContext().getAuthentication();
 		Optional<User> currentUser = Optional.empty();
@@ -91,12 +137,16 @@ public class InstallController {
 			currentUser = Optional.of((User) auth.getPrincipal());
 		}
 		try {
-			InstallDTO dto = installService.getInstallRequestDetail(installId, providedPassword, currentUser);
+			InstallDTO dto = installService.getInstallRequestDetail(installId, providedPassword,
+				GuestTicketService.resolveTicket(request), currentUser);
+			addGuestTicketCookie(response, dto.getGuestTicket());
 			return ResponseEntity.ok(dto);
 		} catch (UnauthorizedException | ForbiddenException e) {
 			return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(e.getMessage());
 		} catch (ResourceNotFoundException e) {
 			return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
+		} catch (ServiceUnavailableException e) {
+			return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(e.getMessage());
 		} catch (Exception e) {
 			return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
 				.body("설치 신청 상세 조회 중 오류가 발생했습니다.");
@@ -107,19 +157,24 @@ public class InstallController {
 	@PostMapping("/user/{installId}")
 	public ResponseEntity<?> getInstallRequestDetail(
 		@PathVariable Integer installId,
-		@RequestBody Map<String, String> requestBody
+		@RequestBody Map<String, String> requestBody,
+		HttpServletRequest request, HttpServletResponse response
 	) {
 		String providedPassword = requestBody.get("password");
-		if (providedPassword == null || providedPassword.isBlank()) {
+		String ticket = GuestTicketService.resolveTicket(request);
+		if ((providedPassword == null || providedPassword.isBlank()) && ticket == null) {
 			return ResponseEntity.badRequest().body("비밀번호는 필수입니다.");
 		}
 		try {
-			InstallDTO dto = installService.getInstallRequestDetail(installId, providedPassword, Optional.empty());
+			InstallDTO dto = installService.getInstallRequestDetail(installId, providedPassword, ticket, Optional.empty());
+			addGuestTicketCookie(response, dto.getGuestTicket());
 			return ResponseEntity.ok(dto);
 		} catch (UnauthorizedException e) {
 			return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(e.getMessage());
 		} catch (ResourceNotFoundException e) {
 			return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
+		} catch (ServiceUnavailableException e) {
+			return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(e.getMessage());
 		} catch (Exception e) {
 			return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
 				.body("견적 신청 상세 조회 중 오류가 발생했습니다.");
@@ -149,14 +204,19 @@ public class InstallController {
 	public ResponseEntity<?> editInstallRequestByUser(
 		@PathVariable Integer installId,
 		@Valid @RequestBody InstallDTO dto,
-		@RequestParam("password") String providedPassword) {
+		@RequestParam(value = "password", required = false) String providedPassword,
+		HttpServletRequest request, HttpServletResponse response) {
 		try {
-			InstallDTO updated = installService.editInstallRequestByUser(installId, dto, providedPassword);
+			InstallDTO updated = installService.editInstallRequestByUser(installId, dto, providedPassword,
+				GuestTicketService.resolveTicket(request));
+			addGuestTicketCookie(response, updated.getGuestTicket());
 			return ResponseEntity.ok(updated);
 		} catch (UnauthorizedException | ForbiddenException e) {
 			return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(e.getMessage());
 		} catch (ResourceNotFoundException e) {
 			return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
+		} catch (ServiceUnavailableException e) {
+			return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(e.getMessage());
 		} catch (Exception e) {
 			logger.error("설치 신청 수정 중 오류", e);
 			return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -177,4 +237,11 @@ public class InstallController {
 				.body("설치 신청 삭제 중 오류가 발생했습니다.");
 		}
 	}
+
+	// 비밀번호로 확인한 경우 새로 발급된 게스트 티켓을 쿠키로 전달 (헤더 방식은 응답 본문의 guestTicket 사용)
+	private void addGuestTicketCookie(HttpServletResponse response, String guestTicket) {
+		if (guestTicket != null) {
+			response.addHeader("Set-Cookie", guestTicketService.toCookie(guestTicket, "/api/v1/install").toString());
+		}
+	}
 }
@@ -3,6 +3,8 @@ package com.jmair.installation.dto;
 import java.time.LocalDateTime;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
 import com.jmair.auth.dto.UserDTO;
 import com.jmair.auth.dto.UserGrade;
 
@@ -57,4 +59,8 @@ public class InstallDTO {
 	@Size(max = 1000, message = "비고는 최대 1000자까지 입력 가능합니다.")
 	private String installNote;
 	private UserGrade registeredUserGrade;
+	// 비밀번호 확인 후 발급되는 게스트 티켓 (응답 전용)
+	@JsonInclude(JsonInclude.Include.NON_NULL)
+	@JsonProperty(access = JsonProperty.Access.READ_ONLY)
+	private String guestTicket;
 }
@@ -0,0 +1,24 @@
+package com.jmair.installation.dto;
+
+import java.time.LocalDateTime;
+
+import com.jmair.auth.dto.UserGrade;
+
+// 관리자 목록용 요약 프로젝션 - 주소/메모/비밀번호 컬럼은 읽지 않고 영속성 컨텍스트에도 올라가지 않음
+public record InstallSummary(Integer installId, String installName, String installPhone, String installNumber,
+							 String installDescription, LocalDateTime requestDate, Install installStatus,
+							 UserGrade registeredUserGrade) {
+
+	public InstallDTO toDTO() {
+		return InstallDTO.builder()
+			.installId(installId)
+			.installName(installName)
+			.installPhone(installPhone)
+			.installNumber(installNumber)
+			.installDescription(installDescription)
+			.requestDate(requestDate)
+			.installStatus(installStatus)
+			.registeredUserGrade(registeredUserGrade)
+			.build();
+	}
+}
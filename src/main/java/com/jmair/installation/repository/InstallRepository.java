@@ -1,10 +1,52 @@
 package com.jmair.installation.repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import com.jmair.installation.dto.Install;
+import com.jmair.installation.dto.InstallSummary;
 import com.jmair.installation.entity.InstallRequest;
 
+import jakarta.persistence.QueryHint;
+
 public interface InstallRepository extends JpaRepository<InstallRequest, Integer> {
 
 
+	// 비회원 조회 - idx_install_name_phone_status 인덱스 사용
+	List<InstallRequest> findByInstallNameAndInstallPhoneAndInstallStatusNot(String installName, String installPhone,
+		Install installStatus);
+
+	// 관리자 목록 - 상태/기간 필터와 (시간, id) 키셋 조건을 SQL 로 처리, limit 은 페이지 크기 + 1
+	// 목록에 표시하는 컬럼만 생성자 표현식으로 조회 (엔티티 미생성)
+	@Query("""
+		SELECT new com.jmair.installation.dto.InstallSummary(i.installId, i.installName, i.installPhone,
+		       i.installNumber, i.installDescription, i.requestDate, i.installStatus, i.registeredUserGrade)
+		FROM InstallRequest i
+		WHERE i.installStatus <> :deleted
+		  AND (:status IS NULL OR i.installStatus = :status)
+		  AND (:fromTime IS NULL OR i.requestDate >= :fromTime)
+		  AND (:toTime IS NULL OR i.requestDate < :toTime)
+		  AND (:cursorTime IS NULL OR i.requestDate < :cursorTime
+		       OR (i.requestDate = :cursorTime AND i.installId < :cursorId))
+		ORDER BY i.requestDate DESC, i.installId DESC
+		""")
+	List<InstallSummary> findAdminPage(@Param("deleted") Install deleted, @Param("status") Install status,
+		@Param("fromTime") LocalDateTime fromTime, @Param("toTime") LocalDateTime toTime,
+		@Param("cursorTime") LocalDateTime cursorTime, @Param("cursorId") Integer cursorId, Limit limit);
+
+	// 관리자 내보내기 - 호출 측 트랜잭션 안에서 fetch size 단위로 읽음 (MySQL 은 JpaConfig 가 useCursorFetch=true 지정)
+	@QueryHints({
+		@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+		@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+	})
+	@Query("SELECT i FROM InstallRequest i WHERE i.installStatus <> :deleted ORDER BY i.installId")
+	Stream<InstallRequest> streamForExport(@Param("deleted") Install deleted);
 }
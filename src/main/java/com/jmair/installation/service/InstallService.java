@@ -1,37 +1,73 @@
 package com.jmair.installation.service;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
-import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.jmair.auth.dto.UserGrade;
 import com.jmair.auth.entity.User;
+import com.jmair.auth.service.GuestTicketService;
+import com.jmair.auth.service.PasswordHashingService;
+import com.jmair.common.dto.CursorPage;
+import com.jmair.common.dto.ExportFormat;
+import com.jmair.common.dto.ListCondition;
 import com.jmair.common.exeption.ForbiddenException;
 import com.jmair.common.exeption.ResourceNotFoundException;
 import com.jmair.common.exeption.UnauthorizedException;
+import com.jmair.common.jfr.DtoMappingEvent;
+import com.jmair.common.util.ExportWriter;
+import com.jmair.common.util.KeysetCursor;
 import com.jmair.installation.dto.Install;
 import com.jmair.installation.dto.InstallDTO;
+import com.jmair.installation.dto.InstallSummary;
 import com.jmair.installation.entity.InstallRequest;
 import com.jmair.installation.repository.InstallRepository;
 
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 
 @Service
 @RequiredArgsConstructor
 public class InstallService {
 
+	// 게스트 티켓 서명 도메인
+	public static final String TICKET_DOMAIN = "install";
+
+	// 관리자 내보내기 컬럼 (비밀번호 제외)
+	private static final List<ExportWriter.Column<InstallRequest>> EXPORT_COLUMNS = List.of(
+		ExportWriter.column("installId", InstallRequest::getInstallId),
+		ExportWriter.column("installName", InstallRequest::getInstallName),
+		ExportWriter.column("installPhone", InstallRequest::getInstallPhone),
+		ExportWriter.column("installNumber", InstallRequest::getInstallNumber),
+		ExportWriter.column("installEmail", InstallRequest::getInstallEmail),
+		ExportWriter.column("installAddress", InstallRequest::getInstallAddress),
+		ExportWriter.column("installDetailAddress", InstallRequest::getInstallDetailAddress),
+		ExportWriter.column("installDescription", InstallRequest::getInstallDescription),
+		ExportWriter.column("reservationFirstDate", InstallRequest::getReservationFirstDate),
+		ExportWriter.column("reservationSecondDate", InstallRequest::getReservationSecondDate),
+		ExportWriter.column("requestDate", InstallRequest::getRequestDate),
+		ExportWriter.column("editTime", InstallRequest::getEditTime),
+		ExportWriter.column("cancelTime", InstallRequest::getCancelTime),
+		ExportWriter.column("installStatus", InstallRequest::getInstallStatus),
+		ExportWriter.column("registeredUserGrade", InstallRequest::getRegisteredUserGrade),
+		ExportWriter.column("installNote", InstallRequest::getInstallNote)
+	);
+
 	private final InstallRepository installRepository;
-	private final PasswordEncoder passwordEncoder;
+	private final PasswordHashingService passwordHashingService;
+	private final GuestTicketService guestTicketService;
+	private final EntityManager entityManager;
 
-	// 설치 신청 등록
-	@Transactional
+	// 설치 신청 등록 - 비밀번호 해시는 트랜잭션 밖에서 수행해 커넥션을 점유하지 않음
 	public InstallDTO createInstallRequest(InstallDTO installDTO) {
 		// 현재 인증된 사용자를 확인 (로그인한 사용자가 있다면)
 		Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
@@ -42,6 +78,7 @@ public class InstallService {
 			// 비로그인 상태이면 NOUSER 처리
 			registerGrade = UserGrade.NOUSER;
 		}
+		String encodedPassword = passwordHashingService.encode(installDTO.getInstallPassword());
 
 		InstallRequest request = InstallRequest.builder()
 			.installName(installDTO.getInstallName())
@@ -51,7 +88,7 @@ public class InstallService {
 			.installNumber(installDTO.getInstallNumber())
 			.installEmail(installDTO.getInstallEmail())
 			// 비밀번호 암호화 적용
-			.installPassword(passwordEncoder.encode(installDTO.getInstallPassword()))
+			.installPassword(encodedPassword)
 			.installDescription(installDTO.getInstallDescription())
 			// 신청한 날짜는 현재 시간으로 설정
 			.requestDate(LocalDateTime.now())
@@ -83,53 +120,55 @@ public class InstallService {
 			.build();
 	}
 
-	// 전체 조회
-	public List<InstallDTO> getAllInstallRequests(Optional<User> currentUser, String installName, String installPhone) {
-		List<InstallRequest> all = installRepository.findAll().stream()
-			.filter(req -> req.getInstallStatus() != Install.FALLSE)
-			.toList();
-
-		// 관리자 등급이면 전체 조회
-		if (currentUser.isPresent()) {
-			User user = currentUser.get();
-			if (user.getUserGrade() == UserGrade.ENGINEER ||
-				user.getUserGrade() == UserGrade.ADMIN ||
-				user.getUserGrade() == UserGrade.SUPERADMIN ||
-				user.getUserGrade() == UserGrade.ADMINWATCHER) {
-				return all.stream()
-					.map(req -> InstallDTO.builder()
-						.installId(req.getInstallId())
-						.installName(req.getInstallName())
-						.installPhone(req.getInstallPhone())
-						.installNumber(req.getInstallNumber())
-						.installDescription(req.getInstallDescription())
-						.requestDate(req.getRequestDate())
-						.installStatus(req.getInstallStatus())
-						.registeredUserGrade(req.getRegisteredUserGrade())
-						.build())
-					.collect(Collectors.toList());
-			}
+	// 전체 조회 권한 (관리자, 엔지니어) - 없으면 비회원 조회
+	public boolean canViewAllRequests(Optional<User> currentUser) {
+		if (currentUser.isEmpty()) {
+			return false;
+		}
+		User user = currentUser.get();
+		return user.getUserGrade() == UserGrade.ENGINEER ||
+			user.getUserGrade() == UserGrade.ADMIN ||
+			user.getUserGrade() == UserGrade.SUPERADMIN ||
+			user.getUserGrade() == UserGrade.ADMINWATCHER;
+	}
+
+	// 관리자 전체 조회 - 최신순 커서 페이지 (상태/기간 필터)
+	public CursorPage<InstallDTO> getAdminInstallRequests(Optional<User> currentUser,
+		ListCondition<Install> condition) {
+		if (!canViewAllRequests(currentUser)) {
+			throw new ForbiddenException("전체 조회 권한이 없습니다.");
 		}
-		// 일반 사용자 또는 비로그인 사용자는 이름과 핸드폰 번호 필수
+		KeysetCursor.Position position = condition.position();
+		int size = condition.pageSize();
+		List<InstallSummary> rows = installRepository.findAdminPage(Install.FALLSE, condition.status(),
+			condition.fromTime(), condition.toTime(),
+			position != null ? position.time() : null, position != null ? position.id() : null,
+			Limit.of(size + 1));
+		return KeysetCursor.page(rows, size, InstallSummary::requestDate, InstallSummary::installId,
+			InstallSummary::toDTO);
+	}
+
+	// 비회원 조회 - 이름과 핸드폰 번호 필수, 일치하는 건 전체 (페이지 없이 배열로 응답)
+	public List<InstallDTO> getGuestInstallRequests(String installName, String installPhone) {
 		if (installName == null || installName.isBlank() || installPhone == null || installPhone.isBlank()) {
 			throw new IllegalArgumentException("일반 사용자는 설치 신청 조회 시 이름과 핸드폰 번호를 제공해야 합니다.");
 		}
-		return all.stream()
-			.filter(req -> req.getInstallName().equals(installName) && req.getInstallPhone().equals(installPhone))
-			.map(req -> InstallDTO.builder()
+		List<InstallRequest> matched = installRepository.findByInstallNameAndInstallPhoneAndInstallStatusNot(
+			installName, installPhone, Install.FALLSE);
+		return DtoMappingEvent.map(matched,
+			req -> InstallDTO.builder()
 				.installId(req.getInstallId())
 				.installName(req.getInstallName())
 				.installPhone(req.getInstallPhone())
 				.requestDate(req.getRequestDate())
 				.installStatus(req.getInstallStatus())
 				.registeredUserGrade(req.getRegisteredUserGrade())
-				.build())
-			.collect(Collectors.toList());
+				.build());
 	}
 
-	// 상세 조회
-	@Transactional(readOnly = true)
-	public InstallDTO getInstallRequestDetail(Integer installId, String providedPassword, Optional<User> currentUser) {
+	// 상세 조회 - 조회 트랜잭션이 끝난 뒤 비밀번호 검증 (유효한 게스트 티켓이 있으면 생략)
+	public InstallDTO getInstallRequestDetail(Integer installId, String providedPassword, String ticket,
+		Optional<User> currentUser) {
 		InstallRequest request = installRepository.findById(installId)
 			.orElseThrow(() -> new ResourceNotFoundException("설치 신청을 찾을 수 없습니다."));
 
@@ -137,22 +176,14 @@ public class InstallService {
 			throw new ResourceNotFoundException("해당 설치 신청은 삭제되었습니다.");
 		}
 
-		// 로그인한 사용자가 있으면 등급에 따라 비밀번호 검증
-		if (currentUser.isPresent()) {
-			User user = currentUser.get();
-			if (!(user.getUserGrade() == UserGrade.ENGINEER ||
-				user.getUserGrade() == UserGrade.ADMIN ||
-				user.getUserGrade() == UserGrade.SUPERADMIN ||
-				user.getUserGrade() == UserGrade.ADMINWATCHER)) {
-				if (providedPassword == null || !passwordEncoder.matches(providedPassword, request.getInstallPassword())) {
-					throw new UnauthorizedException("비밀번호가 일치하지 않습니다.");
-				}
-			}
-		} else {
-			// 로그인하지 않은 경우 비밀번호가 필수
-			if (providedPassword == null || !passwordEncoder.matches(providedPassword, request.getInstallPassword())) {
-				throw new UnauthorizedException("비밀번호가 필요합니다.");
-			}
+		// 관리 권한이 없으면(비로그인 포함) 게스트 티켓 또는 비밀번호 검증
+		String guestTicket = null;
+		if (currentUser.isEmpty() || !(currentUser.get().getUserGrade() == UserGrade.ENGINEER ||
+			currentUser.get().getUserGrade() == UserGrade.ADMIN ||
+			currentUser.get().getUserGrade() == UserGrade.SUPERADMIN ||
+			currentUser.get().getUserGrade() == UserGrade.ADMINWATCHER)) {
+			guestTicket = guestTicketService.authorize(TICKET_DOMAIN, request.getInstallId(),
+				request.getInstallPassword(), providedPassword, ticket);
 		}
 
 		return InstallDTO.builder()
@@ -170,19 +201,20 @@ public class InstallService {
 			.installStatus(request.getInstallStatus())
 			.installNote(request.getInstallNote())
 			.registeredUserGrade(request.getRegisteredUserGrade())
+			.guestTicket(guestTicket)
 			.build();
 	}
 
-	// 유저 수정
-	@Transactional
-	public InstallDTO editInstallRequestByUser(Integer installId, InstallDTO installDTO, String providedPassword) {
+	// 유저 수정 - 비밀번호(또는 게스트 티켓) 검증과 새 비밀번호 해시는 트랜잭션 밖, 저장만 트랜잭션
+	public InstallDTO editInstallRequestByUser(Integer installId, InstallDTO installDTO, String providedPassword,
+		String ticket) {
 
 		InstallRequest request = installRepository.findById(installId)
 			.orElseThrow(() -> new ResourceNotFoundException("설치 신청을 찾을 수 없습니다."));
 
-		if (providedPassword == null || !passwordEncoder.matches(providedPassword, request.getInstallPassword())) {
-			throw new UnauthorizedException("비밀번호가 일치하지 않습니다.");
-		}
+		guestTicketService.authorize(TICKET_DOMAIN, request.getInstallId(), request.getInstallPassword(),
+			providedPassword, ticket);
+		String encodedPassword = passwordHashingService.encode(installDTO.getInstallPassword());
 
 		InstallRequest updatedRequest = request.toBuilder()
 			.installName(installDTO.getInstallName())
@@ -191,7 +223,7 @@ public class InstallService {
 			.installPhone(installDTO.getInstallPhone())
 			.installNumber(installDTO.getInstallNumber())
 			.installEmail(installDTO.getInstallEmail())
-			.installPassword(passwordEncoder.encode(installDTO.getInstallPassword()))
+			.installPassword(encodedPassword)
 			.installDescription(installDTO.getInstallDescription())
 			.reservationFirstDate(installDTO.getReservationFirstDate())
 			.reservationSecondDate(installDTO.getReservationSecondDate())
@@ -215,6 +247,8 @@ public class InstallService {
 			.reservationSecondDate(saved.getReservationSecondDate())
 			.installStatus(saved.getInstallStatus())
 			.registeredUserGrade(saved.getRegisteredUserGrade())
+			// 비밀번호가 바뀌어 기존 티켓이 무효가 되므로 새 해시로 다시 발급
+			.guestTicket(guestTicketService.issue(TICKET_DOMAIN, saved.getInstallId(), saved.getInstallPassword()))
 			.build();
 	}
 
@@ -277,4 +311,26 @@ public class InstallService {
 		request.setCancelTime(LocalDateTime.now());
 		installRepository.save(request);
 	}
-}
\ No newline at end of file
+
+	// 내보내기 권한 확인 - 응답 스트림을 열기 전에 요청 스레드에서 호출
+	public void checkExportPermission() {
+		Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+		if (auth == null || !(auth.getPrincipal() instanceof User currentUser)) {
+			throw new UnauthorizedException("로그인한 사용자 정보가 없습니다.");
+		}
+		if (!(currentUser.getUserGrade() == UserGrade.ENGINEER ||
+			currentUser.getUserGrade() == UserGrade.ADMIN ||
+			currentUser.getUserGrade() == UserGrade.SUPERADMIN ||
+			currentUser.getUserGrade() == UserGrade.ADMINWATCHER)) {
+			throw new ForbiddenException("내보내기 권한이 없습니다.");
+		}
+	}
+
+	// 관리자 내보내기 - 한 건씩 읽어 기록한 뒤 바로 분리해 테이블 크기와 무관하게 힙 사용량 유지
+	@Transactional(readOnly = true)
+	public long exportInstallRequests(ExportFormat format, OutputStream out) throws IOException {
+		try (Stream<InstallRequest> rows = installRepository.streamForExport(Install.FALLSE)) {
+			return ExportWriter.write(rows, format, EXPORT_COLUMNS, out, entityManager::detach);
+		}
+	}
+}
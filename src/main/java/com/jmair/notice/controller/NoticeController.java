@@ -1,14 +1,14 @@
 package com.jmair.notice.controller;
 
-import java.util.List;
-
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import com.jmair.common.cache.CatalogResponseCache;
 import com.jmair.common.exeption.ForbiddenException;
 import com.jmair.common.exeption.ResourceNotFoundException;
 import com.jmair.common.exeption.UnauthorizedException;
@@ -21,11 +21,13 @@ import jakarta.validation.Valid;
 public class NoticeController {
 
 	private final NoticeService noticeService;
+	private final CatalogResponseCache catalogResponseCache;
 	private final Logger logger = LoggerFactory.getLogger(NoticeController.class);
 
 	@Autowired
-	public NoticeController(NoticeService noticeService) {
+	public NoticeController(NoticeService noticeService, CatalogResponseCache catalogResponseCache) {
 		this.noticeService = noticeService;
+		this.catalogResponseCache = catalogResponseCache;
 	}
 
 	// 등록
@@ -42,12 +44,21 @@ public class NoticeController {
 		}
 	}
 
-	// 전체 조회
+	// 목록 조회 (?size=&cursor=이전 응답의 nextCursor) - 제목만 있는 요약, 고정 공지는 첫 페이지 맨 앞
+	// 기본 첫 페이지는 캐시된 JSON 으로 응답, If-None-Match 가 같으면 304
 	@GetMapping
-	public ResponseEntity<?> getAllNotices() {
+	public ResponseEntity<?> getNotices(
+		@RequestParam(value = "cursor", required = false) String cursor,
+		@RequestParam(value = "size", required = false) Integer size,
+		WebRequest webRequest) {
 		try {
-			List<NoticeDTO> notices = noticeService.getAllNotices();
-			return ResponseEntity.ok(notices);
+			if (cursor == null && size == null) {
+				return catalogResponseCache.respond(CatalogResponseCache.Catalog.NOTICES, webRequest,
+					() -> noticeService.getNotices(null, null));
+			}
+			return ResponseEntity.ok(noticeService.getNotices(cursor, size));
+		} catch (IllegalArgumentException e) {
+			return ResponseEntity.badRequest().body(e.getMessage());
 		} catch(Exception e) {
 			logger.error("공지사항 조회 중 오류", e);
 			return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -56,6 +67,12 @@ public class NoticeController {
 	}
 
 
+	// 인기 공지 (?limit=, 최대 100) - 메모리의 조회수 순위, 몇 초 주기로 갱신
+	@GetMapping("/popular")
+	public ResponseEntity<?> getPopularNotices(@RequestParam(value = "limit", defaultValue = "10") int limit) {
+		return ResponseEntity.ok(noticeService.getPopularNotices(limit));
+	}
+
 	// 상세 조회
 	@GetMapping("/{noticeId}")
 	public ResponseEntity<?> getNoticeById(@PathVariable Integer noticeId) {
@@ -31,4 +31,6 @@ public class NoticeDTO {
 	@JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss", timezone = "Asia/Seoul")
 	private LocalDateTime deleteTime;
 	private Boolean status;
+	// 상단 고정 여부 (등록 시 없으면 고정하지 않음, 수정 시 없으면 유지)
+	private Boolean pinned;
 }
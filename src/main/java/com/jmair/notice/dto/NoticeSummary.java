@@ -0,0 +1,11 @@
+package com.jmair.notice.dto;
+
+import java.time.LocalDateTime;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+
+// 공지사항 목록용 요약 프로젝션 - 내용(최대 3000자) 컬럼은 읽지 않음
+public record NoticeSummary(Integer id, String title, String writer,
+							@JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss", timezone = "Asia/Seoul") LocalDateTime postTime,
+							boolean pinned) {
+}
@@ -5,6 +5,7 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
 import lombok.Getter;
 import lombok.Setter;
@@ -13,7 +14,10 @@ import org.hibernate.annotations.CreationTimestamp;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "Notice")
+// 목록(게시 상태 + 고정 여부, 최신순 키셋 페이지네이션)용 인덱스 - 내용 컬럼은 상세 조회에서만 읽음
+@Table(name = "Notice", indexes = {
+	@Index(name = "idx_notice_status_pinned_post_time", columnList = "status, pinned, noticePostTime, noticeId")
+})
 @Getter
 @Setter
 public class Notice {
@@ -34,5 +38,8 @@ public class Notice {
 	private LocalDateTime noticeDeleteTime;
 	@Column(nullable = false)
 	private boolean status;
+	// 상단 고정 공지
+	@Column(nullable = false)
+	private boolean pinned;
 
 }
@@ -1,16 +1,42 @@
 package com.jmair.notice.repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import com.jmair.notice.dto.NoticeSummary;
 import com.jmair.notice.entity.Notice;
 
 @Repository
 public interface NotiveRepository extends JpaRepository<Notice, Integer> {
 
-	// 전체 조회용
-	List<Notice> findByStatusTrueOrderByNoticePostTimeDesc();
+	// 목록 - 고정 공지를 제외한 게시 공지를 (게시 시간, id) 키셋으로 조회, limit 은 페이지 크기 + 1
+	// idx_notice_status_pinned_post_time 범위 스캔, 목록에 표시하는 컬럼만 생성자 표현식으로 조회
+	@Query("""
+		SELECT new com.jmair.notice.dto.NoticeSummary(n.noticeId, n.noticeTitle, n.noticeWriter,
+		       n.noticePostTime, n.pinned)
+		FROM Notice n
+		WHERE n.status = true AND n.pinned = false
+		  AND (:cursorTime IS NULL OR n.noticePostTime < :cursorTime
+		       OR (n.noticePostTime = :cursorTime AND n.noticeId < :cursorId))
+		ORDER BY n.noticePostTime DESC, n.noticeId DESC
+		""")
+	List<NoticeSummary> findPage(@Param("cursorTime") LocalDateTime cursorTime, @Param("cursorId") Integer cursorId,
+		Limit limit);
+
+	// 고정 공지 - 첫 페이지 맨 앞에 표시
+	@Query("""
+		SELECT new com.jmair.notice.dto.NoticeSummary(n.noticeId, n.noticeTitle, n.noticeWriter,
+		       n.noticePostTime, n.pinned)
+		FROM Notice n
+		WHERE n.status = true AND n.pinned = true
+		ORDER BY n.noticePostTime DESC, n.noticeId DESC
+		""")
+	List<NoticeSummary> findPinned();
 
 }
@@ -1,10 +1,13 @@
 package com.jmair.notice.service;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.function.Function;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
@@ -12,10 +15,20 @@ import org.springframework.transaction.annotation.Transactional;
 
 import com.jmair.auth.dto.UserGrade;
 import com.jmair.auth.entity.User;
+import com.jmair.common.cache.CatalogChangedEvent;
+import com.jmair.common.cache.CatalogResponseCache;
+import com.jmair.common.dto.CursorPage;
+import com.jmair.common.dto.ListCondition;
 import com.jmair.common.exeption.ForbiddenException;
 import com.jmair.common.exeption.ResourceNotFoundException;
 import com.jmair.common.exeption.UnauthorizedException;
+import com.jmair.common.util.KeysetCursor;
+import com.jmair.common.viewcount.ViewCounter;
+import com.jmair.common.viewcount.ViewRank;
+import com.jmair.common.viewcount.ViewTarget;
+import com.jmair.common.viewcount.ViewTargetRemovedEvent;
 import com.jmair.notice.dto.NoticeDTO;
+import com.jmair.notice.dto.NoticeSummary;
 import com.jmair.notice.entity.Notice;
 import com.jmair.notice.repository.NotiveRepository;
 
@@ -23,10 +36,15 @@ import com.jmair.notice.repository.NotiveRepository;
 public class NoticeService {
 
 	private final NotiveRepository	noticeRepository;
+	private final ApplicationEventPublisher eventPublisher;
+	private final ViewCounter viewCounter;
 
 	@Autowired
-	public NoticeService(NotiveRepository noticeRepository) {
+	public NoticeService(NotiveRepository noticeRepository, ApplicationEventPublisher eventPublisher,
+		ViewCounter viewCounter) {
 		this.noticeRepository = noticeRepository;
+		this.eventPublisher = eventPublisher;
+		this.viewCounter = viewCounter;
 	}
 
 	// 등록
@@ -49,8 +67,10 @@ public class NoticeService {
 		notice.setNoticeWriter(currentUser.getUserName());
 		notice.setNoticePostTime(LocalDateTime.now());
 		notice.setStatus(true);
+		notice.setPinned(Boolean.TRUE.equals(noticeDTO.getPinned()));
 
 		Notice saved = noticeRepository.save(notice);
+		eventPublisher.publishEvent(new CatalogChangedEvent(CatalogResponseCache.Catalog.NOTICES));
 
 		NoticeDTO result = new NoticeDTO();
 		result.setId(saved.getNoticeId());
@@ -59,27 +79,40 @@ public class NoticeService {
 		result.setWriter(saved.getNoticeWriter());
 		result.setPostTime(saved.getNoticePostTime());
 		result.setStatus(saved.isStatus());
+		result.setPinned(saved.isPinned());
 		return result;
 	}
 
-	// 전체 조회
-	public List<NoticeDTO> getAllNotices() {
-		List<Notice> notices = noticeRepository.findByStatusTrueOrderByNoticePostTimeDesc();
-		return notices.stream().map(notice -> {
-			NoticeDTO dto = new NoticeDTO();
-			dto.setId(notice.getNoticeId());
-			dto.setTitle(notice.getNoticeTitle());
-			dto.setContent(notice.getNoticeContent());
-			dto.setWriter(notice.getNoticeWriter());
-			dto.setPostTime(notice.getNoticePostTime());
-			return dto;
-		}).collect(Collectors.toList());
+	// 목록 - 제목/작성자/게시 시간만 최신순 커서 페이지로, 고정 공지는 첫 페이지 맨 앞에 한 번만 포함
+	@Transactional(readOnly = true)
+	public CursorPage<NoticeSummary> getNotices(String cursor, Integer size) {
+		KeysetCursor.Position position = KeysetCursor.decode(cursor);
+		int pageSize = ListCondition.pageSize(size);
+		List<NoticeSummary> rows = noticeRepository.findPage(position != null ? position.time() : null,
+			position != null ? position.id() : null, Limit.of(pageSize + 1));
+		CursorPage<NoticeSummary> page = KeysetCursor.page(rows, pageSize, NoticeSummary::postTime,
+			NoticeSummary::id, Function.identity());
+		if (position != null) {
+			return page;
+		}
+		List<NoticeSummary> content = new ArrayList<>(noticeRepository.findPinned());
+		content.addAll(page.content());
+		return new CursorPage<>(content, page.nextCursor(), page.hasNext());
+	}
+
+	// 인기 공지 - 메모리의 조회수 순위
+	public List<ViewRank> getPopularNotices(int limit) {
+		return viewCounter.top(ViewTarget.NOTICE, limit);
 	}
 
 	// 상세조회
 	public NoticeDTO getDetailNotice(Integer noticeId) {
 		Notice notice = noticeRepository.findById(noticeId)
 			.orElseThrow(() -> new IllegalArgumentException("공지사항을 찾을 수 없습니다."));
+		// 조회수는 메모리에서만 증가시키고 주기적으로 모아서 반영
+		if (notice.isStatus()) {
+			viewCounter.increment(ViewTarget.NOTICE, noticeId);
+		}
 		NoticeDTO dto = new NoticeDTO();
 		dto.setId(notice.getNoticeId());
 		dto.setTitle(notice.getNoticeTitle());
@@ -88,6 +121,7 @@ public class NoticeService {
 		dto.setPostTime(notice.getNoticePostTime());
 		dto.setStatus(notice.isStatus());
 		dto.setEditTime(notice.getNoticeEditTime());
+		dto.setPinned(notice.isPinned());
 		return dto;
 	}
 
@@ -112,8 +146,15 @@ public class NoticeService {
 		if (noticeDTO.getStatus() != null) {
 			notice.setStatus(noticeDTO.getStatus());
 		}
+		if (noticeDTO.getPinned() != null) {
+			notice.setPinned(noticeDTO.getPinned());
+		}
 
 		Notice updated = noticeRepository.save(notice);
+		if (!updated.isStatus()) {
+			eventPublisher.publishEvent(new ViewTargetRemovedEvent(ViewTarget.NOTICE, noticeId));
+		}
+		eventPublisher.publishEvent(new CatalogChangedEvent(CatalogResponseCache.Catalog.NOTICES));
 
 		NoticeDTO dto = new NoticeDTO();
 		dto.setId(updated.getNoticeId());
@@ -122,6 +163,7 @@ public class NoticeService {
 		dto.setWriter(updated.getNoticeWriter());
 		dto.setStatus(updated.isStatus());
 		dto.setEditTime(updated.getNoticeEditTime());
+		dto.setPinned(updated.isPinned());
 		return dto;
 	}
 
@@ -133,5 +175,7 @@ public class NoticeService {
 		notice.setStatus(false);
 		notice.setNoticeDeleteTime(LocalDateTime.now());
 		noticeRepository.save(notice);
+		eventPublisher.publishEvent(new ViewTargetRemovedEvent(ViewTarget.NOTICE, noticeId));
+		eventPublisher.publishEvent(new CatalogChangedEvent(CatalogResponseCache.Catalog.NOTICES));
 	}
 }
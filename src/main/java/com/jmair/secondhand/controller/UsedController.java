@@ -1,9 +1,14 @@
 package com.jmair.secondhand.controller;
 
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
@@ -15,16 +20,26 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import com.jmair.auth.controller.UserController;
 import com.jmair.auth.entity.User;
+import com.jmair.common.cache.CatalogResponseCache;
+import com.jmair.common.dto.CursorPage;
+import com.jmair.common.exeption.ConflictException;
 import com.jmair.common.exeption.ForbiddenException;
 import com.jmair.common.exeption.ResourceNotFoundException;
 import com.jmair.common.exeption.UnauthorizedException;
+import com.jmair.secondhand.dto.Used;
 import com.jmair.secondhand.dto.UsedDTO;
+import com.jmair.secondhand.dto.UsedSearchCondition;
+import com.jmair.secondhand.dto.UsedSort;
+import com.jmair.secondhand.service.UsedImageStore;
 import com.jmair.secondhand.service.UsedService;
 
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 
@@ -33,7 +48,16 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class UsedController {
 
+	// Tomcat sendfile 요청 속성 (DefaultServlet 과 동일한 방식)
+	private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+	private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+	private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+	private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+	private static final CacheControl IMAGE_CACHE = CacheControl.maxAge(365, TimeUnit.DAYS).cachePublic().immutable();
+
 	private final UsedService usedService;
+	private final UsedImageStore usedImageStore;
+	private final CatalogResponseCache catalogResponseCache;
 	private static final Logger logger = LoggerFactory.getLogger(UserController.class);
 
 	// 등록
@@ -53,11 +77,13 @@ public class UsedController {
 		}
 	}
 
-	// 전체 조회
+	// 전체 조회 - 캐시된 JSON 으로 응답, If-None-Match 가 같으면 304
 	@GetMapping
-	public ResponseEntity<?> getAllUsedRequests() {
+	public ResponseEntity<?> getAllUsedRequests(WebRequest webRequest) {
 		try {
-			return ResponseEntity.ok(usedService.getAllUsedRequests());
+			// 썸네일 절감량은 본문을 내려준 응답마다 기록 (304 는 본문이 없으므로 제외)
+			return catalogResponseCache.respond(CatalogResponseCache.Catalog.USED, webRequest,
+				usedService::getAllUsedRequests, usedService::recordListing);
 		} catch (Exception e) {
 			logger.error("중고 에어컨 전체 조회 오류", e);
 			return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -65,6 +91,82 @@ public class UsedController {
 		}
 	}
 
+	// 검색 (?productType=&minPrice=&maxPrice=&minYear=&maxYear=&state=&sort=latest|price_asc|price_desc&size=&cursor=)
+	// cursor 는 같은 정렬로 받은 이전 응답의 nextCursor
+	@GetMapping("/search")
+	public ResponseEntity<?> searchUsedRequests(
+		@RequestParam(value = "productType", required = false) String productType,
+		@RequestParam(value = "minPrice", required = false) Integer minPrice,
+		@RequestParam(value = "maxPrice", required = false) Integer maxPrice,
+		@RequestParam(value = "minYear", required = false) Integer minYear,
+		@RequestParam(value = "maxYear", required = false) Integer maxYear,
+		@RequestParam(value = "state", required = false) Used state,
+		@RequestParam(value = "sort", required = false) String sort,
+		@RequestParam(value = "cursor", required = false) String cursor,
+		@RequestParam(value = "size", required = false) Integer size) {
+		try {
+			CursorPage<UsedDTO> page = usedService.searchUsedRequests(new UsedSearchCondition(productType,
+				minPrice, maxPrice, minYear, maxYear, state, UsedSort.from(sort), cursor, size));
+			return ResponseEntity.ok(page);
+		} catch (IllegalArgumentException e) {
+			return ResponseEntity.badRequest().body(e.getMessage());
+		} catch (Exception e) {
+			logger.error("중고 에어컨 검색 오류", e);
+			return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+				.body("중고 에어컨 검색 중 오류가 발생했습니다.");
+		}
+	}
+
+	// 인기 상품 (?limit=, 최대 100) - 메모리의 조회수 순위, 몇 초 주기로 갱신
+	@GetMapping("/popular")
+	public ResponseEntity<?> getPopularUsedRequests(@RequestParam(value = "limit", defaultValue = "10") int limit) {
+		return ResponseEntity.ok(usedService.getPopularUsedRequests(limit));
+	}
+
+	// 이미지 조회 - id 가 내용 해시이므로 ETag(304) + 1년 immutable 캐시
+	// Tomcat 이 sendfile 을 지원하면 파일을 사용자 공간으로 복사하지 않고 커널에서 바로 전송
+	@GetMapping("/images/{imageId}")
+	public ResponseEntity<?> getUsedImage(@PathVariable String imageId, HttpServletRequest request,
+		WebRequest webRequest) {
+		try {
+			Path path = usedImageStore.find(imageId);
+			CacheControl cacheControl = IMAGE_CACHE;
+			if (path == null) {
+				// 축소본이 아직 만들어지지 않았으면 원본으로 응답하되 캐시하지 않고, 축소 작업을 다시 예약
+				path = usedImageStore.findOriginal(imageId);
+				cacheControl = CacheControl.noCache();
+				if (path != null) {
+					usedService.requestRendition(path.getFileName().toString());
+				}
+			}
+			if (path == null) {
+				return ResponseEntity.status(HttpStatus.NOT_FOUND).body("이미지를 찾을 수 없습니다.");
+			}
+			String servedId = path.getFileName().toString();
+			String etag = usedImageStore.etag(servedId);
+			if (webRequest.checkNotModified(etag)) {
+				return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).cacheControl(cacheControl).build();
+			}
+			long size = Files.size(path);
+			ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+				.eTag(etag)
+				.cacheControl(cacheControl)
+				.contentType(usedImageStore.mediaType(servedId))
+				.contentLength(size);
+			if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+				request.setAttribute(SENDFILE_FILENAME, path.toRealPath().toString());
+				request.setAttribute(SENDFILE_START, 0L);
+				request.setAttribute(SENDFILE_END, size);
+				return builder.build();
+			}
+			return builder.body(new FileSystemResource(path));
+		} catch (Exception e) {
+			logger.error("중고 에어컨 이미지 조회 오류", e);
+			return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+				.body("이미지 조회 중 오류가 발생했습니다.");
+		}
+	}
+
 	// 상세 조회
 	@GetMapping("/{usedId}")
 	public ResponseEntity<?> getUsedRequestDetail(@PathVariable Integer usedId) {
@@ -105,22 +207,21 @@ public class UsedController {
 		}
 	}
 
-	// 구매 요청
+	// 구매 요청 - 상품 정보는 변경하지 않고 예약 상태와 구매자만 기록 (요청 본문 불필요)
 	@PutMapping("/{usedId}/sale")
-	public ResponseEntity<?> updateUsedSaleRequest(@PathVariable Integer usedId,
-		@Valid @RequestBody UsedDTO dto) {
+	public ResponseEntity<?> updateUsedSaleRequest(@PathVariable Integer usedId) {
 		Authentication auth = SecurityContextHolder.getContext().getAuthentication();
 		Optional<User> currentUser = Optional.empty();
 		if (auth != null && auth.getPrincipal() instanceof User) {
 			currentUser = Optional.of((User) auth.getPrincipal());
 		}
 		try {
-			UsedDTO updated = usedService.updateUsedSaleRequest(usedId, dto, currentUser);
+			UsedDTO updated = usedService.updateUsedSaleRequest(usedId, currentUser);
 			return ResponseEntity.ok(updated);
 		} catch (UnauthorizedException e) {
 			return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(e.getMessage());
-		} catch (ForbiddenException e) {
-			return ResponseEntity.status(HttpStatus.FORBIDDEN).body(e.getMessage());
+		} catch (ConflictException e) {
+			return ResponseEntity.status(HttpStatus.CONFLICT).body(e.getMessage());
 		} catch (ResourceNotFoundException e) {
 			return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
 		} catch (Exception e) {
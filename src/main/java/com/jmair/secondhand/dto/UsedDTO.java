@@ -4,9 +4,15 @@ import java.time.LocalDateTime;
 import java.util.List;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
 import com.jmair.installation.dto.Install;
 
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.PositiveOrZero;
 import jakarta.validation.constraints.Size;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -26,13 +32,18 @@ public class UsedDTO {
 	private Integer usedId;
 	@NotBlank(message = "상품 이름은 필수입니다.")
 	private String usedName;
-	@NotBlank(message = "상품 가격은 필수입니다.")
-	private String usedCost;
+	// 가격(원)
+	@NotNull(message = "상품 가격은 필수입니다.")
+	@PositiveOrZero(message = "상품 가격은 0원 이상이어야 합니다.")
+	private Integer usedCost;
+	@Size(max = 50, message = "제품 유형은 최대 50자까지 입력 가능합니다.")
 	private String productType;
 	// 제품 설명
 	private String usedDescription;
     // 물건 제작연도
-	private String usedYear;
+	@Min(value = 1900, message = "제작연도가 올바르지 않습니다.")
+	@Max(value = 2100, message = "제작연도가 올바르지 않습니다.")
+	private Integer usedYear;
 	// 물건 사용 시간
 	private String usedTime;
 	// 게시물 등록, 수정, 삭제 시간
@@ -45,7 +56,11 @@ public class UsedDTO {
 	private Used usedState;
 	@Size(max = 1000, message = "비고는 최대 1000자까지 입력 가능합니다.")
 	private String usedNote;
-	// 이미지
+	// 이미지 (목록 조회는 썸네일 URL)
 	private List<String> usedImages;
+	// 상세 화면용 중간 크기 이미지 URL (상세 조회 응답)
+	@JsonInclude(JsonInclude.Include.NON_NULL)
+	@JsonProperty(access = JsonProperty.Access.READ_ONLY)
+	private List<String> usedMediumImages;
 	private Integer registeredUserId;
 }
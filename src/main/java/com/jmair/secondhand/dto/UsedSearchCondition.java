@@ -0,0 +1,26 @@
+package com.jmair.secondhand.dto;
+
+import com.jmair.common.dto.ListCondition;
+
+// 중고 상품 검색 조건 - 모든 필터는 SQL 로 전달, cursor 는 같은 정렬로 받은 이전 응답의 nextCursor
+public record UsedSearchCondition(String productType, Integer minPrice, Integer maxPrice, Integer minYear,
+								  Integer maxYear, Used state, UsedSort sort, String cursor, Integer size) {
+
+	public UsedSearchCondition {
+		if (state == Used.FALLSE) {
+			throw new IllegalArgumentException("삭제된 상품은 검색할 수 없습니다.");
+		}
+		if (minPrice != null && maxPrice != null && minPrice > maxPrice) {
+			throw new IllegalArgumentException("최소 가격이 최대 가격보다 큽니다.");
+		}
+		if (minYear != null && maxYear != null && minYear > maxYear) {
+			throw new IllegalArgumentException("최소 연식이 최대 연식보다 큽니다.");
+		}
+		productType = productType == null || productType.isBlank() ? null : productType.trim();
+		sort = sort == null ? UsedSort.LATEST : sort;
+	}
+
+	public int pageSize() {
+		return ListCondition.pageSize(size);
+	}
+}
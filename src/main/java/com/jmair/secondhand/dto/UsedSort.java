@@ -0,0 +1,31 @@
+package com.jmair.secondhand.dto;
+
+// 중고 상품 검색 정렬 - 최신 등록순(기본), 가격 낮은순, 가격 높은순
+public enum UsedSort {
+	LATEST("latest"),
+	PRICE_ASC("price_asc"),
+	PRICE_DESC("price_desc");
+
+	private final String value;
+
+	UsedSort(String value) {
+		this.value = value;
+	}
+
+	public String value() {
+		return value;
+	}
+
+	// sort 파라미터 (대소문자 무시, 기본 latest)
+	public static UsedSort from(String value) {
+		if (value == null || value.isBlank()) {
+			return LATEST;
+		}
+		for (UsedSort sort : values()) {
+			if (sort.value.equalsIgnoreCase(value.trim())) {
+				return sort;
+			}
+		}
+		throw new IllegalArgumentException("지원하지 않는 정렬입니다: " + value);
+	}
+}
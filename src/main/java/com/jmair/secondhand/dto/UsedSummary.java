@@ -0,0 +1,26 @@
+package com.jmair.secondhand.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import com.jmair.secondhand.entity.UsedImages;
+
+// 카탈로그 검색용 요약 프로젝션 - 설명/비고 컬럼은 읽지 않음
+public record UsedSummary(Integer usedId, String usedName, Integer usedCost, String productType, Integer usedYear,
+						  String usedTime, LocalDateTime usedPostTime, Used usedState, UsedImages usedImages) {
+
+	// 이미지는 호출 측에서 목록용 URL(썸네일)로 바꿔 전달
+	public UsedDTO toDTO(List<String> imageUrls) {
+		return UsedDTO.builder()
+			.usedId(usedId)
+			.usedName(usedName)
+			.usedCost(usedCost)
+			.productType(productType)
+			.usedYear(usedYear)
+			.usedTime(usedTime)
+			.usedPostTime(usedPostTime)
+			.usedState(usedState)
+			.usedImages(imageUrls)
+			.build();
+	}
+}
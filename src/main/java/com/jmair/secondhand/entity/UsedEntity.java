@@ -7,12 +7,15 @@ import org.hibernate.annotations.CreationTimestamp;
 import com.jmair.secondhand.dto.Used;
 
 import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
 import jakarta.validation.constraints.Size;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
@@ -22,6 +25,13 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 @Entity
+// 카탈로그 검색 - 정렬 키(가격/등록 시간) 인덱스 범위 스캔, 제품 유형을 지정하면 (유형, 정렬 키) 범위 스캔
+@Table(indexes = {
+	@Index(name = "idx_used_cost", columnList = "usedCost, usedId"),
+	@Index(name = "idx_used_post_time", columnList = "usedPostTime, usedId"),
+	@Index(name = "idx_used_type_cost", columnList = "productType, usedCost, usedId"),
+	@Index(name = "idx_used_type_post_time", columnList = "productType, usedPostTime, usedId")
+})
 @Getter
 @Setter
 @Builder(toBuilder = true)
@@ -34,14 +44,16 @@ public class UsedEntity {
 	private Integer usedId;
 	@Column(nullable = false)
 	private String usedName;
+	// 가격(원) - 가격 범위 검색/정렬을 위해 숫자 컬럼
 	@Column(nullable = false)
-	private String usedCost;
+	private Integer usedCost;
+	@Column(length = 50)
 	private String productType;
 	// 제품 설명
 	@Column(length = 2000)
 	private String usedDescription;
 	// 물건 제작연도
-	private String usedYear;
+	private Integer usedYear;
 	private String usedTime;
 	// 게시물 등록, 수정, 삭제 시간
 	@CreationTimestamp
@@ -54,8 +66,11 @@ public class UsedEntity {
 	private Used usedState;
 	@Size(max = 1000, message = "비고는 최대 1000자까지 입력 가능합니다.")
 	private String usedNote;
+	// 이미지 id 목록 (JSON, 파일은 UsedImageStore) - 이전 글에는 data URL 이 남아 있을 수 있어 LONGTEXT 유지
+	// 목록을 실제로 쓸 때만 파싱 (UsedImages)
+	@Convert(converter = UsedImagesConverter.class)
 	@Column(columnDefinition = "LONGTEXT")
-	private String usedImages;
+	private UsedImages usedImages;
 	private Integer registeredUserId;
 }
 
@@ -0,0 +1,90 @@
+package com.jmair.secondhand.entity;
+
+import java.io.IOException;
+import java.util.List;
+
+import org.hibernate.annotations.Immutable;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+// 중고 상품 이미지 id 목록 (usedImages 컬럼의 JSON)
+// 엔티티를 읽을 때는 문자열만 보관하고 ids() 를 처음 호출할 때 한 번만 파싱
+// 불변 값이라 이미지가 바뀌면 새 인스턴스가 만들어지므로 파싱 결과는 로딩된 엔티티 상태마다 캐시됨
+// Hibernate 가 변경 감지 시 불변 타입으로 보고 스냅샷을 복사하지 않도록 지정 (비교는 equals)
+@Immutable
+public final class UsedImages {
+
+	private static final ObjectMapper MAPPER = new ObjectMapper();
+	// 매번 new TypeReference 로 타입을 다시 해석하지 않도록 미리 만들어 둔 reader/writer
+	private static final ObjectReader READER = MAPPER.readerForListOf(String.class);
+	private static final ObjectWriter WRITER = MAPPER.writerFor(READER.getValueType());
+
+	public static final UsedImages EMPTY = new UsedImages("[]", List.of());
+
+	private final String json;
+	private volatile List<String> ids;
+
+	private UsedImages(String json, List<String> ids) {
+		this.json = json;
+		this.ids = ids;
+	}
+
+	// DB 값 -> 파싱하지 않고 감싸기만 함
+	public static UsedImages ofJson(String json) {
+		if (json == null || json.isBlank() || json.equals(EMPTY.json)) {
+			return EMPTY;
+		}
+		return new UsedImages(json, null);
+	}
+
+	public static UsedImages of(List<String> ids) {
+		if (ids == null || ids.isEmpty()) {
+			return EMPTY;
+		}
+		try {
+			List<String> copy = List.copyOf(ids);
+			return new UsedImages(WRITER.writeValueAsString(copy), copy);
+		} catch (IOException e) {
+			throw new IllegalArgumentException("이미지 처리 중 오류가 발생했습니다.");
+		}
+	}
+
+	public List<String> ids() {
+		List<String> parsed = ids;
+		if (parsed == null) {
+			try {
+				List<String> values = READER.readValue(json);
+				parsed = List.copyOf(values);
+			} catch (IOException e) {
+				throw new IllegalStateException("이미지 목록을 읽을 수 없습니다.", e);
+			}
+			ids = parsed;
+		}
+		return parsed;
+	}
+
+	public String json() {
+		return json;
+	}
+
+	public boolean isEmpty() {
+		return this == EMPTY;
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		return o instanceof UsedImages other && json.equals(other.json);
+	}
+
+	@Override
+	public int hashCode() {
+		return json.hashCode();
+	}
+
+	@Override
+	public String toString() {
+		return json;
+	}
+}
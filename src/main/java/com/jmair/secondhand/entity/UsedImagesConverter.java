@@ -0,0 +1,19 @@
+package com.jmair.secondhand.entity;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+// usedImages 컬럼(JSON 문자열) <-> UsedImages, 파싱은 UsedImages.ids() 에서 필요할 때만
+@Converter
+public class UsedImagesConverter implements AttributeConverter<UsedImages, String> {
+
+	@Override
+	public String convertToDatabaseColumn(UsedImages attribute) {
+		return attribute == null ? null : attribute.json();
+	}
+
+	@Override
+	public UsedImages convertToEntityAttribute(String dbData) {
+		return UsedImages.ofJson(dbData);
+	}
+}
@@ -1,9 +1,74 @@
 package com.jmair.secondhand.repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import com.jmair.secondhand.dto.Used;
+import com.jmair.secondhand.dto.UsedSummary;
 import com.jmair.secondhand.entity.UsedEntity;
 
 public interface UsedRepository extends JpaRepository<UsedEntity, Integer> {
 
+	// 전체 목록 - 삭제(FALLSE)된 상품은 SQL 에서 제외
+	List<UsedEntity> findByUsedStateNot(Used usedState);
+
+	// 카탈로그 검색 - 목록에 표시하는 컬럼만 생성자 표현식으로 조회, 필터는 모두 SQL 로 처리
+	// 정렬마다 (정렬 키, id) 키셋 조건이 달라 쿼리를 나눔, limit 은 페이지 크기 + 1
+	String CATALOG_SELECT = """
+		SELECT new com.jmair.secondhand.dto.UsedSummary(u.usedId, u.usedName, u.usedCost, u.productType,
+		       u.usedYear, u.usedTime, u.usedPostTime, u.usedState, u.usedImages)
+		FROM UsedEntity u
+		WHERE u.usedState <> :deleted
+		  AND (:state IS NULL OR u.usedState = :state)
+		  AND (:productType IS NULL OR u.productType = :productType)
+		  AND (:minPrice IS NULL OR u.usedCost >= :minPrice)
+		  AND (:maxPrice IS NULL OR u.usedCost <= :maxPrice)
+		  AND (:minYear IS NULL OR u.usedYear >= :minYear)
+		  AND (:maxYear IS NULL OR u.usedYear <= :maxYear)
+		""";
+
+	@Query(CATALOG_SELECT + """
+		  AND (:cursorTime IS NULL OR u.usedPostTime < :cursorTime
+		       OR (u.usedPostTime = :cursorTime AND u.usedId < :cursorId))
+		ORDER BY u.usedPostTime DESC, u.usedId DESC
+		""")
+	List<UsedSummary> findCatalogLatest(@Param("deleted") Used deleted, @Param("state") Used state,
+		@Param("productType") String productType, @Param("minPrice") Integer minPrice,
+		@Param("maxPrice") Integer maxPrice, @Param("minYear") Integer minYear, @Param("maxYear") Integer maxYear,
+		@Param("cursorTime") LocalDateTime cursorTime, @Param("cursorId") Integer cursorId, Limit limit);
+
+	@Query(CATALOG_SELECT + """
+		  AND (:cursorPrice IS NULL OR u.usedCost > :cursorPrice
+		       OR (u.usedCost = :cursorPrice AND u.usedId > :cursorId))
+		ORDER BY u.usedCost ASC, u.usedId ASC
+		""")
+	List<UsedSummary> findCatalogPriceAsc(@Param("deleted") Used deleted, @Param("state") Used state,
+		@Param("productType") String productType, @Param("minPrice") Integer minPrice,
+		@Param("maxPrice") Integer maxPrice, @Param("minYear") Integer minYear, @Param("maxYear") Integer maxYear,
+		@Param("cursorPrice") Integer cursorPrice, @Param("cursorId") Integer cursorId, Limit limit);
+
+	@Query(CATALOG_SELECT + """
+		  AND (:cursorPrice IS NULL OR u.usedCost < :cursorPrice
+		       OR (u.usedCost = :cursorPrice AND u.usedId < :cursorId))
+		ORDER BY u.usedCost DESC, u.usedId DESC
+		""")
+	List<UsedSummary> findCatalogPriceDesc(@Param("deleted") Used deleted, @Param("state") Used state,
+		@Param("productType") String productType, @Param("minPrice") Integer minPrice,
+		@Param("maxPrice") Integer maxPrice, @Param("minYear") Integer minYear, @Param("maxYear") Integer maxYear,
+		@Param("cursorPrice") Integer cursorPrice, @Param("cursorId") Integer cursorId, Limit limit);
+
+	// 구매 요청 - 판매 중(SALE)인 경우에만 예약으로 변경하는 단일 조건부 UPDATE
+	// 동시에 요청해도 한 건만 1 을 받고 나머지는 0 (행 잠금은 이 문장 동안만 유지)
+	@Modifying(clearAutomatically = true)
+	@Query("update UsedEntity u set u.usedState = com.jmair.secondhand.dto.Used.RESERVATION, "
+		+ "u.registeredUserId = :userId, u.usedEditTime = :editTime "
+		+ "where u.usedId = :usedId and u.usedState = com.jmair.secondhand.dto.Used.SALE")
+	int reserveIfOnSale(@Param("usedId") Integer usedId, @Param("userId") Integer userId,
+		@Param("editTime") LocalDateTime editTime);
 }
@@ -0,0 +1,29 @@
+package com.jmair.secondhand.service;
+
+import java.util.List;
+import java.util.function.ToLongFunction;
+
+// 캐시된 전체 목록 응답에 실린 원본 이미지 id 와 그 썸네일 절감량
+// 등록 직후 목록을 다시 만들 때는 새 이미지의 썸네일이 아직 없으므로, 썸네일이 새로 만들어졌을 때만 다시 계산
+public final class ListedImages {
+
+	private final List<String> imageIds;
+	private volatile Savings savings;
+
+	private record Savings(long thumbnails, long bytes) {
+	}
+
+	ListedImages(List<String> imageIds) {
+		this.imageIds = List.copyOf(imageIds);
+	}
+
+	// thumbnails: 지금까지 만들어진 썸네일 수 (계산 전에 읽어야 계산 중에 만들어진 썸네일도 다음 응답에 반영)
+	long saved(long thumbnails, ToLongFunction<List<String>> calculator) {
+		Savings current = savings;
+		if (current == null || current.thumbnails() != thumbnails) {
+			current = new Savings(thumbnails, calculator.applyAsLong(imageIds));
+			savings = current;
+		}
+		return current.bytes();
+	}
+}
@@ -0,0 +1,303 @@
+package com.jmair.secondhand.service;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * 중고 상품 이미지 축소본(목록용 썸네일, 상세용 중간 크기) 생성기.
+ * 등록/수정 요청은 원본 저장까지만 하고, 축소는 고정 크기 풀에서 JDK ImageIO 로 비동기 수행한다.
+ * 대기열이 가득 차면 작업을 버리고(rejected 카운트), 축소본이 없는 동안 이미지 조회는 원본으로 대신 응답하면서 다시 예약한다.
+ * 같은 이미지는 한 번만 대기열에 들어가고, 읽을 수 없거나 너무 큰 이미지는 다시 예약하지 않는다.
+ *
+ * <pre>
+ * spring.used-image.rendition-threads : 작업 스레드 수
+ * spring.used-image.queue-capacity    : 대기열 크기
+ * spring.used-image.thumbnail-width   : 목록용 썸네일 너비(px)
+ * spring.used-image.medium-width      : 상세용 중간 크기 너비(px)
+ * </pre>
+ *
+ * 메트릭: jmair.used.image.queue.depth, jmair.used.image.lag(대기열 지연), jmair.used.image.render{width},
+ * jmair.used.image.rejected, jmair.used.image.failed, jmair.used.listing.bytes.saved(본문을 내려준 목록 응답당 절감 바이트)
+ */
+@Service
+public class UsedImageRenditionService {
+
+	private static final Logger logger = LoggerFactory.getLogger(UsedImageRenditionService.class);
+
+	// 디코딩 전에 거르는 최대 픽셀 수 (압축 폭탄 방지)
+	private static final long MAX_PIXELS = 40_000_000L;
+
+	private final UsedImageStore usedImageStore;
+	private final ThreadPoolExecutor executor;
+	private final int thumbnailWidth;
+	private final int mediumWidth;
+	private final Timer lagTimer;
+	private final Timer thumbnailTimer;
+	private final Timer mediumTimer;
+	private final Counter rejectedCounter;
+	private final Counter failedCounter;
+	private final DistributionSummary bytesSaved;
+	// 지금까지 만들어진 썸네일 수 - 캐시된 목록의 절감량을 다시 계산할지 판단
+	private final AtomicLong renderedThumbnails = new AtomicLong();
+	// 대기 중이거나 실행 중인 원본 id - 원본 대체 응답마다 같은 작업이 쌓이지 않도록
+	private final Set<String> scheduled = ConcurrentHashMap.newKeySet();
+	// 읽을 수 없거나 너무 커서 축소할 수 없는 원본 id (내용 해시이므로 다시 시도해도 같은 결과)
+	private final Set<String> unrenderable = ConcurrentHashMap.newKeySet();
+
+	public UsedImageRenditionService(UsedImageStore usedImageStore, MeterRegistry meterRegistry,
+		@Value("${spring.used-image.rendition-threads:1}") int threads,
+		@Value("${spring.used-image.queue-capacity:256}") int queueCapacity,
+		@Value("${spring.used-image.thumbnail-width:320}") int thumbnailWidth,
+		@Value("${spring.used-image.medium-width:960}") int mediumWidth) {
+		this.usedImageStore = usedImageStore;
+		this.thumbnailWidth = thumbnailWidth;
+		this.mediumWidth = mediumWidth;
+		this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+			new ArrayBlockingQueue<>(queueCapacity), threadFactory(), new ThreadPoolExecutor.AbortPolicy());
+
+		Gauge.builder("jmair.used.image.queue.depth", executor, e -> e.getQueue().size())
+			.description("이미지 축소 대기열 길이")
+			.register(meterRegistry);
+		this.lagTimer = Timer.builder("jmair.used.image.lag")
+			.description("이미지 축소 요청부터 작업 시작까지 대기 시간")
+			.publishPercentileHistogram()
+			.register(meterRegistry);
+		this.thumbnailTimer = renderTimer(meterRegistry, thumbnailWidth);
+		this.mediumTimer = renderTimer(meterRegistry, mediumWidth);
+		this.rejectedCounter = Counter.builder("jmair.used.image.rejected")
+			.description("대기열이 가득 차 버려진 이미지 축소 작업 수")
+			.register(meterRegistry);
+		this.failedCounter = Counter.builder("jmair.used.image.failed")
+			.description("읽을 수 없거나 너무 커서 축소하지 못한 이미지 수")
+			.register(meterRegistry);
+		this.bytesSaved = DistributionSummary.builder("jmair.used.listing.bytes.saved")
+			.description("목록 응답 한 번에 원본 대신 썸네일을 내려 줄인 바이트")
+			.baseUnit("bytes")
+			.register(meterRegistry);
+	}
+
+	// 저장된 이미지 id 들의 축소본 생성을 예약 (원본 id 가 아닌 값, 이미 예약된 값은 무시)
+	public void submit(Collection<String> imageIds) {
+		for (String id : imageIds) {
+			if (!usedImageStore.isOriginalId(id) || usedImageStore.renditionId(id, thumbnailWidth) == null
+				|| unrenderable.contains(id) || !scheduled.add(id)) {
+				continue;
+			}
+			long submittedAt = System.nanoTime();
+			try {
+				executor.execute(() -> {
+					try {
+						lagTimer.record(System.nanoTime() - submittedAt, TimeUnit.NANOSECONDS);
+						render(id);
+					} finally {
+						scheduled.remove(id);
+					}
+				});
+			} catch (RejectedExecutionException e) {
+				scheduled.remove(id);
+				rejectedCounter.increment();
+				logger.warn("이미지 축소 대기열이 가득 차 건너뜀: {}", id);
+			}
+		}
+	}
+
+	// 목록용 썸네일 URL (축소본을 만들 수 없는 형식이나 이전 data URL 은 그대로)
+	public String thumbnailUrl(String stored) {
+		return renditionUrl(stored, thumbnailWidth);
+	}
+
+	// 상세용 중간 크기 URL
+	public String mediumUrl(String stored) {
+		return renditionUrl(stored, mediumWidth);
+	}
+
+	// 목록 응답 한 번의 절감량 기록 - 썸네일이 이미 만들어진 이미지만 계산
+	public void recordListing(Collection<String> imageIds) {
+		bytesSaved.record(listingSavings(imageIds));
+	}
+
+	// 캐시된 목록 응답에 함께 보관할 이미지 목록
+	public ListedImages listedImages(Collection<String> imageIds) {
+		return new ListedImages(List.copyOf(imageIds));
+	}
+
+	// 캐시된 목록 응답 한 번의 절감량 기록 - 목록을 만든 뒤에 생긴 썸네일도 반영
+	public void recordListing(ListedImages listing) {
+		bytesSaved.record(listing.saved(renderedThumbnails.get(), this::listingSavings));
+	}
+
+	// 원본 대신 썸네일을 내려 줄인 바이트
+	private long listingSavings(Collection<String> imageIds) {
+		long saved = 0;
+		for (String id : imageIds) {
+			String thumbnailId = usedImageStore.isOriginalId(id) ? usedImageStore.renditionId(id, thumbnailWidth) : null;
+			if (thumbnailId == null) {
+				continue;
+			}
+			long original = usedImageStore.size(id);
+			long thumbnail = usedImageStore.size(thumbnailId);
+			if (original > 0 && thumbnail > 0) {
+				saved += original - thumbnail;
+			}
+		}
+		return saved;
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		executor.shutdownNow();
+	}
+
+	void render(String id) {
+		Path original = usedImageStore.find(id);
+		if (original == null) {
+			return;
+		}
+		try {
+			BufferedImage source = read(original);
+			if (source == null) {
+				unrenderable.add(id);
+				failedCounter.increment();
+				return;
+			}
+			renderWidth(id, original, source, thumbnailWidth, thumbnailTimer);
+			renderWidth(id, original, source, mediumWidth, mediumTimer);
+		} catch (IOException | RuntimeException e) {
+			failedCounter.increment();
+			logger.warn("이미지 축소 실패: {}", id, e);
+		}
+	}
+
+	private void renderWidth(String id, Path original, BufferedImage source, int width, Timer timer) throws IOException {
+		String renditionId = usedImageStore.renditionId(id, width);
+		if (usedImageStore.find(renditionId) != null) {
+			return;
+		}
+		long start = System.nanoTime();
+		String format = renditionId.endsWith(".jpg") ? "jpeg" : "png";
+		byte[] bytes;
+		if (source.getWidth() <= width && !id.endsWith(".gif")) {
+			// 원본이 더 작으면 확대하지 않고 원본 그대로 사용
+			bytes = Files.readAllBytes(original);
+		} else {
+			bytes = encode(scale(source, Math.min(width, source.getWidth()), format), format);
+		}
+		usedImageStore.writeRendition(renditionId, bytes);
+		if (width == thumbnailWidth) {
+			renderedThumbnails.incrementAndGet();
+		}
+		timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+	}
+
+	// 크기를 먼저 확인한 뒤 디코딩 (첫 프레임만)
+	private static BufferedImage read(Path path) throws IOException {
+		try (ImageInputStream input = ImageIO.createImageInputStream(path.toFile())) {
+			if (input == null) {
+				return null;
+			}
+			Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+			if (!readers.hasNext()) {
+				return null;
+			}
+			ImageReader reader = readers.next();
+			try {
+				reader.setInput(input, true, true);
+				if ((long) reader.getWidth(0) * reader.getHeight(0) > MAX_PIXELS) {
+					return null;
+				}
+				return reader.read(0);
+			} finally {
+				reader.dispose();
+			}
+		}
+	}
+
+	// 한 번에 크게 줄이면 계단 현상이 생기므로 절반씩 단계적으로 축소
+	private static BufferedImage scale(BufferedImage source, int width, String format) {
+		int height = Math.max(1, (int) Math.round((double) source.getHeight() * width / source.getWidth()));
+		int type = "png".equals(format) ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB;
+		BufferedImage current = source;
+		int currentWidth = source.getWidth();
+		int currentHeight = source.getHeight();
+		do {
+			currentWidth = Math.max(width, currentWidth / 2);
+			currentHeight = Math.max(height, currentHeight / 2);
+			BufferedImage next = new BufferedImage(currentWidth, currentHeight, type);
+			Graphics2D graphics = next.createGraphics();
+			if (type == BufferedImage.TYPE_INT_RGB) {
+				// JPEG 는 투명도가 없으므로 흰 배경
+				graphics.setColor(Color.WHITE);
+				graphics.fillRect(0, 0, currentWidth, currentHeight);
+			}
+			graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+			graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+			graphics.drawImage(current, 0, 0, currentWidth, currentHeight, null);
+			graphics.dispose();
+			current = next;
+		} while (currentWidth != width || currentHeight != height);
+		return current;
+	}
+
+	private static byte[] encode(BufferedImage image, String format) throws IOException {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		if (!ImageIO.write(image, format, out)) {
+			throw new IOException("이미지 인코더가 없습니다: " + format);
+		}
+		return out.toByteArray();
+	}
+
+	private String renditionUrl(String stored, int width) {
+		String renditionId = usedImageStore.isOriginalId(stored) ? usedImageStore.renditionId(stored, width) : null;
+		return renditionId != null ? UsedImageStore.URL_PREFIX + renditionId : usedImageStore.toUrl(stored);
+	}
+
+	private static Timer renderTimer(MeterRegistry meterRegistry, int width) {
+		return Timer.builder("jmair.used.image.render")
+			.description("이미지 축소 실행 시간")
+			.tag("width", String.valueOf(width))
+			.register(meterRegistry);
+	}
+
+	private static ThreadFactory threadFactory() {
+		AtomicInteger sequence = new AtomicInteger();
+		return runnable -> {
+			Thread thread = new Thread(runnable, "used-image-" + sequence.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		};
+	}
+}
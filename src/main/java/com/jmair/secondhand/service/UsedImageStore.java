@@ -0,0 +1,213 @@
+package com.jmair.secondhand.service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * 중고 상품 이미지 저장소.
+ * 업로드된 data URL 을 디코딩해 SHA-256 해시를 이름으로 로컬 디스크에 저장하고(같은 이미지는 한 번만 저장),
+ * 엔티티에는 "해시.확장자" 형태의 이미지 id 만 남긴다. 내용이 바뀌면 id 도 바뀌므로 응답은 영구 캐시할 수 있다.
+ * 축소본(썸네일 등)은 "해시-w너비.확장자" 이름으로 같은 디렉터리에 둔다 (UsedImageRenditionService).
+ */
+@Component
+public class UsedImageStore {
+
+	// 이미지 조회 경로 (UsedController)
+	public static final String URL_PREFIX = "/api/v1/used/images/";
+
+	private static final Pattern DATA_URL = Pattern.compile("^data:(image/[a-z+.-]+);base64,(.+)$", Pattern.DOTALL);
+	private static final Pattern IMAGE_ID = Pattern.compile("^([0-9a-f]{64})(-w[0-9]{2,4})?\\.(png|jpg|gif|webp)$");
+	// 축소본 형식 - gif 는 첫 프레임을 png 로, webp 는 JDK ImageIO 가 읽지 못해 축소본 없음
+	private static final Map<String, String> RENDITION_EXTENSIONS = Map.of(
+		"png", "png",
+		"jpg", "jpg",
+		"gif", "png");
+	private static final Map<String, String> EXTENSIONS = Map.of(
+		"image/png", "png",
+		"image/jpeg", "jpg",
+		"image/gif", "gif",
+		"image/webp", "webp");
+	private static final Map<String, MediaType> MEDIA_TYPES = Map.of(
+		"png", MediaType.IMAGE_PNG,
+		"jpg", MediaType.IMAGE_JPEG,
+		"gif", MediaType.IMAGE_GIF,
+		"webp", MediaType.parseMediaType("image/webp"));
+
+	private final Path root;
+	// 파일 내용이 바뀌지 않으므로 크기는 한 번 읽으면 계속 사용 (목록 응답의 절감량 계산용)
+	private final Cache<String, Long> sizes = Caffeine.newBuilder().maximumSize(10_000).build();
+
+	public UsedImageStore(@Value("${spring.used-image.directory:./data/used-images}") String directory) {
+		this.root = Paths.get(directory).toAbsolutePath().normalize();
+	}
+
+	// 요청 이미지 -> 저장할 값: data URL 은 저장 후 id, 조회 URL 은 원본 id 로 되돌리고, 그 외(기존 외부 URL 등)는 그대로
+	public String store(String image) {
+		if (image == null || image.isBlank()) {
+			throw new IllegalArgumentException("이미지가 비어 있습니다.");
+		}
+		if (image.startsWith(URL_PREFIX)) {
+			String id = image.substring(URL_PREFIX.length());
+			if (isOriginalId(id)) {
+				return id;
+			}
+			// 축소본 URL 이 넘어오면 원본 id 로 저장
+			Path original = findOriginal(id);
+			if (original != null) {
+				return original.getFileName().toString();
+			}
+		}
+		Matcher matcher = DATA_URL.matcher(image);
+		if (!matcher.matches()) {
+			return image;
+		}
+		String extension = EXTENSIONS.get(matcher.group(1));
+		if (extension == null) {
+			throw new IllegalArgumentException("지원하지 않는 이미지 형식입니다: " + matcher.group(1));
+		}
+		byte[] bytes;
+		try {
+			bytes = Base64.getMimeDecoder().decode(matcher.group(2));
+		} catch (IllegalArgumentException e) {
+			throw new IllegalArgumentException("이미지 데이터가 올바르지 않습니다.");
+		}
+		String id = sha256(bytes) + "." + extension;
+		write(id, bytes);
+		return id;
+	}
+
+	// 원본 id 와 너비로 축소본 id - 축소본을 만들 수 없는 형식이면 null
+	public String renditionId(String id, int width) {
+		Matcher matcher = IMAGE_ID.matcher(id);
+		if (!matcher.matches() || matcher.group(2) != null) {
+			return null;
+		}
+		String extension = RENDITION_EXTENSIONS.get(matcher.group(3));
+		return extension != null ? matcher.group(1) + "-w" + width + "." + extension : null;
+	}
+
+	public boolean isOriginalId(String id) {
+		Matcher matcher = IMAGE_ID.matcher(id);
+		return matcher.matches() && matcher.group(2) == null;
+	}
+
+	// 축소본 id 의 원본 파일 - 축소본이 아직 만들어지지 않았을 때 대신 전송
+	public Path findOriginal(String renditionId) {
+		Matcher matcher = IMAGE_ID.matcher(renditionId);
+		if (!matcher.matches() || matcher.group(2) == null) {
+			return null;
+		}
+		for (String extension : EXTENSIONS.values()) {
+			Path path = find(matcher.group(1) + "." + extension);
+			if (path != null) {
+				return path;
+			}
+		}
+		return null;
+	}
+
+	public void writeRendition(String renditionId, byte[] bytes) {
+		write(renditionId, bytes);
+	}
+
+	// 파일 크기 (없으면 -1, 아직 없는 축소본은 캐시하지 않음)
+	public long size(String id) {
+		Long cached = sizes.getIfPresent(id);
+		if (cached != null) {
+			return cached;
+		}
+		Path path = find(id);
+		if (path == null) {
+			return -1;
+		}
+		try {
+			long size = Files.size(path);
+			sizes.put(id, size);
+			return size;
+		} catch (IOException e) {
+			return -1;
+		}
+	}
+
+	// 임시 파일에 쓴 뒤 원자적으로 이동 - 이미 있으면 내용이 같으므로 건너뜀
+	private void write(String id, byte[] bytes) {
+		Path target = path(id);
+		if (Files.exists(target)) {
+			return;
+		}
+		try {
+			Files.createDirectories(target.getParent());
+			Path temp = Files.createTempFile(target.getParent(), id, ".tmp");
+			try {
+				Files.write(temp, bytes);
+				Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+			} catch (FileAlreadyExistsException e) {
+				// 같은 이미지를 동시에 저장한 경우 - 내용이 같으므로 먼저 저장된 파일 사용
+			} finally {
+				Files.deleteIfExists(temp);
+			}
+		} catch (IOException e) {
+			throw new UncheckedIOException("이미지 저장 중 오류가 발생했습니다.", e);
+		}
+	}
+
+	// 저장된 값 -> 응답 값: 이미지 id 는 조회 URL, 기존 data URL 등은 그대로
+	public String toUrl(String stored) {
+		return isImageId(stored) ? URL_PREFIX + stored : stored;
+	}
+
+	public boolean isImageId(String value) {
+		return value != null && IMAGE_ID.matcher(value).matches();
+	}
+
+	// 이미지 파일 경로 - id 형식이 아니거나 파일이 없으면 null
+	public Path find(String id) {
+		if (!isImageId(id)) {
+			return null;
+		}
+		Path path = path(id);
+		return Files.isRegularFile(path) ? path : null;
+	}
+
+	public MediaType mediaType(String id) {
+		Matcher matcher = IMAGE_ID.matcher(id);
+		return matcher.matches() ? MEDIA_TYPES.get(matcher.group(3)) : MediaType.APPLICATION_OCTET_STREAM;
+	}
+
+	// 내용 해시가 곧 id 이므로 ETag 로 그대로 사용
+	public String etag(String id) {
+		return "\"" + id.substring(0, id.indexOf('.')) + "\"";
+	}
+
+	// 한 디렉터리에 파일이 몰리지 않도록 해시 앞 두 글자로 분산
+	private Path path(String id) {
+		return root.resolve(id.substring(0, 2)).resolve(id);
+	}
+
+	private static String sha256(byte[] bytes) {
+		try {
+			return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(bytes));
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+}
@@ -4,22 +4,37 @@ import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.jmair.auth.dto.UserGrade;
 import com.jmair.auth.entity.User;
+import com.jmair.common.cache.CatalogChangedEvent;
+import com.jmair.common.cache.CatalogResponseCache;
+import com.jmair.common.dto.CursorPage;
+import com.jmair.common.exeption.ConflictException;
 import com.jmair.common.exeption.ForbiddenException;
 import com.jmair.common.exeption.ResourceNotFoundException;
 import com.jmair.common.exeption.UnauthorizedException;
+import com.jmair.common.jfr.DtoMappingEvent;
+import com.jmair.common.util.KeysetCursor;
+import com.jmair.common.viewcount.ViewCounter;
+import com.jmair.common.viewcount.ViewRank;
+import com.jmair.common.viewcount.ViewTarget;
+import com.jmair.common.viewcount.ViewTargetRemovedEvent;
 import com.jmair.secondhand.dto.Used;
 import com.jmair.secondhand.dto.UsedDTO;
+import com.jmair.secondhand.dto.UsedSearchCondition;
+import com.jmair.secondhand.dto.UsedSort;
+import com.jmair.secondhand.dto.UsedSummary;
 import com.jmair.secondhand.entity.UsedEntity;
+import com.jmair.secondhand.entity.UsedImages;
 import com.jmair.secondhand.repository.UsedRepository;
 import lombok.RequiredArgsConstructor;
 
@@ -28,7 +43,10 @@ import lombok.RequiredArgsConstructor;
 public class UsedService {
 
 	private final UsedRepository usedRepository;
-	private final ObjectMapper objectMapper;
+	private final UsedImageStore usedImageStore;
+	private final UsedImageRenditionService usedImageRenditionService;
+	private final ApplicationEventPublisher eventPublisher;
+	private final ViewCounter viewCounter;
 
 	// 등록
 	@Transactional
@@ -42,15 +60,9 @@ public class UsedService {
 			throw new ForbiddenException("등록 권한이 없습니다.");
 		}
 
-		// 이미지 처리: DTO의 이미지 리스트를 JSON 문자열로 변환
-		String imagesJson = "[]";
-		try {
-			if (dto.getUsedImages() != null) {
-				imagesJson = objectMapper.writeValueAsString(dto.getUsedImages());
-			}
-		} catch (Exception e) {
-			throw new IllegalArgumentException("이미지 처리 중 오류가 발생했습니다.");
-		}
+		// 이미지 처리: 이미지는 디스크 저장소에 두고 엔티티에는 이미지 id 목록(JSON)만 저장
+		List<String> imageIds = dto.getUsedImages() == null ? List.of()
+			: dto.getUsedImages().stream().map(usedImageStore::store).toList();
 
 		UsedEntity entity = UsedEntity.builder()
 			.usedName(dto.getUsedName())
@@ -61,17 +73,15 @@ public class UsedService {
 			.usedTime(dto.getUsedTime())
 			.usedState(Used.SALE)
 			.usedNote(dto.getUsedNote())
-			.usedImages(imagesJson)
+			.usedImages(UsedImages.of(imageIds))
 			.build();
 
 		UsedEntity saved = usedRepository.save(entity);
+		// 썸네일/중간 크기는 백그라운드에서 생성
+		usedImageRenditionService.submit(imageIds);
+		eventPublisher.publishEvent(new CatalogChangedEvent(CatalogResponseCache.Catalog.USED));
 
-		List<String> imagesList = new ArrayList<>();
-		try {
-			imagesList = objectMapper.readValue(saved.getUsedImages(), new TypeReference<List<String>>() {});
-		} catch (Exception e) {
-			throw new RuntimeException(e);
-		}
+		List<String> imagesList = imageUrls(saved.getUsedImages());
 
 		return UsedDTO.builder()
 			.usedId(saved.getUsedId())
@@ -90,18 +100,18 @@ public class UsedService {
 			.build();
 	}
 
-	// 전체 조회
+	// 전체 조회 - 목록에는 원본 대신 썸네일 URL 만 내려줌
+	// 목록에 실린 이미지는 캐시된 응답과 함께 보관해 응답마다 절감량을 기록 (recordListing)
 	@Transactional(readOnly = true)
-	public List<UsedDTO> getAllUsedRequests() {
-		return usedRepository.findAll().stream()
-			.filter(entity -> !entity.getUsedState().equals(Used.FALLSE))
-			.map(entity -> {
-				List<String> imagesList = new ArrayList<>();
-				try {
-					imagesList = objectMapper.readValue(entity.getUsedImages(), new TypeReference<List<String>>() {});
-				} catch (Exception e) {
-					throw new RuntimeException(e);
-				}
+	public CatalogResponseCache.Loaded<ListedImages> getAllUsedRequests() {
+		List<String> listedImages = new ArrayList<>();
+		List<UsedEntity> listed = usedRepository.findByUsedStateNot(Used.FALLSE);
+		List<UsedDTO> result = DtoMappingEvent.map(listed, entity -> {
+				List<String> storedImages = storedImages(entity.getUsedImages());
+				listedImages.addAll(storedImages);
+				List<String> imagesList = storedImages.stream()
+					.map(usedImageRenditionService::thumbnailUrl)
+					.collect(Collectors.toList());
 				return UsedDTO.builder()
 					.usedId(entity.getUsedId())
 					.usedName(entity.getUsedName())
@@ -117,7 +127,57 @@ public class UsedService {
 					.usedNote(entity.getUsedNote())
 					.usedImages(imagesList)
 					.build();
-			}).toList();
+			});
+		return new CatalogResponseCache.Loaded<>(result, usedImageRenditionService.listedImages(listedImages));
+	}
+
+	// 전체 목록 응답 한 번의 썸네일 절감량 기록
+	public void recordListing(ListedImages listing) {
+		usedImageRenditionService.recordListing(listing);
+	}
+
+	// 축소본이 없어 원본으로 대신 응답한 이미지 - 대기열이 가득 차 버려졌거나 실패한 축소 작업을 다시 예약
+	public void requestRendition(String originalId) {
+		usedImageRenditionService.submit(List.of(originalId));
+	}
+
+	// 검색 - 제품 유형/가격/연식/상태 필터와 정렬을 SQL 로 처리하고 (정렬 키, id) 키셋으로 페이지 이동
+	@Transactional(readOnly = true)
+	public CursorPage<UsedDTO> searchUsedRequests(UsedSearchCondition condition) {
+		int size = condition.pageSize();
+		Limit limit = Limit.of(size + 1);
+		List<UsedSummary> rows;
+		CursorPage<UsedDTO> page;
+		switch (condition.sort()) {
+			case PRICE_ASC, PRICE_DESC -> {
+				KeysetCursor.NumberPosition position = KeysetCursor.decodeNumber(condition.cursor());
+				Integer cursorPrice = position != null ? cursorPrice(position.value()) : null;
+				Integer cursorId = position != null ? position.id() : null;
+				rows = condition.sort() == UsedSort.PRICE_ASC
+					? usedRepository.findCatalogPriceAsc(Used.FALLSE, condition.state(), condition.productType(),
+						condition.minPrice(), condition.maxPrice(), condition.minYear(), condition.maxYear(),
+						cursorPrice, cursorId, limit)
+					: usedRepository.findCatalogPriceDesc(Used.FALLSE, condition.state(), condition.productType(),
+						condition.minPrice(), condition.maxPrice(), condition.minYear(), condition.maxYear(),
+						cursorPrice, cursorId, limit);
+				page = KeysetCursor.page(rows, size, UsedSummary::usedCost, UsedSummary::usedId, this::toListDTO);
+			}
+			default -> {
+				KeysetCursor.Position position = KeysetCursor.decode(condition.cursor());
+				rows = usedRepository.findCatalogLatest(Used.FALLSE, condition.state(), condition.productType(),
+					condition.minPrice(), condition.maxPrice(), condition.minYear(), condition.maxYear(),
+					position != null ? position.time() : null, position != null ? position.id() : null, limit);
+				page = KeysetCursor.page(rows, size, UsedSummary::usedPostTime, UsedSummary::usedId, this::toListDTO);
+			}
+		}
+		usedImageRenditionService.recordListing(rows.stream().limit(size)
+			.flatMap(row -> storedImages(row.usedImages()).stream()).toList());
+		return page;
+	}
+
+	// 인기 상품 - 메모리의 조회수 순위
+	public List<ViewRank> getPopularUsedRequests(int limit) {
+		return viewCounter.top(ViewTarget.USED, limit);
 	}
 
 	// 상세 조회
@@ -128,12 +188,9 @@ public class UsedService {
 		if (entity.getUsedState().equals(Used.FALLSE)) {
 			throw new ResourceNotFoundException("해당 중고 에어컨은 삭제되었습니다.");
 		}
-		List<String> imagesList = new ArrayList<>();
-		try {
-			imagesList = objectMapper.readValue(entity.getUsedImages(), new TypeReference<List<String>>() {});
-		} catch (Exception e) {
-			throw new RuntimeException(e);
-		}
+		// 조회수는 메모리에서만 증가시키고 주기적으로 모아서 반영
+		viewCounter.increment(ViewTarget.USED, usedId);
+		List<String> storedImages = storedImages(entity.getUsedImages());
 		return UsedDTO.builder()
 			.usedId(entity.getUsedId())
 			.usedName(entity.getUsedName())
@@ -147,7 +204,8 @@ public class UsedService {
 			.usedEndTime(entity.getUsedEndTime())
 			.usedState(entity.getUsedState())
 			.usedNote(entity.getUsedNote())
-			.usedImages(imagesList)
+			.usedImages(storedImages.stream().map(usedImageStore::toUrl).collect(Collectors.toList()))
+			.usedMediumImages(storedImages.stream().map(usedImageRenditionService::mediumUrl).collect(Collectors.toList()))
 			.registeredUserId(entity.getRegisteredUserId())
 			.build();
 	}
@@ -163,6 +221,10 @@ public class UsedService {
 			(currentUser.get().getUserGrade() == UserGrade.SUPERADMIN ||
 				currentUser.get().getUserGrade() == UserGrade.ADMIN);
 
+		// 이미지를 함께 보낸 경우에만 교체 (새 이미지는 저장소에 저장 후 축소본 생성 예약)
+		List<String> imageIds = dto.getUsedImages() == null ? null
+			: dto.getUsedImages().stream().map(usedImageStore::store).toList();
+
 		UsedEntity updatedEntity;
 
 		updatedEntity = entity.toBuilder()
@@ -175,9 +237,17 @@ public class UsedService {
 			.usedEditTime(LocalDateTime.now())
 			.usedState(dto.getUsedState())
 			.usedNote(dto.getUsedNote())
+			.usedImages(imageIds != null ? UsedImages.of(imageIds) : entity.getUsedImages())
 			.build();
 
-		UsedEntity updated = usedRepository.save(entity);
+		UsedEntity updated = usedRepository.save(updatedEntity);
+		if (updated.getUsedState() == Used.FALLSE) {
+			eventPublisher.publishEvent(new ViewTargetRemovedEvent(ViewTarget.USED, usedId));
+		}
+		if (imageIds != null) {
+			usedImageRenditionService.submit(imageIds);
+		}
+		eventPublisher.publishEvent(new CatalogChangedEvent(CatalogResponseCache.Catalog.USED));
 
 		return UsedDTO.builder()
 			.usedId(updated.getUsedId())
@@ -192,38 +262,30 @@ public class UsedService {
 			.usedEndTime(updated.getUsedEndTime())
 			.usedState(updated.getUsedState())
 			.usedNote(updated.getUsedNote())
+			.usedImages(imageUrls(updated.getUsedImages()))
 			.build();
 	}
 
-	// 유저 구매요청
+	// 유저 구매요청 - 조회 후 상태를 확인해 저장하면 동시 구매자가 모두 성공할 수 있으므로
+	// 조건부 UPDATE 한 번으로 예약하고, 먼저 예약된 경우 409 로 응답
 	@Transactional
-	public UsedDTO updateUsedSaleRequest(Integer usedId, UsedDTO dto, Optional<User> currentUser) {
+	public UsedDTO updateUsedSaleRequest(Integer usedId, Optional<User> currentUser) {
 		if (currentUser.isEmpty()) {
 			throw new UnauthorizedException("로그인한 사용자 정보가 없습니다.");
 		}
 		User user = currentUser.get();
 
-		UsedEntity entity = usedRepository.findById(usedId)
-			.orElseThrow(() -> new ResourceNotFoundException("중고 에어컨을 찾을 수 없습니다."));
+		int reserved = usedRepository.reserveIfOnSale(usedId, user.getId(), LocalDateTime.now());
 
-		if (!entity.getUsedState().equals(Used.SALE)) {
-			throw new ForbiddenException("판매 중인 상품이 아닙니다.");
+		UsedEntity updated = usedRepository.findById(usedId)
+			.orElseThrow(() -> new ResourceNotFoundException("중고 에어컨을 찾을 수 없습니다."));
+		if (reserved == 0) {
+			if (updated.getUsedState().equals(Used.FALLSE)) {
+				throw new ResourceNotFoundException("해당 중고 에어컨은 삭제되었습니다.");
+			}
+			throw new ConflictException("이미 예약되었거나 판매 중인 상품이 아닙니다.");
 		}
-
-		UsedEntity updatedEntity = entity.toBuilder()
-			.usedName(dto.getUsedName())
-			.usedCost(dto.getUsedCost())
-			.productType(dto.getProductType())
-			.usedDescription(dto.getUsedDescription())
-			.usedYear(dto.getUsedYear())
-			.usedTime(dto.getUsedTime())
-			.usedEditTime(LocalDateTime.now())
-			.usedState(Used.RESERVATION)
-			.usedNote(dto.getUsedNote())
-			.registeredUserId(user.getId())
-			.build();
-
-		UsedEntity updated = usedRepository.save(updatedEntity);
+		eventPublisher.publishEvent(new CatalogChangedEvent(CatalogResponseCache.Catalog.USED));
 
 		return UsedDTO.builder()
 			.usedId(updated.getUsedId())
@@ -255,6 +317,32 @@ public class UsedService {
 		entity.setUsedState(Used.FALLSE);
 		entity.setUsedEndTime(LocalDateTime.now());
 		usedRepository.save(entity);
+		eventPublisher.publishEvent(new ViewTargetRemovedEvent(ViewTarget.USED, usedId));
+		eventPublisher.publishEvent(new CatalogChangedEvent(CatalogResponseCache.Catalog.USED));
 	}
 
+	// 목록 응답은 썸네일 URL
+	private UsedDTO toListDTO(UsedSummary row) {
+		return row.toDTO(storedImages(row.usedImages()).stream()
+			.map(usedImageRenditionService::thumbnailUrl)
+			.collect(Collectors.toList()));
+	}
+
+	// 가격 커서는 int 범위여야 함 (변조된 커서는 400)
+	private static Integer cursorPrice(long value) {
+		if (value < Integer.MIN_VALUE || value > Integer.MAX_VALUE) {
+			throw new IllegalArgumentException("잘못된 커서입니다.");
+		}
+		return (int) value;
+	}
+
+	// 저장된 이미지 id 목록 -> 원본 조회 URL 목록 (이전에 저장된 data URL 은 그대로 반환)
+	private List<String> imageUrls(UsedImages usedImages) {
+		return storedImages(usedImages).stream().map(usedImageStore::toUrl).collect(Collectors.toList());
+	}
+
+	// 이미지 목록은 이 시점에 처음 파싱됨 (UsedImages 가 결과를 보관)
+	private List<String> storedImages(UsedImages usedImages) {
+		return usedImages == null ? List.of() : usedImages.ids();
+	}
 }
@@ -0,0 +1,121 @@
+package com.jmair.as.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.Session;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.jmair.as.dto.ASStatus;
+import com.jmair.as.dto.ASSummary;
+import com.jmair.as.entity.ASEntity;
+import com.jmair.auth.dto.UserGrade;
+import com.jmair.common.dto.CursorPage;
+import com.jmair.common.dto.ListCondition;
+import com.jmair.common.util.KeysetCursor;
+
+// 관리자 목록 키셋 페이지네이션: 삭제 건 제외, 최신순, 커서 이어받기, 상태/기간 필터, 요약 프로젝션
+@DataJpaTest
+class ASRepositoryTest {
+
+	private static final LocalDateTime BASE = LocalDateTime.of(2025, 6, 1, 9, 0);
+
+	@Autowired
+	private ASRepository asRepository;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private TestEntityManager entityManager;
+
+	@BeforeEach
+	void setUp() {
+		for (int i = 0; i < 25; i++) {
+			ASStatus status = i % 5 == 0 ? ASStatus.FALLSE : (i % 2 == 0 ? ASStatus.COMPLETION : ASStatus.REQUEST);
+			ASEntity saved = asRepository.save(ASEntity.builder()
+				.asName("고객" + i)
+				.asNumber("010-0000-" + i)
+				.asAdress("서울")
+				.asDetailAdress("101호")
+				.asPassword("hash")
+				.asFirstReservationTime("오전")
+				.asStatus(status)
+				.registeredUserGrade(UserGrade.NOUSER)
+				.build());
+			// @CreationTimestamp 값을 덮어써 시간 순서를 고정 (같은 시간대 행도 포함)
+			jdbcTemplate.update("UPDATE asentity SET as_start_time = ? WHERE as_id = ?",
+				BASE.plusDays(i / 2), saved.getAsId());
+		}
+		// 영속성 컨텍스트에 남은 생성 시각 대신 DB 값을 읽도록 비움
+		entityManager.clear();
+	}
+
+	@Test
+	void pagesThroughAllNonDeletedRowsNewestFirst() {
+		List<Integer> seen = new ArrayList<>();
+		String cursor = null;
+		int pages = 0;
+		do {
+			CursorPage<Integer> page = page(new ListCondition<>(null, null, null, cursor, 7));
+			seen.addAll(page.content());
+			cursor = page.nextCursor();
+			assertThat(++pages).isLessThanOrEqualTo(3);
+		} while (cursor != null);
+
+		List<ASEntity> expected = asRepository.findAll().stream()
+			.filter(entity -> entity.getAsStatus() != ASStatus.FALLSE)
+			.sorted((a, b) -> {
+				int byTime = b.getAsStartTime().compareTo(a.getAsStartTime());
+				return byTime != 0 ? byTime : b.getAsId().compareTo(a.getAsId());
+			})
+			.toList();
+		assertThat(seen).containsExactlyElementsOf(expected.stream().map(ASEntity::getAsId).toList());
+	}
+
+	@Test
+	void filtersByStatusAndDateRange() {
+		CursorPage<Integer> page = page(new ListCondition<>(ASStatus.REQUEST,
+			LocalDate.of(2025, 6, 2), LocalDate.of(2025, 6, 4), null, 100));
+
+		assertThat(page.hasNext()).isFalse();
+		assertThat(page.content()).allSatisfy(id -> {
+			ASEntity entity = asRepository.findById(id).orElseThrow();
+			assertThat(entity.getAsStatus()).isEqualTo(ASStatus.REQUEST);
+			assertThat(entity.getAsStartTime()).isBetween(BASE.plusDays(1), BASE.plusDays(3));
+		}).isNotEmpty();
+	}
+
+	@Test
+	void adminPageReadsSummaryWithoutManagingEntities() {
+		List<ASSummary> rows = asRepository.findAdminPage(ASStatus.FALLSE, null, null, null, null, null, Limit.of(5));
+
+		assertThat(rows).hasSize(5).allSatisfy(row -> {
+			assertThat(row.asId()).isNotNull();
+			assertThat(row.asName()).startsWith("고객");
+			assertThat(row.asStatus()).isNotEqualTo(ASStatus.FALLSE);
+		});
+		// 프로젝션 조회는 영속성 컨텍스트에 엔티티를 등록하지 않음
+		Session session = entityManager.getEntityManager().unwrap(Session.class);
+		assertThat(session.getStatistics().getEntityCount()).isZero();
+	}
+
+	private CursorPage<Integer> page(ListCondition<ASStatus> condition) {
+		KeysetCursor.Position position = condition.position();
+		int size = condition.pageSize();
+		List<ASSummary> rows = asRepository.findAdminPage(ASStatus.FALLSE, condition.status(), condition.fromTime(),
+			condition.toTime(), position != null ? position.time() : null, position != null ? position.id() : null,
+			Limit.of(size + 1));
+		return KeysetCursor.page(rows, size, ASSummary::asStartTime, ASSummary::asId, ASSummary::asId);
+	}
+}
@@ -0,0 +1,108 @@
+package com.jmair.as.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.OutputStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.jmair.auth.service.GuestTicketService;
+import com.jmair.auth.service.PasswordHashingService;
+import com.jmair.auth.service.UserService;
+import com.jmair.common.dto.ExportFormat;
+
+// 100만 건 내보내기가 작은 힙(exportTest 태스크의 maxHeapSize)에서 끝까지 기록되는지 확인
+// 실행: ./gradlew exportTest
+@Tag("export")
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@TestPropertySource(properties = {
+	"spring.datasource.url=jdbc:h2:file:./build/export-test/jmair;LAZY_QUERY_EXECUTION=1",
+	"spring.jpa.hibernate.ddl-auto=create-drop",
+	"spring.jpa.show-sql=false"
+})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import(ASService.class)
+class ASServiceExportTest {
+
+	private static final int ROWS = 1_000_000;
+	private static final int BATCH = 100_000;
+	private static final long MAX_HEAP = 256L * 1024 * 1024;
+
+	@Autowired
+	private ASService asService;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@MockitoBean
+	private PasswordHashingService passwordHashingService;
+
+	@MockitoBean
+	private GuestTicketService guestTicketService;
+
+	@MockitoBean
+	private UserService userService;
+
+	@BeforeEach
+	void setUp() {
+		jdbcTemplate.update("DELETE FROM asentity");
+		// 10건 중 1건은 삭제 상태 - 내보내기에서 제외
+		for (int from = 1; from <= ROWS; from += BATCH) {
+			jdbcTemplate.update("""
+				INSERT INTO asentity (as_name, as_number, as_email, product_type, as_description, as_adress,
+				    as_detail_adress, as_password, as_first_reservation_time, as_start_time, as_status,
+				    registered_user_grade, as_note)
+				SELECT '고객' || X, '010-0000-' || X, 'guest' || X || '@example.com', '벽걸이형', REPEAT('x', 200),
+				    '서울시 강남구 테헤란로 ' || X, X || '호', 'hash', '오전',
+				    TIMESTAMP '2025-01-01 00:00:00' + X * INTERVAL '1' SECOND,
+				    CASE WHEN MOD(X, 10) = 0 THEN 'FALLSE' ELSE 'REQUEST' END, 'NOUSER', REPEAT('n', 200)
+				FROM SYSTEM_RANGE(?, ?)
+				""", from, from + BATCH - 1);
+		}
+	}
+
+	@Test
+	void exportsMillionRowsUnderSmallHeap() throws Exception {
+		assertThat(Runtime.getRuntime().maxMemory()).isLessThanOrEqualTo(MAX_HEAP);
+		LineCountingOutputStream out = new LineCountingOutputStream();
+
+		long written = asService.exportASRequests(ExportFormat.CSV, out);
+
+		assertThat(written).isEqualTo(ROWS - ROWS / 10);
+		assertThat(out.lines).isEqualTo(written + 1);
+	}
+
+	// 내용은 버리고 줄 수만 셈
+	private static class LineCountingOutputStream extends OutputStream {
+
+		private long lines;
+
+		@Override
+		public void write(int b) {
+			if (b == '\n') {
+				lines++;
+			}
+		}
+
+		@Override
+		public void write(byte[] b, int off, int len) {
+			for (int i = off; i < off + len; i++) {
+				if (b[i] == '\n') {
+					lines++;
+				}
+			}
+		}
+	}
+}
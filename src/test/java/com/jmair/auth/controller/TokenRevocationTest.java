@@ -0,0 +1,153 @@
+package com.jmair.auth.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.Date;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import com.jmair.auth.dto.UserGrade;
+import com.jmair.auth.entity.User;
+import com.jmair.auth.repository.UserRepository;
+import com.jmair.auth.service.CachingUserLookupService;
+import com.jmair.auth.service.PasswordHashingService;
+import com.jmair.auth.service.TokenService;
+import com.jmair.auth.service.UserChangedEvent;
+import com.jmair.auth.service.UserService;
+import com.jmair.auth.util.JwtAuthenticationFilter;
+import com.jmair.auth.util.JwtKeyRegistry;
+import com.jmair.auth.util.JwtUtil;
+import com.jmair.auth.util.TokenVersionCache;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.http.Cookie;
+
+// 탈퇴 후에는 액세스 토큰도, 리프레시 토큰을 이용한 재발급도 거부되는지 확인 (기본/stateless 모드)
+class TokenRevocationTest {
+
+	private static final String SECRET = "test-secret-key-test-secret-key-test-secret-key";
+
+	private final JwtKeyRegistry keyRegistry = new JwtKeyRegistry(SECRET, "k1", "");
+	private final JwtUtil jwtUtil = new JwtUtil(keyRegistry);
+	private final UserRepository userRepository = mock(UserRepository.class);
+	private final User member = member();
+
+	private TokenVersionCache tokenVersionCache;
+	private CachingUserLookupService userLookupService;
+	private UserService userService;
+	private UserController controller;
+
+	@AfterEach
+	void tearDown() {
+		SecurityContextHolder.clearContext();
+	}
+
+	@ParameterizedTest(name = "stateless={0}")
+	@ValueSource(booleans = {false, true})
+	void deletedUserCannotAuthenticateOrRefresh(boolean stateless) throws Exception {
+		JwtAuthenticationFilter filter = setUp(stateless);
+		String accessToken = jwtUtil.generateAccessToken(member);
+		String refreshToken = jwtUtil.generateRefreshToken(member);
+		String expiredToken = expiredAccessToken(member);
+
+		assertThat(current(filter, accessToken, refreshToken).getStatusCode()).isEqualTo(HttpStatus.OK);
+		MockHttpServletResponse refreshed = new MockHttpServletResponse();
+		assertThat(current(filter, expiredToken, refreshToken, refreshed).getStatusCode()).isEqualTo(HttpStatus.OK);
+		assertThat(refreshed.getHeaders("Set-Cookie")).hasSize(2);
+
+		userService.deleteUser("member");
+
+		assertThat(current(filter, accessToken, refreshToken).getStatusCode()).isEqualTo(HttpStatus.UNAUTHORIZED);
+		MockHttpServletResponse rejected = new MockHttpServletResponse();
+		assertThat(current(filter, expiredToken, refreshToken, rejected).getStatusCode())
+			.isEqualTo(HttpStatus.UNAUTHORIZED);
+		assertThat(rejected.getHeaders("Set-Cookie")).isEmpty();
+	}
+
+	@Test
+	void refreshTokenWithoutVersionIsRejected() throws Exception {
+		JwtAuthenticationFilter filter = setUp(false);
+		String legacyRefreshToken = Jwts.builder()
+			.setHeaderParam("kid", keyRegistry.getActiveKeyId())
+			.setSubject(member.getUserLogin())
+			.setIssuedAt(new Date())
+			.setExpiration(new Date(System.currentTimeMillis() + 60_000))
+			.signWith(keyRegistry.getActiveKey(), SignatureAlgorithm.HS256)
+			.compact();
+
+		assertThat(current(filter, expiredAccessToken(member), legacyRefreshToken).getStatusCode())
+			.isEqualTo(HttpStatus.UNAUTHORIZED);
+	}
+
+	private JwtAuthenticationFilter setUp(boolean stateless) {
+		when(userRepository.findByUserLogin("member")).thenReturn(Optional.of(member));
+		when(userRepository.findTokenVersionByUserLogin("member"))
+			.thenAnswer(invocation -> Optional.of(member.getTokenVersion()));
+		tokenVersionCache = new TokenVersionCache(userRepository, 30, 100);
+		// 트랜잭션이 없으므로 이벤트는 발행 즉시 캐시에 전달 (fallbackExecution 과 같은 동작)
+		userService = new UserService(userRepository, mock(PasswordHashingService.class), jwtUtil, event -> {
+			if (event instanceof UserChangedEvent changed) {
+				tokenVersionCache.onUserChanged(changed);
+				userLookupService.onUserChanged(changed);
+			}
+		});
+		userLookupService = new CachingUserLookupService(userService, new SimpleMeterRegistry(), 100, 60);
+		controller = new UserController(userService, new TokenService(jwtUtil, userLookupService),
+			userLookupService, jwtUtil);
+		return new JwtAuthenticationFilter(jwtUtil, userLookupService, tokenVersionCache, stateless,
+			new SimpleMeterRegistry());
+	}
+
+	private ResponseEntity<?> current(JwtAuthenticationFilter filter, String accessToken, String refreshToken)
+		throws Exception {
+		return current(filter, accessToken, refreshToken, new MockHttpServletResponse());
+	}
+
+	private ResponseEntity<?> current(JwtAuthenticationFilter filter, String accessToken, String refreshToken,
+		MockHttpServletResponse response) throws Exception {
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/user/current");
+		request.setCookies(new Cookie("access_token", accessToken), new Cookie("refresh_token", refreshToken));
+		AtomicReference<ResponseEntity<?>> result = new AtomicReference<>();
+		filter.doFilter(request, response,
+			(req, res) -> result.set(controller.getCurrentUser(request, response)));
+		return result.get();
+	}
+
+	private String expiredAccessToken(User user) {
+		return Jwts.builder()
+			.setHeaderParam("kid", keyRegistry.getActiveKeyId())
+			.setSubject(user.getUserLogin())
+			.claim(JwtUtil.CLAIM_ROLE, user.getUserGrade().toString())
+			.claim(JwtUtil.CLAIM_USER_ID, user.getId())
+			.claim(JwtUtil.CLAIM_USER_NAME, user.getUserName())
+			.claim(JwtUtil.CLAIM_TOKEN_VERSION, user.getTokenVersion())
+			.setIssuedAt(new Date(System.currentTimeMillis() - 120_000))
+			.setExpiration(new Date(System.currentTimeMillis() - 60_000))
+			.signWith(keyRegistry.getActiveKey(), SignatureAlgorithm.HS256)
+			.compact();
+	}
+
+	private static User member() {
+		User user = new User();
+		user.setId(1);
+		user.setUserLogin("member");
+		user.setUserName("member");
+		user.setUserGrade(UserGrade.USER);
+		user.setStatus(true);
+		return user;
+	}
+}
@@ -0,0 +1,141 @@
+package com.jmair.auth.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.EnableTransactionManagement;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.jmair.auth.entity.User;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+// 두 번째 조회는 캐시 적중, 커밋된 UserChangedEvent 는 해당 회원만 무효화하는지 확인
+@SpringJUnitConfig(CachingUserLookupServiceTest.Config.class)
+class CachingUserLookupServiceTest {
+
+	@Configuration
+	@EnableTransactionManagement
+	static class Config {
+		@Bean
+		UserLookupService delegate() {
+			return mock(UserLookupService.class);
+		}
+
+		@Bean
+		MeterRegistry meterRegistry() {
+			return new SimpleMeterRegistry();
+		}
+
+		@Bean
+		CachingUserLookupService cachingUserLookupService(UserLookupService delegate, MeterRegistry meterRegistry) {
+			return new CachingUserLookupService(delegate, meterRegistry, 100, 60);
+		}
+
+		@Bean
+		DataSource dataSource() {
+			return new DriverManagerDataSource("jdbc:h2:mem:user-lookup-cache");
+		}
+
+		@Bean
+		PlatformTransactionManager transactionManager(DataSource dataSource) {
+			return new DataSourceTransactionManager(dataSource);
+		}
+	}
+
+	@Autowired
+	private UserLookupService delegate;
+
+	@Autowired
+	private CachingUserLookupService cache;
+
+	@Autowired
+	private MeterRegistry meterRegistry;
+
+	@Autowired
+	private ApplicationEventPublisher eventPublisher;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	@BeforeEach
+	void setUp() {
+		clearInvocations(delegate);
+		cache.invalidate("a");
+		cache.invalidate("b");
+		when(delegate.getUserByLogin("a")).thenAnswer(invocation -> user("a"));
+		when(delegate.getUserByLogin("b")).thenAnswer(invocation -> user("b"));
+	}
+
+	@Test
+	void secondLookupIsCacheHit() {
+		double hits = hits();
+
+		User first = cache.getUserByLogin("a");
+		User second = cache.getUserByLogin("a");
+
+		assertThat(second).isSameAs(first);
+		verify(delegate, times(1)).getUserByLogin("a");
+		assertThat(hits() - hits).isEqualTo(1);
+	}
+
+	@Test
+	void committedChangeInvalidatesOnlyThatUser() {
+		User a = cache.getUserByLogin("a");
+		User b = cache.getUserByLogin("b");
+
+		new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+			eventPublisher.publishEvent(new UserChangedEvent("a"));
+			// 커밋 전에는 기존 값 유지 (다시 캐시되는 것을 막기 위해 커밋 이후에 무효화)
+			assertThat(cache.getUserByLogin("a")).isSameAs(a);
+		});
+
+		assertThat(cache.getUserByLogin("a")).isNotSameAs(a);
+		assertThat(cache.getUserByLogin("b")).isSameAs(b);
+		verify(delegate, times(2)).getUserByLogin("a");
+		verify(delegate, times(1)).getUserByLogin("b");
+	}
+
+	@Test
+	void rolledBackChangeKeepsCachedUser() {
+		User a = cache.getUserByLogin("a");
+
+		new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+			eventPublisher.publishEvent(new UserChangedEvent("a"));
+			status.setRollbackOnly();
+		});
+
+		assertThat(cache.getUserByLogin("a")).isSameAs(a);
+		verify(delegate, times(1)).getUserByLogin("a");
+	}
+
+	private double hits() {
+		return meterRegistry.get("cache.gets").tag("cache", "userLookup").tag("result", "hit")
+			.functionCounter().count();
+	}
+
+	private static User user(String login) {
+		User user = new User();
+		user.setUserLogin(login);
+		user.setUserName(login);
+		user.setStatus(true);
+		return user;
+	}
+}
@@ -0,0 +1,58 @@
+package com.jmair.auth.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.junit.jupiter.api.Test;
+
+import com.jmair.common.exeption.UnauthorizedException;
+
+// 비밀번호 확인은 한 번만, 이후에는 티켓으로 통과하는지 확인
+class GuestTicketServiceTest {
+
+	private static final String SECRET = "test-secret-key-test-secret-key-test-secret-key";
+	private static final String HASH = "$2a$12$storedhash";
+
+	private final PasswordHashingService passwordHashingService = mock(PasswordHashingService.class);
+	private final GuestTicketService service = new GuestTicketService(passwordHashingService, SECRET, "", 600);
+
+	@Test
+	void passwordCheckIssuesTicketThatSkipsFurtherHashing() {
+		when(passwordHashingService.matches("1234", HASH)).thenReturn(true);
+
+		String ticket = service.authorize("as", 7, HASH, "1234", null);
+		assertThat(ticket).isNotNull();
+
+		assertThat(service.authorize("as", 7, HASH, null, ticket)).isNull();
+		assertThat(service.authorize("as", 7, HASH, null, ticket)).isNull();
+		verify(passwordHashingService, times(1)).matches(any(), any());
+	}
+
+	@Test
+	void ticketIsBoundToDomainIdAndStoredHash() {
+		String ticket = service.issue("as", 7, HASH);
+
+		assertThat(service.verify(ticket, "as", 7, HASH)).isTrue();
+		assertThat(service.verify(ticket, "clean", 7, HASH)).isFalse();
+		assertThat(service.verify(ticket, "as", 8, HASH)).isFalse();
+		assertThat(service.verify(ticket, "as", 7, "$2a$12$changedhash")).isFalse();
+		assertThat(service.verify(ticket.substring(0, ticket.length() - 1) + "x", "as", 7, HASH)).isFalse();
+	}
+
+	@Test
+	void expiredTicketFallsBackToPassword() {
+		GuestTicketService expiring = new GuestTicketService(passwordHashingService, SECRET, "", -1);
+		String ticket = expiring.issue("install", 3, HASH);
+
+		assertThat(expiring.verify(ticket, "install", 3, HASH)).isFalse();
+		assertThatThrownBy(() -> expiring.authorize("install", 3, HASH, null, ticket))
+			.isInstanceOf(UnauthorizedException.class);
+		verify(passwordHashingService, never()).matches(any(), any());
+	}
+}
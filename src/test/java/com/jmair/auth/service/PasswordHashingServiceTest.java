@@ -0,0 +1,88 @@
+package com.jmair.auth.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import com.jmair.common.exeption.ServiceUnavailableException;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+// 스레드 1개, 대기열 1개로 설정해 대기열 초과 시 바로 503 예외가 나는지 확인
+class PasswordHashingServiceTest {
+
+	private final CountDownLatch release = new CountDownLatch(1);
+	private final CountDownLatch started = new CountDownLatch(1);
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+	private final PasswordHashingService service = new PasswordHashingService(new BlockingEncoder(), meterRegistry,
+		1, 1, 5000);
+
+	@AfterEach
+	void tearDown() {
+		release.countDown();
+		service.shutdown();
+	}
+
+	@Test
+	void rejectsWhenQueueIsFull() throws Exception {
+		CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> service.encode("first"));
+		assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+		CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> service.encode("second"));
+		waitUntilQueued();
+
+		assertThatThrownBy(() -> service.encode("third")).isInstanceOf(ServiceUnavailableException.class);
+		assertThat(meterRegistry.get("jmair.password.rejected").tag("reason", "queue_full").counter().count())
+			.isEqualTo(1);
+
+		release.countDown();
+		assertThat(running.get(5, TimeUnit.SECONDS)).isEqualTo("hashed:first");
+		assertThat(queued.get(5, TimeUnit.SECONDS)).isEqualTo("hashed:second");
+		assertThat(meterRegistry.get("jmair.password.hash").tag("operation", "encode").timer().count())
+			.isEqualTo(2);
+	}
+
+	@Test
+	void propagatesEncoderExceptions() {
+		release.countDown();
+		assertThatThrownBy(() -> service.matches(null, "hashed:x")).isInstanceOf(IllegalArgumentException.class);
+		assertThat(meterRegistry.get("jmair.password.hash").tags("operation", "matches", "outcome", "error")
+			.timer().count()).isEqualTo(1);
+	}
+
+	private void waitUntilQueued() throws InterruptedException {
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+		while (meterRegistry.get("jmair.password.queue.depth").gauge().value() < 1) {
+			assertThat(System.nanoTime()).isLessThan(deadline);
+			Thread.sleep(5);
+		}
+	}
+
+	private class BlockingEncoder implements PasswordEncoder {
+
+		@Override
+		public String encode(CharSequence rawPassword) {
+			started.countDown();
+			try {
+				release.await();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			return "hashed:" + rawPassword;
+		}
+
+		@Override
+		public boolean matches(CharSequence rawPassword, String encodedPassword) {
+			if (rawPassword == null) {
+				throw new IllegalArgumentException("rawPassword cannot be null");
+			}
+			return encodedPassword.equals("hashed:" + rawPassword);
+		}
+	}
+}
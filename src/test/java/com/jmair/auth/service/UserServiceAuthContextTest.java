@@ -0,0 +1,130 @@
+package com.jmair.auth.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import com.jmair.auth.dto.UserGrade;
+import com.jmair.auth.dto.response.EngineerApplyDTO;
+import com.jmair.auth.dto.response.UserResponseDTO;
+import com.jmair.auth.entity.User;
+import com.jmair.auth.repository.UserRepository;
+import com.jmair.auth.util.JwtAuthenticationFilter;
+import com.jmair.auth.util.JwtKeyRegistry;
+import com.jmair.auth.util.JwtUtil;
+import com.jmair.auth.util.TokenVersionCache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+
+// 한 요청에서 쿠키 확인, 토큰 검증, 회원 조회가 각각 한 번만 일어나는지 확인
+class UserServiceAuthContextTest {
+
+	private static final String SECRET = "test-secret-key-test-secret-key-test-secret-key";
+
+	private JwtUtil jwtUtil;
+	private UserLookupService userLookupService;
+	private UserRepository userRepository;
+	private UserService userService;
+	private JwtAuthenticationFilter filter;
+
+	@BeforeEach
+	void setUp() {
+		jwtUtil = spy(new JwtUtil(new JwtKeyRegistry(SECRET, "k1", "")));
+		userLookupService = mock(UserLookupService.class);
+		userRepository = mock(UserRepository.class);
+		userService = new UserService(userRepository, mock(PasswordHashingService.class), jwtUtil,
+			mock(ApplicationEventPublisher.class));
+		filter = new JwtAuthenticationFilter(jwtUtil, userLookupService, mock(TokenVersionCache.class), false,
+			new SimpleMeterRegistry());
+	}
+
+	@AfterEach
+	void tearDown() {
+		SecurityContextHolder.clearContext();
+	}
+
+	@Test
+	void getAllUsersForAdminVerifiesTokenOncePerRequest() throws Exception {
+		User admin = user("admin", UserGrade.ADMIN);
+		when(userLookupService.getUserByLogin("admin")).thenReturn(admin);
+		when(userRepository.findAll()).thenReturn(List.of(admin));
+		MockHttpServletRequest request = requestWithToken(admin);
+
+		AtomicReference<List<UserResponseDTO>> result = new AtomicReference<>();
+		filter.doFilter(request, new MockHttpServletResponse(),
+			chain(req -> result.set(userService.getAllUsersForAdmin(req))));
+
+		assertThat(result.get()).hasSize(1);
+		verify(request, times(1)).getCookies();
+		verify(jwtUtil, times(1)).parseClaims(anyString());
+		verify(userLookupService, times(1)).getUserByLogin("admin");
+		verify(userRepository, never()).findByUserLogin(any());
+	}
+
+	@Test
+	void applyForEngineerUpdatesWithoutReloadingUser() throws Exception {
+		User member = user("member", UserGrade.USER);
+		when(userLookupService.getUserByLogin("member")).thenReturn(member);
+		when(userRepository.applyForEngineer(eq("member"), any())).thenReturn(1);
+		MockHttpServletRequest request = requestWithToken(member);
+
+		AtomicReference<EngineerApplyDTO> result = new AtomicReference<>();
+		filter.doFilter(request, new MockHttpServletResponse(),
+			chain(req -> result.set(userService.applyForEngineer(req))));
+
+		assertThat(result.get().getUserGrade()).isEqualTo(UserGrade.WAITING);
+		verify(request, times(1)).getCookies();
+		verify(jwtUtil, times(1)).parseClaims(anyString());
+		verify(userLookupService, times(1)).getUserByLogin("member");
+		verify(userRepository, never()).findByUserLogin(any());
+	}
+
+	private MockHttpServletRequest requestWithToken(User user) {
+		String token = jwtUtil.generateAccessToken(user);
+		clearInvocations(jwtUtil);
+		MockHttpServletRequest request = spy(new MockHttpServletRequest());
+		request.setCookies(new Cookie("access_token", token));
+		return request;
+	}
+
+	private static User user(String login, UserGrade grade) {
+		User user = new User();
+		user.setId(1);
+		user.setUserLogin(login);
+		user.setUserName(login);
+		user.setUserGrade(grade);
+		user.setStatus(true);
+		return user;
+	}
+
+	private static FilterChain chain(RequestHandler handler) {
+		return (req, res) -> handler.handle((HttpServletRequest) req);
+	}
+
+	@FunctionalInterface
+	private interface RequestHandler {
+		void handle(HttpServletRequest request);
+	}
+}
@@ -0,0 +1,51 @@
+package com.jmair.auth.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import com.jmair.auth.repository.UserRepository;
+import com.jmair.auth.service.UserChangedEvent;
+
+// 버전은 캐시에서 읽고, 커밋 이벤트를 받은 회원만 다시 조회하는지 확인
+class TokenVersionCacheTest {
+
+	private final UserRepository userRepository = mock(UserRepository.class);
+	private final TokenVersionCache cache = new TokenVersionCache(userRepository, 30, 100);
+
+	@Test
+	void cachesVersionUntilUserChangedEvent() {
+		AtomicInteger storedVersion = new AtomicInteger(3);
+		when(userRepository.findTokenVersionByUserLogin("member"))
+			.thenAnswer(invocation -> Optional.of(storedVersion.get()));
+		when(userRepository.findTokenVersionByUserLogin("other")).thenReturn(Optional.of(7));
+
+		assertThat(cache.currentVersion("member")).isEqualTo(3);
+		assertThat(cache.currentVersion("other")).isEqualTo(7);
+
+		// 커밋 전(또는 롤백된) 변경은 캐시에 반영되지 않음
+		storedVersion.set(4);
+		assertThat(cache.currentVersion("member")).isEqualTo(3);
+
+		cache.onUserChanged(new UserChangedEvent("member"));
+
+		assertThat(cache.currentVersion("member")).isEqualTo(4);
+		assertThat(cache.currentVersion("other")).isEqualTo(7);
+		verify(userRepository, times(2)).findTokenVersionByUserLogin("member");
+		verify(userRepository, times(1)).findTokenVersionByUserLogin("other");
+	}
+
+	@Test
+	void unknownUserNeverMatches() {
+		when(userRepository.findTokenVersionByUserLogin("ghost")).thenReturn(Optional.empty());
+
+		assertThat(cache.currentVersion("ghost")).isNegative();
+	}
+}
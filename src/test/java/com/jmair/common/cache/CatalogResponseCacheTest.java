@@ -0,0 +1,174 @@
+package com.jmair.common.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+// 캐시 적중 시 조회 생략, If-None-Match 일치 시 304, 목록별 무효화, 조회 도중 무효화된 응답은 저장하지 않음
+// 동시 미적중은 한 번만 조회, 본문을 내려준 응답마다 그 본문과 함께 저장된 attachment 전달
+class CatalogResponseCacheTest {
+
+	private SimpleMeterRegistry meterRegistry;
+	private CatalogResponseCache cache;
+	private AtomicInteger loads;
+
+	@BeforeEach
+	void setUp() {
+		meterRegistry = new SimpleMeterRegistry();
+		cache = new CatalogResponseCache(new ObjectMapper(), meterRegistry);
+		loads = new AtomicInteger();
+	}
+
+	@Test
+	void servesCachedBytesAndAnswersIfNoneMatchWithoutLoading() {
+		ResponseEntity<byte[]> first = respond(CatalogResponseCache.Catalog.USED, null);
+		String etag = first.getHeaders().getETag();
+
+		ResponseEntity<byte[]> second = respond(CatalogResponseCache.Catalog.USED, null);
+		ResponseEntity<byte[]> revalidated = respond(CatalogResponseCache.Catalog.USED, etag);
+
+		assertThat(first.getStatusCode()).isEqualTo(HttpStatus.OK);
+		assertThat(new String(first.getBody())).isEqualTo("[\"v1\"]");
+		assertThat(etag).startsWith("\"").endsWith("\"").doesNotStartWith("W/");
+		assertThat(first.getHeaders().getLastModified()).isPositive();
+		assertThat(second.getBody()).isSameAs(first.getBody());
+		assertThat(revalidated.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+		assertThat(revalidated.getBody()).isNull();
+		assertThat(revalidated.getHeaders().getCacheControl()).isEqualTo("no-cache");
+		assertThat(loads).hasValue(1);
+	}
+
+	@Test
+	void invalidatesOnlyChangedCatalog() {
+		String usedEtag = respond(CatalogResponseCache.Catalog.USED, null).getHeaders().getETag();
+		respond(CatalogResponseCache.Catalog.NOTICES, null);
+
+		cache.onCatalogChanged(new CatalogChangedEvent(CatalogResponseCache.Catalog.USED));
+		ResponseEntity<byte[]> reloaded = respond(CatalogResponseCache.Catalog.USED, usedEtag);
+		respond(CatalogResponseCache.Catalog.NOTICES, null);
+
+		assertThat(reloaded.getStatusCode()).isEqualTo(HttpStatus.OK);
+		assertThat(new String(reloaded.getBody())).isEqualTo("[\"v3\"]");
+		assertThat(loads).hasValue(3);
+	}
+
+	@Test
+	void doesNotStoreResponseLoadedBeforeInvalidation() {
+		CatalogResponseCache.CachedResponse stale = cache.get(CatalogResponseCache.Catalog.USED, () -> {
+			// 조회 도중 다른 트랜잭션의 변경이 커밋됨
+			cache.invalidate(CatalogResponseCache.Catalog.USED);
+			return List.of("old");
+		});
+		CatalogResponseCache.CachedResponse fresh = cache.get(CatalogResponseCache.Catalog.USED, () -> List.of("new"));
+
+		assertThat(new String(stale.body())).isEqualTo("[\"old\"]");
+		assertThat(new String(fresh.body())).isEqualTo("[\"new\"]");
+		assertThat(cache.get(CatalogResponseCache.Catalog.USED, () -> List.of("unused"))).isSameAs(fresh);
+	}
+
+	@Test
+	void concurrentMissesShareOneLoadUntilInvalidated() throws Exception {
+		CountDownLatch release = new CountDownLatch(1);
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		try {
+			List<Future<CatalogResponseCache.CachedResponse>> waiting = new ArrayList<>();
+			for (int i = 0; i < 3; i++) {
+				waiting.add(executor.submit(() -> cache.get(CatalogResponseCache.Catalog.USED, () -> {
+					loads.incrementAndGet();
+					await(release);
+					return List.of("old");
+				})));
+			}
+			awaitCount("coalesced", 2);
+
+			// 조회 도중 변경이 커밋되면 이후 요청은 진행 중인 조회를 기다리지 않고 새로 조회
+			cache.invalidate(CatalogResponseCache.Catalog.USED);
+			Future<CatalogResponseCache.CachedResponse> afterChange = executor.submit(() ->
+				cache.get(CatalogResponseCache.Catalog.USED, () -> {
+					loads.incrementAndGet();
+					return List.of("new");
+				}));
+			assertThat(new String(afterChange.get(10, TimeUnit.SECONDS).body())).isEqualTo("[\"new\"]");
+			release.countDown();
+
+			for (Future<CatalogResponseCache.CachedResponse> response : waiting) {
+				assertThat(new String(response.get(10, TimeUnit.SECONDS).body())).isEqualTo("[\"old\"]");
+			}
+			assertThat(loads).hasValue(2);
+			assertThat(new String(cache.get(CatalogResponseCache.Catalog.USED, () -> List.of("unused")).body()))
+				.isEqualTo("[\"new\"]");
+		} finally {
+			release.countDown();
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	void passesAttachmentOfCachedBodyToEveryServedResponse() {
+		List<String> served = new ArrayList<>();
+		CatalogResponseCache.Loaded<String> refused = new CatalogResponseCache.Loaded<>(List.of("old"), "old");
+		CatalogResponseCache.Loaded<String> stored = new CatalogResponseCache.Loaded<>(List.of("new"), "new");
+
+		// 조회 도중 무효화되어 저장되지 않은 결과의 attachment 는 그 응답에만 사용
+		cache.respond(CatalogResponseCache.Catalog.USED, webRequest(null), () -> {
+			cache.invalidate(CatalogResponseCache.Catalog.USED);
+			return refused;
+		}, served::add);
+		ResponseEntity<byte[]> first = cache.respond(CatalogResponseCache.Catalog.USED, webRequest(null),
+			() -> stored, served::add);
+		cache.respond(CatalogResponseCache.Catalog.USED, webRequest(null), () -> refused, served::add);
+		cache.respond(CatalogResponseCache.Catalog.USED, webRequest(first.getHeaders().getETag()),
+			() -> refused, served::add);
+
+		assertThat(served).containsExactly("old", "new", "new");
+	}
+
+	private ResponseEntity<byte[]> respond(CatalogResponseCache.Catalog catalog, String ifNoneMatch) {
+		return cache.respond(catalog, webRequest(ifNoneMatch), () -> List.of("v" + loads.incrementAndGet()));
+	}
+
+	private void awaitCount(String result, double expected) throws InterruptedException {
+		long deadline = System.currentTimeMillis() + 10_000;
+		while (meterRegistry.get("jmair.catalog.cache").tag("catalog", "used").tag("result", result)
+			.counter().count() < expected) {
+			assertThat(System.currentTimeMillis()).isLessThan(deadline);
+			Thread.sleep(10);
+		}
+	}
+
+	private static void await(CountDownLatch latch) {
+		try {
+			latch.await(10, TimeUnit.SECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private static ServletWebRequest webRequest(String ifNoneMatch) {
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/");
+		if (ifNoneMatch != null) {
+			request.addHeader(HttpHeaders.IF_NONE_MATCH, ifNoneMatch);
+		}
+		return new ServletWebRequest(request, new MockHttpServletResponse());
+	}
+}
@@ -0,0 +1,45 @@
+package com.jmair.common.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+// MySQL 풀에만 useCursorFetch=true 를 지정하고, URL 이나 설정에 직접 지정한 값은 유지
+class JpaConfigTest {
+
+	private final BeanPostProcessor postProcessor = JpaConfig.mysqlCursorFetchBeanPostProcessor();
+
+	@Test
+	void enablesCursorFetchForMysqlOnly() {
+		HikariDataSource mysql = dataSource("jdbc:mysql://localhost:3306/jmair");
+		HikariDataSource h2 = dataSource("jdbc:h2:mem:jmair");
+
+		postProcessor.postProcessBeforeInitialization(mysql, "dataSource");
+		postProcessor.postProcessBeforeInitialization(h2, "dataSource");
+
+		assertThat(mysql.getDataSourceProperties()).containsEntry(JpaConfig.USE_CURSOR_FETCH, "true");
+		assertThat(h2.getDataSourceProperties()).doesNotContainKey(JpaConfig.USE_CURSOR_FETCH);
+	}
+
+	@Test
+	void keepsExplicitSetting() {
+		HikariDataSource inUrl = dataSource("jdbc:mysql://localhost:3306/jmair?useCursorFetch=false");
+		HikariDataSource inProperties = dataSource("jdbc:mysql://localhost:3306/jmair");
+		inProperties.addDataSourceProperty(JpaConfig.USE_CURSOR_FETCH, "false");
+
+		postProcessor.postProcessBeforeInitialization(inUrl, "dataSource");
+		postProcessor.postProcessBeforeInitialization(inProperties, "dataSource");
+
+		assertThat(inUrl.getDataSourceProperties()).doesNotContainKey(JpaConfig.USE_CURSOR_FETCH);
+		assertThat(inProperties.getDataSourceProperties()).containsEntry(JpaConfig.USE_CURSOR_FETCH, "false");
+	}
+
+	private static HikariDataSource dataSource(String url) {
+		HikariDataSource dataSource = new HikariDataSource();
+		dataSource.setJdbcUrl(url);
+		return dataSource;
+	}
+}
@@ -0,0 +1,61 @@
+package com.jmair.common.jfr;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.core.io.Resource;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+// 기록 시간은 최대값으로 제한되고, 중지하면 애플리케이션 이벤트가 담긴 .jfr 파일을 돌려주는지 확인
+class JfrRecordingEndpointTest {
+
+	@TempDir
+	Path directory;
+
+	private JfrRecordingEndpoint endpoint;
+
+	@AfterEach
+	void tearDown() {
+		endpoint.discard();
+	}
+
+	@Test
+	void recordsApplicationEventsWithinBounds() throws Exception {
+		endpoint = new JfrRecordingEndpoint(30, 16, directory.toString());
+
+		WebEndpointResponse<?> started = endpoint.start(3600L, null);
+		assertThat(started.getStatus()).isEqualTo(WebEndpointResponse.STATUS_OK);
+		assertThat(endpoint.status()).containsEntry("state", "RUNNING").containsEntry("durationSeconds", 30L);
+		assertThat(endpoint.start(10L, null).getStatus()).isEqualTo(WebEndpointResponse.STATUS_BAD_REQUEST);
+
+		assertThat(DtoMappingEvent.map(List.of(1, 2, 3), String::valueOf)).containsExactly("1", "2", "3");
+
+		WebEndpointResponse<Resource> stopped = endpoint.stop();
+		assertThat(stopped.getStatus()).isEqualTo(WebEndpointResponse.STATUS_OK);
+		List<RecordedEvent> events = RecordingFile.readAllEvents(stopped.getBody().getFile().toPath());
+		assertThat(events)
+			.filteredOn(event -> event.getEventType().getName().equals("com.jmair.DtoMapping"))
+			.singleElement()
+			.satisfies(event -> {
+				assertThat(event.getInt("rows")).isEqualTo(3);
+				assertThat(event.getString("target")).isEqualTo("String");
+			});
+		assertThat(endpoint.stop().getStatus()).isEqualTo(WebEndpointResponse.STATUS_NOT_FOUND);
+	}
+
+	@Test
+	void rejectsUnknownSettings() {
+		endpoint = new JfrRecordingEndpoint(30, 16, directory.toString());
+
+		assertThat(endpoint.start(10L, "unknown").getStatus()).isEqualTo(WebEndpointResponse.STATUS_BAD_REQUEST);
+		assertThat(endpoint.status()).containsEntry("state", "NONE");
+	}
+}
@@ -0,0 +1,46 @@
+package com.jmair.common.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.sql.Connection;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+// 커넥션 반납마다 점유 시간을 기록하되, MeterRegistry 조회와 Timer 등록은 처음 한 번만
+class ConnectionHoldTimeDataSourceTest {
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void recordsEveryCloseWithCachedTimer() throws Exception {
+		DataSource target = mock(DataSource.class);
+		when(target.getConnection()).thenAnswer(invocation -> mock(Connection.class));
+		MeterRegistry meterRegistry = new SimpleMeterRegistry();
+		ObjectProvider<MeterRegistry> provider = mock(ObjectProvider.class);
+		when(provider.getIfAvailable()).thenReturn(meterRegistry);
+		ConnectionHoldTimeDataSource dataSource = new ConnectionHoldTimeDataSource(target, provider);
+
+		for (int i = 0; i < 3; i++) {
+			Connection connection = dataSource.getConnection();
+			connection.close();
+			// 중복 close 는 한 번만 기록
+			connection.close();
+		}
+
+		Timer timer = meterRegistry.get(ConnectionHoldTimeDataSource.METRIC_NAME)
+			.tag("method", ServiceMethodTracker.currentMethod())
+			.timer();
+		assertThat(timer.count()).isEqualTo(3);
+		verify(provider, times(1)).getIfAvailable();
+	}
+}
@@ -0,0 +1,71 @@
+package com.jmair.common.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.aop.AopAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+
+import com.jmair.notice.entity.Notice;
+import com.jmair.notice.repository.NotiveRepository;
+import com.jmair.secondhand.repository.UsedRepository;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+// 상속한 findAll 도 리포지토리별로 나뉘어 호출 시간과 반환 행 수가 기록되는지 확인
+@DataJpaTest
+@ImportAutoConfiguration(AopAutoConfiguration.class)
+@Import({RepositoryMetrics.class, RepositoryMetricsTest.Registry.class})
+class RepositoryMetricsTest {
+
+	@TestConfiguration
+	static class Registry {
+		@Bean
+		MeterRegistry meterRegistry() {
+			return new SimpleMeterRegistry();
+		}
+	}
+
+	@Autowired
+	private NotiveRepository noticeRepository;
+
+	@Autowired
+	private UsedRepository usedRepository;
+
+	@Autowired
+	private MeterRegistry meterRegistry;
+
+	@Test
+	void recordsTimeAndRowsPerRepository() {
+		for (int i = 0; i < 3; i++) {
+			Notice notice = new Notice();
+			notice.setNoticeTitle("공지 " + i);
+			notice.setNoticeContent("내용");
+			notice.setNoticeWriter("관리자");
+			notice.setNoticePostTime(LocalDateTime.now());
+			notice.setStatus(true);
+			noticeRepository.save(notice);
+		}
+
+		assertThat(noticeRepository.findAll()).hasSize(3);
+		assertThat(usedRepository.findAll()).isEmpty();
+
+		assertThat(meterRegistry.get("jmair.repository.rows")
+			.tags("domain", "notice", "repository", "NotiveRepository", "method", "findAll")
+			.summary().totalAmount()).isEqualTo(3);
+		assertThat(meterRegistry.get("jmair.repository.rows")
+			.tags("domain", "used", "repository", "UsedRepository", "method", "findAll")
+			.summary().count()).isEqualTo(1);
+		assertThat(meterRegistry.get("jmair.repository.query")
+			.tags("repository", "NotiveRepository", "method", "save", "outcome", "success")
+			.timer().count()).isEqualTo(3);
+	}
+}
@@ -0,0 +1,111 @@
+package com.jmair.common.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+
+// SQL 정규화, 총 시간/p99 상위 목록, 느린 쿼리 링 버퍼와 JDBC 래핑의 행 수 기록 확인
+class SqlStatementStatsTest {
+
+	private static final long MILLIS = TimeUnit.MILLISECONDS.toNanos(1);
+
+	@Test
+	void normalizesLiteralsAndInLists() {
+		assertThat(SqlStatementStats.normalizeSql(
+			"select *  from users u\n where u.user_login = 'perf''s' and u.id in (1, 2, 3) and u.grade2 = 10"))
+			.isEqualTo("select * from users u where u.user_login = ? and u.id in (?...) and u.grade2 = ?");
+		assertThat(SqlStatementStats.normalizeSql("select * from notice where notice_id in (?,?,?,?)"))
+			.isEqualTo("select * from notice where notice_id in (?...)");
+	}
+
+	@Test
+	void ranksByTotalTimeAndP99() {
+		SqlStatementStats stats = new SqlStatementStats(true, 100, 8, 500);
+		// 자주 호출되지만 빠른 문 - 총 시간 1위
+		for (int i = 0; i < 100; i++) {
+			stats.record("select * from users where user_login = 'u" + i + "'", 2 * MILLIS, 1);
+		}
+		// 드물지만 느린 문 - p99 1위
+		stats.record("select * from asentity", 150 * MILLIS, 20000);
+		stats.record("select * from notice where status = true", MILLIS, 5);
+
+		SqlStatementStats.Report report = stats.report(2);
+
+		assertThat(report.statements()).isEqualTo(3);
+		assertThat(report.byTotalTime()).extracting(SqlStatementStats.StatementReport::sql)
+			.containsExactly("select * from users where user_login = ?", "select * from asentity");
+		assertThat(report.byTotalTime().get(0).count()).isEqualTo(100);
+		assertThat(report.byTotalTime().get(0).rowsPerCall()).isEqualTo(1.0);
+		assertThat(report.byP99()).extracting(SqlStatementStats.StatementReport::sql)
+			.containsExactly("select * from asentity", "select * from users where user_login = ?");
+		assertThat(report.byP99().get(0).p99Millis()).isBetween(145.0, 155.0);
+		assertThat(report.slowQueries()).singleElement()
+			.satisfies(slow -> {
+				assertThat(slow.sql()).isEqualTo("select * from asentity");
+				assertThat(slow.rows()).isEqualTo(20000);
+			});
+	}
+
+	@Test
+	void ringBufferKeepsLatestSlowQueries() {
+		SqlStatementStats stats = new SqlStatementStats(true, 0, 4, 500);
+		for (int i = 0; i < 10; i++) {
+			stats.record("select " + i + " from dual t" + i, MILLIS, i);
+		}
+
+		List<SqlStatementStats.SlowQuery> slowQueries = stats.slowQueries();
+
+		assertThat(slowQueries).extracting(SqlStatementStats.SlowQuery::rows).containsExactly(9L, 8L, 7L, 6L);
+
+		stats.reset();
+		assertThat(stats.slowQueries()).isEmpty();
+		assertThat(stats.report(10).statements()).isZero();
+	}
+
+	@Test
+	void overflowIsGroupedAsOther() {
+		SqlStatementStats stats = new SqlStatementStats(true, 100, 8, 2);
+		stats.record("select * from t1", MILLIS, 0);
+		stats.record("select * from t2", MILLIS, 0);
+		stats.record("select * from t3", MILLIS, 0);
+		stats.record("select * from t4", MILLIS, 0);
+
+		assertThat(stats.report(10).byTotalTime()).extracting(SqlStatementStats.StatementReport::sql)
+			.contains(SqlStatementStats.OTHER)
+			.hasSize(3);
+	}
+
+	@Test
+	void dataSourceRecordsReadAndUpdatedRows() throws Exception {
+		SqlStatementStats stats = new SqlStatementStats(true, 100, 8, 500);
+		SingleConnectionDataSource target = new SingleConnectionDataSource(
+			new DriverManagerDataSource("jdbc:h2:mem:sql-stats").getConnection(), true);
+		JdbcTemplate jdbcTemplate = new JdbcTemplate(new StatementStatsDataSource(target,
+			new StaticListableBeanFactory(Map.of("stats", stats)).getBeanProvider(SqlStatementStats.class)));
+		try {
+			jdbcTemplate.execute("create table item (id int primary key, name varchar(20))");
+			jdbcTemplate.update("insert into item values (?, ?)", 1, "a");
+			jdbcTemplate.update("insert into item values (?, ?)", 2, "b");
+			jdbcTemplate.update("insert into item values (?, ?)", 3, "c");
+			jdbcTemplate.queryForList("select * from item where id > ?", 1);
+
+			Map<String, SqlStatementStats.StatementReport> bySql = stats.report(10).byTotalTime().stream()
+				.collect(Collectors.toMap(SqlStatementStats.StatementReport::sql, r -> r));
+
+			assertThat(bySql.get("insert into item values (?, ?)").count()).isEqualTo(3);
+			assertThat(bySql.get("insert into item values (?, ?)").rows()).isEqualTo(3);
+			assertThat(bySql.get("select * from item where id > ?").rows()).isEqualTo(2);
+		} finally {
+			target.destroy();
+		}
+	}
+}
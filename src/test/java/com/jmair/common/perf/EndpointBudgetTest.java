@@ -0,0 +1,224 @@
+package com.jmair.common.perf;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.request;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import com.jmair.auth.repository.UserRepository;
+import com.jmair.auth.util.JwtUtil;
+
+import jakarta.servlet.http.Cookie;
+
+/**
+ * 엔드포인트별 쿼리/지연 예산 - perf 데이터 위에서 요청마다 SQL 문 수, 읽은 행 수, p95 지연을 재고
+ * 예산을 넘으면 실패한다 (budgetTest 태스크, check/build 에 포함).
+ * N+1 이나 전체 조회가 새로 생기면 문 수/행 수가 먼저 넘친다.
+ * 예산은 현재 측정값에 여유를 둔 값이며, 의도적으로 늘릴 때는 이유를 주석으로 남긴다.
+ * 내보내기(/export)는 스트리밍이 별도 스레드에서 실행되어 제외.
+ */
+@Tag("budget")
+@SpringBootTest(properties = {
+	"spring.datasource.url=jdbc:h2:mem:perf-budget;MODE=MySQL;DATABASE_TO_LOWER=TRUE;CASE_INSENSITIVE_IDENTIFIERS=TRUE",
+	"spring.jpa.hibernate.ddl-auto=create",
+	"spring.perf-data.as-requests=20000",
+	"spring.perf-data.clean-requests=10000",
+	"spring.perf-data.install-requests=10000",
+	"spring.perf-data.used-items=5000",
+	"spring.perf-data.notices=500",
+	"spring.perf-data.users=2000"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("perf")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class EndpointBudgetTest {
+
+	private static final Logger logger = LoggerFactory.getLogger(EndpointBudgetTest.class);
+
+	private static final int WARMUP = 5;
+	private static final int SAMPLES = 40;
+
+	// 검증 대상 행 id (상태에 따라 404 가 나지 않는 첫 행)
+	private static final Map<String, String> ID_QUERIES = Map.of(
+		"{asId}", "SELECT MIN(as_id) FROM asentity",
+		"{cleanId}", "SELECT MIN(clean_id) FROM clean_entity",
+		"{installId}", "SELECT MIN(install_id) FROM install_request",
+		"{usedId}", "SELECT MIN(used_id) FROM used_entity WHERE used_state <> 'FALLSE'",
+		"{noticeId}", "SELECT MIN(notice_id) FROM notice WHERE status");
+
+	@TestConfiguration
+	static class CountingDataSource {
+		@Bean
+		static BeanPostProcessor countingDataSourcePostProcessor() {
+			return QueryCounter.dataSourceWrapper();
+		}
+	}
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private JwtUtil jwtUtil;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	private final Map<String, String> ids = new HashMap<>();
+	private Cookie adminToken;
+
+	/**
+	 * @param statements 요청당 최대 SQL 문 수
+	 * @param rows       요청당 최대 읽은 행 수
+	 * @param p95Millis  p95 지연 (ms)
+	 */
+	record Budget(HttpMethod method, String path, boolean admin, String body, int statements, long rows,
+				  long p95Millis) {
+		@Override
+		public String toString() {
+			return method + " " + path + (admin ? " (관리자)" : "");
+		}
+	}
+
+	static Stream<Budget> budgets() {
+		return Stream.of(
+			// AS
+			adminGet("/api/v1/service", 1, 21, 150),
+			adminGet("/api/v1/service?status=REQUEST&size=50", 1, 51, 150),
+			adminGet("/api/v1/service/{asId}", 1, 1, 100),
+			// 비회원 신청은 BCrypt 해시 비용이 지연의 대부분
+			post("/api/v1/service/post", """
+				{"asName":"예산","asNumber":"010-0000-0000","asAdress":"서울시","asDetailAdress":"1층","asPassword":"1234","asFirstReservationTime":"2025-06-02 오전"}""",
+				1, 1, 1500),
+			// 세척
+			adminGet("/api/v1/clean", 1, 21, 150),
+			adminGet("/api/v1/clean/{cleanId}", 1, 1, 100),
+			post("/api/v1/clean/post", """
+				{"cleanName":"예산","cleanNumber":"010-0000-0000","cleanAdress":"서울시","cleanDetailAdress":"1층","cleanPassword":"1234","cleanFirstReservationTime":"2025-06-02 오전"}""",
+				1, 1, 1500),
+			// 설치
+			adminGet("/api/v1/install", 1, 21, 150),
+			adminGet("/api/v1/install/{installId}", 1, 1, 100),
+			post("/api/v1/install/post", """
+				{"installName":"예산","installAddress":"서울시","installDetailAddress":"1층","installPhone":"010-0000-0000","installPassword":"1234","reservationFirstDate":"2025-06-02 오전"}""",
+				1, 1, 1500),
+			// 중고 - 기본 목록은 캐시된 응답 (첫 요청 이후 쿼리 없음), 본문이 상품 수에 비례해 지연이 큼
+			get("/api/v1/used", 0, 0, 500),
+			get("/api/v1/used/search?sort=price_asc&productType=시스템", 1, 21, 150),
+			get("/api/v1/used/search?sort=latest&minYear=2020", 1, 21, 150),
+			get("/api/v1/used/{usedId}", 1, 1, 100),
+			get("/api/v1/used/popular", 0, 0, 100),
+			// 공지사항
+			get("/api/v1/notices", 0, 0, 100),
+			// 고정 공지 조회 + 페이지 조회 (고정 5건 + 20건 + 다음 페이지 확인 1건)
+			get("/api/v1/notices?size=20", 2, 26, 150),
+			get("/api/v1/notices/{noticeId}", 1, 1, 100),
+			get("/api/v1/notices/popular", 0, 0, 100),
+			// 회원 - 로그인 회원은 캐시에서 조회, 전체 목록은 페이지 처리 전까지 회원 수만큼 읽음
+			adminGet("/api/v1/user/current", 0, 0, 100),
+			adminGet("/api/v1/user/all", 1, 2000, 500),
+			adminGet("/api/v1/user/perf-user-3", 1, 1, 100),
+			adminGet("/api/v1/user/engineer/waiting", 1, 50, 150));
+	}
+
+	@BeforeAll
+	void setUp() {
+		ID_QUERIES.forEach((placeholder, sql) ->
+			ids.put(placeholder, String.valueOf(jdbcTemplate.queryForObject(sql, Integer.class))));
+		adminToken = new Cookie("access_token",
+			jwtUtil.generateAccessToken(userRepository.findByUserLogin("perf-admin").orElseThrow()));
+	}
+
+	@ParameterizedTest(name = "{0}")
+	@MethodSource("budgets")
+	void staysWithinBudget(Budget budget) throws Exception {
+		for (int i = 0; i < WARMUP; i++) {
+			perform(budget);
+		}
+		long maxStatements = 0;
+		long maxRows = 0;
+		long[] latencies = new long[SAMPLES];
+		for (int i = 0; i < SAMPLES; i++) {
+			QueryCounter.start();
+			long started = System.nanoTime();
+			MvcResult result = perform(budget);
+			latencies[i] = System.nanoTime() - started;
+			QueryCounter.Counts counts = QueryCounter.stop();
+			assertThat(result.getResponse().getStatus()).as("%s 응답 상태", budget).isBetween(200, 299);
+			maxStatements = Math.max(maxStatements, counts.statements());
+			maxRows = Math.max(maxRows, counts.rows());
+		}
+		Arrays.sort(latencies);
+		long p95Millis = latencies[(int) Math.ceil(SAMPLES * 0.95) - 1] / 1_000_000;
+
+		logger.info("{} - SQL 문 {}, 읽은 행 {}, p95 {}ms", budget, maxStatements, maxRows, p95Millis);
+
+		List<String> exceeded = new ArrayList<>();
+		if (maxStatements > budget.statements()) {
+			exceeded.add("SQL 문 " + maxStatements + " > " + budget.statements());
+		}
+		if (maxRows > budget.rows()) {
+			exceeded.add("읽은 행 " + maxRows + " > " + budget.rows());
+		}
+		if (p95Millis > budget.p95Millis()) {
+			exceeded.add("p95 " + p95Millis + "ms > " + budget.p95Millis() + "ms");
+		}
+		assertThat(exceeded).as("%s 예산 초과 (SQL 문 %d, 읽은 행 %d, p95 %dms)",
+			budget, maxStatements, maxRows, p95Millis).isEmpty();
+	}
+
+	private MvcResult perform(Budget budget) throws Exception {
+		String path = budget.path();
+		for (Map.Entry<String, String> id : ids.entrySet()) {
+			path = path.replace(id.getKey(), id.getValue());
+		}
+		MockHttpServletRequestBuilder builder = request(budget.method(), path);
+		if (budget.admin()) {
+			builder.cookie(adminToken);
+		}
+		if (budget.body() != null) {
+			builder.contentType(MediaType.APPLICATION_JSON).content(budget.body());
+		}
+		return mockMvc.perform(builder).andReturn();
+	}
+
+	private static Budget get(String path, int statements, long rows, long p95Millis) {
+		return new Budget(HttpMethod.GET, path, false, null, statements, rows, p95Millis);
+	}
+
+	private static Budget adminGet(String path, int statements, long rows, long p95Millis) {
+		return new Budget(HttpMethod.GET, path, true, null, statements, rows, p95Millis);
+	}
+
+	private static Budget post(String path, String body, int statements, long rows, long p95Millis) {
+		return new Budget(HttpMethod.POST, path, false, body, statements, rows, p95Millis);
+	}
+}
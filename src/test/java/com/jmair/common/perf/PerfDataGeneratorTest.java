@@ -0,0 +1,80 @@
+package com.jmair.common.perf;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+// perf 프로필이 H2(MySQL 모드)로 기동되고, 같은 seed 로 같은 데이터가 생성되는지 확인
+@SpringBootTest(properties = {
+	"spring.datasource.url=jdbc:h2:mem:perf-test;MODE=MySQL;DATABASE_TO_LOWER=TRUE;CASE_INSENSITIVE_IDENTIFIERS=TRUE",
+	"spring.jpa.hibernate.ddl-auto=create",
+	"spring.perf-data.batch-size=100",
+	"spring.perf-data.as-requests=500",
+	"spring.perf-data.clean-requests=300",
+	"spring.perf-data.install-requests=300",
+	"spring.perf-data.used-items=200",
+	"spring.perf-data.notices=50",
+	"spring.perf-data.users=100"
+})
+@ActiveProfiles("perf")
+class PerfDataGeneratorTest {
+
+	private static final List<String> TABLES =
+		List.of("asentity", "clean_entity", "install_request", "used_entity", "notice", "users");
+
+	@Autowired
+	private PerfDataGenerator generator;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Test
+	void seedsConfiguredCountsDeterministically() {
+		assertThat(count("asentity")).isEqualTo(500);
+		assertThat(count("clean_entity")).isEqualTo(300);
+		assertThat(count("install_request")).isEqualTo(300);
+		assertThat(count("used_entity")).isEqualTo(200);
+		assertThat(count("notice")).isEqualTo(50);
+		assertThat(count("users")).isEqualTo(100);
+
+		// 분포 - 오래된 신청은 대부분 완료, 대기 상태는 최근 30일에만
+		Map<String, Object> statuses = jdbcTemplate.queryForMap(
+			"SELECT SUM(CASE WHEN as_status = 'COMPLETION' THEN 1 ELSE 0 END) AS done, "
+				+ "SUM(CASE WHEN as_status = 'REQUEST' AND as_start_time < DATE '2025-05-02' THEN 1 ELSE 0 END) AS stale "
+				+ "FROM asentity");
+		assertThat(((Number) statuses.get("done")).intValue()).isGreaterThan(250);
+		assertThat(((Number) statuses.get("stale")).intValue()).isZero();
+
+		String first = checksum();
+		TABLES.forEach(table -> jdbcTemplate.execute("TRUNCATE TABLE " + table + " RESTART IDENTITY"));
+		generator.generate();
+		assertThat(checksum()).isEqualTo(first);
+
+		// 직접 넣은 id 이후로 시퀀스가 이어져야 함
+		Long nextUser = jdbcTemplate.queryForObject("SELECT NEXT VALUE FOR users_seq", Long.class);
+		assertThat(nextUser).isGreaterThan(100);
+	}
+
+	private long count(String table) {
+		return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table, Long.class);
+	}
+
+	private String checksum() {
+		return String.join("|",
+			jdbcTemplate.queryForObject(
+				"SELECT CAST(SUM(ORA_HASH(CONCAT_WS(',', as_name, as_number, as_start_time, as_status))) AS VARCHAR) FROM asentity",
+				String.class),
+			jdbcTemplate.queryForObject(
+				"SELECT CAST(SUM(used_cost + used_year) AS VARCHAR) || MAX(used_post_time) FROM used_entity",
+				String.class),
+			jdbcTemplate.queryForObject(
+				"SELECT LISTAGG(user_grade || join_date, ',') WITHIN GROUP (ORDER BY id) FROM users", String.class));
+	}
+}
@@ -0,0 +1,123 @@
+package com.jmair.common.perf;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.Set;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+
+/**
+ * DataSource 를 감싸 현재 스레드에서 실행된 SQL 문 수와 읽은 행 수를 센다.
+ * JPA, JdbcTemplate 모두 같은 DataSource 를 거치므로 한 HTTP 요청의 전체 쿼리가 잡힌다.
+ * MockMvc 요청은 테스트 스레드에서 처리되므로 start() ~ stop() 사이만 기록되고,
+ * 조회수 flush 같은 백그라운드 스레드의 쿼리는 섞이지 않는다.
+ */
+public final class QueryCounter {
+
+	private static final Set<String> EXECUTE_METHODS =
+		Set.of("execute", "executeQuery", "executeUpdate", "executeLargeUpdate", "executeBatch", "executeLargeBatch");
+	private static final Set<String> RESULT_SET_METHODS = Set.of("executeQuery", "getResultSet", "getGeneratedKeys");
+
+	private QueryCounter() {
+	}
+
+	public record Counts(long statements, long rows) {
+	}
+
+	private static final class Recording {
+		private long statements;
+		private long rows;
+	}
+
+	private static final ThreadLocal<Recording> RECORDING = new ThreadLocal<>();
+
+	public static void start() {
+		RECORDING.set(new Recording());
+	}
+
+	public static Counts stop() {
+		Recording recording = RECORDING.get();
+		RECORDING.remove();
+		return recording == null ? new Counts(0, 0) : new Counts(recording.statements, recording.rows);
+	}
+
+	// 테스트 컨텍스트의 DataSource 빈을 감싸는 후처리기 (@Bean static 으로 등록)
+	public static BeanPostProcessor dataSourceWrapper() {
+		return new BeanPostProcessor() {
+			@Override
+			public Object postProcessAfterInitialization(Object bean, String beanName) {
+				return bean instanceof DataSource dataSource ? wrap(dataSource) : bean;
+			}
+		};
+	}
+
+	public static DataSource wrap(DataSource dataSource) {
+		return proxy(DataSource.class, dataSource, (target, method, args) -> {
+			Object result = invoke(target, method, args);
+			return method.getName().equals("getConnection")
+				? proxy(Connection.class, result, QueryCounter::onConnection) : result;
+		});
+	}
+
+	private static Object onConnection(Object target, Method method, Object[] args) throws Throwable {
+		Object result = invoke(target, method, args);
+		if (result instanceof Statement statement) {
+			Class<? extends Statement> type = switch (method.getName()) {
+				case "prepareStatement" -> PreparedStatement.class;
+				case "prepareCall" -> CallableStatement.class;
+				default -> Statement.class;
+			};
+			return proxy(type, statement, QueryCounter::onStatement);
+		}
+		return result;
+	}
+
+	private static Object onStatement(Object target, Method method, Object[] args) throws Throwable {
+		Recording recording = RECORDING.get();
+		if (recording != null && EXECUTE_METHODS.contains(method.getName())) {
+			recording.statements++;
+		}
+		Object result = invoke(target, method, args);
+		if (result instanceof ResultSet && RESULT_SET_METHODS.contains(method.getName())) {
+			return proxy(ResultSet.class, result, QueryCounter::onResultSet);
+		}
+		return result;
+	}
+
+	private static Object onResultSet(Object target, Method method, Object[] args) throws Throwable {
+		Object result = invoke(target, method, args);
+		Recording recording = RECORDING.get();
+		if (recording != null && method.getName().equals("next") && Boolean.TRUE.equals(result)) {
+			recording.rows++;
+		}
+		return result;
+	}
+
+	@FunctionalInterface
+	private interface Handler {
+		Object handle(Object target, Method method, Object[] args) throws Throwable;
+	}
+
+	private static <T> T proxy(Class<T> type, Object target, Handler handler) {
+		InvocationHandler invocationHandler = (proxy, method, args) -> handler.handle(target, method, args);
+		return type.cast(Proxy.newProxyInstance(QueryCounter.class.getClassLoader(), new Class<?>[] {type},
+			invocationHandler));
+	}
+
+	private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+		try {
+			return method.invoke(target, args);
+		} catch (InvocationTargetException e) {
+			throw e.getCause();
+		}
+	}
+}
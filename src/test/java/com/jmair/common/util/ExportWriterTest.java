@@ -0,0 +1,60 @@
+package com.jmair.common.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+
+import com.jmair.common.dto.ExportFormat;
+
+// CSV 인용/수식 방지/BOM, NDJSON 한 줄 한 객체, 행마다 afterRow 호출
+class ExportWriterTest {
+
+	private record Row(Integer id, String name, LocalDateTime time) {
+	}
+
+	private static final List<ExportWriter.Column<Row>> COLUMNS = List.of(
+		ExportWriter.column("id", Row::id),
+		ExportWriter.column("name", Row::name),
+		ExportWriter.column("time", Row::time)
+	);
+
+	@Test
+	void writesCsvWithBomAndQuotedCells() throws Exception {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		List<Row> visited = new ArrayList<>();
+
+		long count = ExportWriter.write(Stream.of(
+			new Row(1, "홍길동, \"VIP\"", LocalDateTime.of(2025, 6, 1, 9, 30)),
+			new Row(2, "=HYPERLINK(\"x\")", null)
+		), ExportFormat.CSV, COLUMNS, out, visited::add);
+
+		String csv = out.toString(StandardCharsets.UTF_8);
+		assertThat(count).isEqualTo(2);
+		assertThat(visited).hasSize(2);
+		assertThat(csv).isEqualTo("\uFEFFid,name,time\r\n"
+			+ "1,\"홍길동, \"\"VIP\"\"\",2025-06-01 09:30:00\r\n"
+			+ "2,\"'=HYPERLINK(\"\"x\"\")\",\r\n");
+	}
+
+	@Test
+	void writesOneJsonObjectPerLine() throws Exception {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+		long count = ExportWriter.write(Stream.of(
+			new Row(1, "홍길동", LocalDateTime.of(2025, 6, 1, 9, 30)),
+			new Row(2, null, null)
+		), ExportFormat.NDJSON, COLUMNS, out, row -> { });
+
+		assertThat(count).isEqualTo(2);
+		assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo(
+			"{\"id\":1,\"name\":\"홍길동\",\"time\":\"2025-06-01 09:30:00\"}\n"
+				+ "{\"id\":2,\"name\":null,\"time\":null}\n");
+	}
+}
@@ -0,0 +1,186 @@
+package com.jmair.common.viewcount;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+// 동시 증가분이 빠짐없이 배치 반영(INSERT 후 UPDATE), 메모리 순위, 재시작 시 순위 복원, 삭제 대상 제외
+// 반영 도중 삭제된 대상은 되살아나지 않고, 메모리에는 상위 tracked-size 개만 보관
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ViewCounterTest {
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	private ViewCounter viewCounter;
+
+	@BeforeEach
+	void setUp() {
+		viewCounter = newCounter();
+	}
+
+	@AfterEach
+	void tearDown() {
+		viewCounter.stop();
+		jdbcTemplate.update("DELETE FROM view_count");
+	}
+
+	@Test
+	void flushesConcurrentViewsWithoutLoss() throws Exception {
+		ExecutorService executor = Executors.newFixedThreadPool(8);
+		CountDownLatch start = new CountDownLatch(1);
+		for (int t = 0; t < 8; t++) {
+			executor.execute(() -> {
+				try {
+					start.await();
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+				// id 1 은 1000회, 2 는 500회, 3 은 250회 ...
+				for (int i = 0; i < 1000; i++) {
+					viewCounter.increment(ViewTarget.USED, 1 + Integer.numberOfTrailingZeros(i | 1024));
+				}
+			});
+			// 반영 도중에도 조회가 들어오도록 중간에 한 번 반영
+			if (t == 4) {
+				start.countDown();
+				viewCounter.flush();
+			}
+		}
+		executor.shutdown();
+		assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+		viewCounter.flush();
+		viewCounter.increment(ViewTarget.USED, 1);
+		viewCounter.increment(ViewTarget.NOTICE, 1);
+		viewCounter.flush();
+
+		assertThat(count(ViewTarget.USED, 1)).isEqualTo(8 * 500 + 1);
+		assertThat(count(ViewTarget.USED, 2)).isEqualTo(8 * 250);
+		assertThat(count(ViewTarget.NOTICE, 1)).isEqualTo(1);
+		assertThat(viewCounter.top(ViewTarget.USED, 3)).extracting(ViewRank::id).containsExactly(1, 2, 3);
+		assertThat(viewCounter.top(ViewTarget.USED, 1).get(0).views()).isEqualTo(8 * 500 + 1);
+	}
+
+	@Test
+	void restoresRankingOnStartAndDropsRemovedItems() {
+		for (int i = 0; i < 3; i++) {
+			viewCounter.increment(ViewTarget.NOTICE, 7);
+		}
+		viewCounter.increment(ViewTarget.NOTICE, 8);
+		viewCounter.flush();
+
+		ViewCounter restarted = newCounter();
+		try {
+			assertThat(restarted.top(ViewTarget.NOTICE, 10)).containsExactly(new ViewRank(7, 3), new ViewRank(8, 1));
+
+			restarted.remove(ViewTarget.NOTICE, 7);
+
+			assertThat(restarted.top(ViewTarget.NOTICE, 10)).containsExactly(new ViewRank(8, 1));
+			assertThat(count(ViewTarget.NOTICE, 7)).isZero();
+		} finally {
+			restarted.stop();
+		}
+	}
+
+	@Test
+	void removalDuringFlushDoesNotReviveItem() {
+		AtomicBoolean removeBeforeWrite = new AtomicBoolean(true);
+		AtomicReference<ViewCounter> counter = new AtomicReference<>();
+		// 증가분을 모은 뒤 반영 트랜잭션을 시작하기 직전에 삭제가 커밋된 상황
+		PlatformTransactionManager racing = new PlatformTransactionManager() {
+			@Override
+			public TransactionStatus getTransaction(TransactionDefinition definition) {
+				if (definition.getPropagationBehavior() != TransactionDefinition.PROPAGATION_REQUIRES_NEW
+					&& removeBeforeWrite.compareAndSet(true, false)) {
+					counter.get().remove(ViewTarget.USED, 5);
+				}
+				return transactionManager.getTransaction(definition);
+			}
+
+			@Override
+			public void commit(TransactionStatus status) {
+				transactionManager.commit(status);
+			}
+
+			@Override
+			public void rollback(TransactionStatus status) {
+				transactionManager.rollback(status);
+			}
+		};
+		counter.set(new ViewCounter(jdbcTemplate, racing, 3600, 1000));
+		counter.get().start();
+		try {
+			counter.get().increment(ViewTarget.USED, 5);
+			counter.get().increment(ViewTarget.USED, 6);
+			counter.get().flush();
+			// 삭제 이후 들어온 조회와 다음 주기 반영도 무시
+			counter.get().increment(ViewTarget.USED, 5);
+			counter.get().flush();
+
+			assertThat(count(ViewTarget.USED, 5)).isZero();
+			assertThat(count(ViewTarget.USED, 6)).isEqualTo(1);
+			assertThat(counter.get().top(ViewTarget.USED, 10)).containsExactly(new ViewRank(6, 1));
+		} finally {
+			counter.get().stop();
+		}
+	}
+
+	@Test
+	void keepsOnlyTrackedTotalsAndRestoresEvictedItemFromDatabase() {
+		ViewCounter small = new ViewCounter(jdbcTemplate, transactionManager, 3600, 2);
+		small.start();
+		try {
+			view(small, 1, 3);
+			view(small, 2, 2);
+			view(small, 3, 1);
+			small.flush();
+			assertThat(small.top(ViewTarget.USED, 10)).containsExactly(new ViewRank(1, 3), new ViewRank(2, 2));
+
+			// 순위에서 빠졌던 대상도 다시 조회되면 DB 누적값으로 돌아옴
+			view(small, 3, 2);
+			small.flush();
+			assertThat(small.top(ViewTarget.USED, 10)).containsExactly(new ViewRank(1, 3), new ViewRank(3, 3));
+		} finally {
+			small.stop();
+		}
+	}
+
+	private static void view(ViewCounter counter, int id, int times) {
+		for (int i = 0; i < times; i++) {
+			counter.increment(ViewTarget.USED, id);
+		}
+	}
+
+	private ViewCounter newCounter() {
+		// 주기 반영은 테스트에서 직접 호출
+		ViewCounter counter = new ViewCounter(jdbcTemplate, transactionManager, 3600, 1000);
+		counter.start();
+		return counter;
+	}
+
+	private long count(ViewTarget target, int id) {
+		return jdbcTemplate.query("SELECT view_count FROM view_count WHERE item_type = ? AND item_id = ?",
+			rs -> rs.next() ? rs.getLong(1) : 0L, target.name(), id);
+	}
+}
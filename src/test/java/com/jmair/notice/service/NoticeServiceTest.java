@@ -0,0 +1,105 @@
+package com.jmair.notice.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.Session;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import com.jmair.common.dto.CursorPage;
+import com.jmair.common.viewcount.ViewCounter;
+import com.jmair.notice.dto.NoticeSummary;
+import com.jmair.notice.entity.Notice;
+import com.jmair.notice.repository.NotiveRepository;
+
+// 공지 목록: 요약 프로젝션(내용 미조회), 고정 공지는 첫 페이지 맨 앞에 한 번만, 최신순 커서 이어받기, 인덱스 범위 스캔
+@DataJpaTest
+@Import(NoticeService.class)
+class NoticeServiceTest {
+
+	private static final LocalDateTime BASE = LocalDateTime.of(2025, 6, 1, 9, 0);
+
+	@Autowired
+	private NoticeService noticeService;
+
+	@Autowired
+	private NotiveRepository noticeRepository;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private TestEntityManager entityManager;
+
+	@MockitoBean
+	private ViewCounter viewCounter;
+
+	private final List<Integer> regularNewestFirst = new ArrayList<>();
+	private final List<Integer> pinnedNewestFirst = new ArrayList<>();
+
+	@BeforeEach
+	void setUp() {
+		for (int i = 0; i < 17; i++) {
+			Notice notice = new Notice();
+			notice.setNoticeTitle("공지 " + i);
+			notice.setNoticeContent("긴 공지 내용 ".repeat(300));
+			notice.setNoticeWriter("관리자");
+			notice.setStatus(i % 8 != 7);
+			notice.setPinned(i % 5 == 0);
+			Notice saved = noticeRepository.saveAndFlush(notice);
+			// @CreationTimestamp 값을 덮어써 게시 순서를 고정 (같은 시간대 행도 포함)
+			jdbcTemplate.update("UPDATE notice SET notice_post_time = ? WHERE notice_id = ?",
+				BASE.plusHours(i / 2), saved.getNoticeId());
+			if (notice.isStatus()) {
+				(notice.isPinned() ? pinnedNewestFirst : regularNewestFirst).add(0, saved.getNoticeId());
+			}
+		}
+		entityManager.clear();
+	}
+
+	@Test
+	void pagesSummariesWithPinnedFirstOnce() {
+		CursorPage<NoticeSummary> first = noticeService.getNotices(null, 4);
+		assertThat(first.content()).extracting(NoticeSummary::id)
+			.startsWith(pinnedNewestFirst.toArray(Integer[]::new));
+
+		List<Integer> regular = new ArrayList<>(first.content().stream()
+			.filter(summary -> !summary.pinned()).map(NoticeSummary::id).toList());
+		String cursor = first.nextCursor();
+		while (cursor != null) {
+			CursorPage<NoticeSummary> page = noticeService.getNotices(cursor, 4);
+			assertThat(page.content()).noneMatch(NoticeSummary::pinned);
+			regular.addAll(page.content().stream().map(NoticeSummary::id).toList());
+			cursor = page.nextCursor();
+		}
+
+		assertThat(regular).containsExactlyElementsOf(regularNewestFirst);
+	}
+
+	@Test
+	void listDoesNotLoadNoticeEntities() {
+		noticeService.getNotices(null, 100);
+
+		Session session = entityManager.getEntityManager().unwrap(Session.class);
+		assertThat(session.getStatistics().getEntityCount()).isZero();
+	}
+
+	@Test
+	void listQueryUsesStatusPinnedPostTimeIndex() {
+		String plan = String.join("\n", jdbcTemplate.queryForList("EXPLAIN SELECT notice_id, notice_title "
+			+ "FROM notice WHERE status = TRUE AND pinned = FALSE AND notice_post_time < TIMESTAMP '2025-06-01 12:00:00' "
+			+ "ORDER BY notice_post_time DESC, notice_id DESC LIMIT 21", String.class));
+
+		assertThat(plan).containsIgnoringCase("idx_notice_status_pinned_post_time");
+	}
+}
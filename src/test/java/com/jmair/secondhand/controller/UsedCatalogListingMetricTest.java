@@ -0,0 +1,134 @@
+package com.jmair.secondhand.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.nio.file.Path;
+import java.util.Base64;
+import java.util.List;
+
+import javax.imageio.ImageIO;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jmair.common.cache.CatalogResponseCache;
+import com.jmair.common.viewcount.ViewCounter;
+import com.jmair.secondhand.dto.Used;
+import com.jmair.secondhand.entity.UsedEntity;
+import com.jmair.secondhand.entity.UsedImages;
+import com.jmair.secondhand.repository.UsedRepository;
+import com.jmair.secondhand.service.UsedImageRenditionService;
+import com.jmair.secondhand.service.UsedImageStore;
+import com.jmair.secondhand.service.UsedService;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+// 캐시된 목록도 응답마다 절감량을 기록하고, 목록을 만든 뒤에 생긴 썸네일은 이후 응답에 반영, 304 는 기록하지 않음
+class UsedCatalogListingMetricTest {
+
+	@TempDir
+	Path directory;
+
+	private final UsedRepository usedRepository = mock(UsedRepository.class);
+	private SimpleMeterRegistry meterRegistry;
+	private UsedImageStore store;
+	private UsedImageRenditionService renditionService;
+	private UsedController controller;
+
+	@BeforeEach
+	void setUp() {
+		meterRegistry = new SimpleMeterRegistry();
+		store = new UsedImageStore(directory.toString());
+		renditionService = new UsedImageRenditionService(store, meterRegistry, 1, 16, 320, 960);
+		UsedService usedService = new UsedService(usedRepository, store, renditionService,
+			mock(ApplicationEventPublisher.class), mock(ViewCounter.class));
+		controller = new UsedController(usedService, store,
+			new CatalogResponseCache(new ObjectMapper(), meterRegistry));
+	}
+
+	@AfterEach
+	void tearDown() {
+		renditionService.shutdown();
+	}
+
+	@Test
+	void recordsSavingsOfThumbnailsRenderedAfterCaching() throws Exception {
+		String id = store.store(dataUrl(1600, 1200));
+		when(usedRepository.findByUsedStateNot(Used.FALLSE)).thenReturn(List.of(listing(id)));
+
+		// 등록 직후 - 썸네일이 아직 없음
+		ResponseEntity<?> beforeRendering = list(null);
+		renditionService.submit(List.of(id));
+		awaitRendition(store.renditionId(id, 960));
+		ResponseEntity<?> afterRendering = list(null);
+		ResponseEntity<?> notModified = list(afterRendering.getHeaders().getETag());
+
+		assertThat(beforeRendering.getStatusCode()).isEqualTo(HttpStatus.OK);
+		assertThat(afterRendering.getStatusCode()).isEqualTo(HttpStatus.OK);
+		assertThat(notModified.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+		verify(usedRepository, times(1)).findByUsedStateNot(Used.FALLSE);
+		DistributionSummary saved = meterRegistry.get("jmair.used.listing.bytes.saved").summary();
+		assertThat(saved.count()).isEqualTo(2);
+		assertThat(saved.totalAmount()).isEqualTo(store.size(id) - store.size(store.renditionId(id, 320)));
+		assertThat(saved.max()).isEqualTo(saved.totalAmount());
+	}
+
+	private ResponseEntity<?> list(String ifNoneMatch) {
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/used");
+		if (ifNoneMatch != null) {
+			request.addHeader(HttpHeaders.IF_NONE_MATCH, ifNoneMatch);
+		}
+		return controller.getAllUsedRequests(new ServletWebRequest(request, new MockHttpServletResponse()));
+	}
+
+	// 중간 크기는 썸네일 다음에 만들어지므로 중간 크기를 기다리면 썸네일 기록까지 끝난 상태
+	private void awaitRendition(String renditionId) throws Exception {
+		long deadline = System.currentTimeMillis() + 10_000;
+		while (store.find(renditionId) == null) {
+			assertThat(System.currentTimeMillis()).isLessThan(deadline);
+			Thread.sleep(20);
+		}
+	}
+
+	private static UsedEntity listing(String imageId) {
+		return UsedEntity.builder()
+			.usedId(1)
+			.usedName("에어컨")
+			.usedCost(100)
+			.usedState(Used.SALE)
+			.usedImages(UsedImages.of(List.of(imageId)))
+			.build();
+	}
+
+	private static String dataUrl(int width, int height) throws Exception {
+		BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+		Graphics2D graphics = image.createGraphics();
+		for (int x = 0; x < width; x += 10) {
+			graphics.setColor(new Color(x % 256, (x * 7) % 256, (x * 13) % 256));
+			graphics.fillRect(x, 0, 10, height);
+		}
+		graphics.dispose();
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		ImageIO.write(image, "jpeg", out);
+		return "data:image/jpeg;base64," + Base64.getEncoder().encodeToString(out.toByteArray());
+	}
+}
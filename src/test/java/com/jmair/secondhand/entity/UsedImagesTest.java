@@ -0,0 +1,62 @@
+package com.jmair.secondhand.entity;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.hibernate.Session;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.jmair.secondhand.dto.Used;
+
+// 로딩 시에는 파싱하지 않고 처음 접근할 때 한 번만 파싱, 읽기만 한 엔티티는 변경으로 보지 않음
+@DataJpaTest
+class UsedImagesTest {
+
+	private static final String FIRST = "a".repeat(64) + ".png";
+	private static final String SECOND = "b".repeat(64) + ".jpg";
+
+	@Autowired
+	private TestEntityManager entityManager;
+
+	@Test
+	void parsesOnFirstAccessOnly() {
+		UsedImages images = UsedImages.ofJson("[\"" + FIRST + "\",\"" + SECOND + "\"]");
+		assertThat(ReflectionTestUtils.getField(images, "ids")).isNull();
+
+		List<String> ids = images.ids();
+
+		assertThat(ids).containsExactly(FIRST, SECOND);
+		assertThat(images.ids()).isSameAs(ids);
+		assertThat(UsedImages.of(ids)).isEqualTo(images);
+		assertThat(UsedImages.ofJson(null)).isSameAs(UsedImages.EMPTY);
+		assertThat(UsedImages.of(List.of()).json()).isEqualTo("[]");
+	}
+
+	@Test
+	void readingImagesDoesNotDirtyEntity() {
+		Integer usedId = entityManager.persistAndGetId(UsedEntity.builder()
+			.usedName("중고 스탠드 에어컨")
+			.usedCost(500000)
+			.usedState(Used.SALE)
+			.usedImages(UsedImages.of(List.of(FIRST, SECOND)))
+			.build(), Integer.class);
+		entityManager.flush();
+		entityManager.clear();
+
+		UsedEntity loaded = entityManager.find(UsedEntity.class, usedId);
+		Session session = entityManager.getEntityManager().unwrap(Session.class);
+		assertThat(loaded.getUsedImages().ids()).containsExactly(FIRST, SECOND);
+		assertThat(session.isDirty()).isFalse();
+
+		loaded.setUsedImages(UsedImages.of(List.of(SECOND)));
+		assertThat(session.isDirty()).isTrue();
+		entityManager.flush();
+		entityManager.clear();
+		assertThat(entityManager.find(UsedEntity.class, usedId).getUsedImages().ids()).containsExactly(SECOND);
+	}
+}
@@ -0,0 +1,124 @@
+package com.jmair.secondhand.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+
+import javax.imageio.ImageIO;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+// 썸네일/중간 크기 생성(비율 유지, 확대 없음), 목록용 URL, 대기열 지연과 절감 바이트 메트릭, 버려진 작업 재예약
+class UsedImageRenditionServiceTest {
+
+	@TempDir
+	Path directory;
+
+	private SimpleMeterRegistry meterRegistry;
+	private UsedImageStore store;
+	private UsedImageRenditionService renditionService;
+
+	@BeforeEach
+	void setUp() {
+		meterRegistry = new SimpleMeterRegistry();
+		store = new UsedImageStore(directory.toString());
+		renditionService = new UsedImageRenditionService(store, meterRegistry, 1, 16, 320, 960);
+	}
+
+	@AfterEach
+	void tearDown() {
+		renditionService.shutdown();
+	}
+
+	@Test
+	void rendersThumbnailAndMediumInBackground() throws Exception {
+		String id = store.store(dataUrl(1600, 1200, "jpeg", "image/jpeg"));
+
+		renditionService.submit(List.of(id));
+
+		BufferedImage thumbnail = awaitImage(store.renditionId(id, 320));
+		BufferedImage medium = awaitImage(store.renditionId(id, 960));
+		assertThat(thumbnail.getWidth()).isEqualTo(320);
+		assertThat(thumbnail.getHeight()).isEqualTo(240);
+		assertThat(medium.getWidth()).isEqualTo(960);
+		assertThat(meterRegistry.get("jmair.used.image.lag").timer().count()).isEqualTo(1);
+		assertThat(renditionService.thumbnailUrl(id)).isEqualTo(UsedImageStore.URL_PREFIX + store.renditionId(id, 320));
+
+		renditionService.recordListing(List.of(id));
+		assertThat(meterRegistry.get("jmair.used.listing.bytes.saved").summary().totalAmount())
+			.isEqualTo(store.size(id) - store.size(store.renditionId(id, 320)));
+	}
+
+	@Test
+	void keepsSmallImagesAndLegacyValuesAsIs() throws Exception {
+		String id = store.store(dataUrl(200, 100, "png", "image/png"));
+
+		renditionService.submit(List.of(id, "data:image/png;base64,AAAA"));
+
+		awaitImage(store.renditionId(id, 960));
+		assertThat(Files.readAllBytes(store.find(store.renditionId(id, 320))))
+			.isEqualTo(Files.readAllBytes(store.find(id)));
+		assertThat(renditionService.thumbnailUrl("data:image/png;base64,AAAA")).isEqualTo("data:image/png;base64,AAAA");
+	}
+
+	@Test
+	void rendersRejectedImagesWhenSubmittedAgain() throws Exception {
+		renditionService.shutdown();
+		renditionService = new UsedImageRenditionService(store, meterRegistry, 1, 1, 320, 960);
+		List<String> ids = new ArrayList<>();
+		for (int i = 0; i < 4; i++) {
+			ids.add(store.store(dataUrl(1600 + i * 10, 1200, "jpeg", "image/jpeg")));
+		}
+
+		// 실행 중 1건 + 대기 1건 외에는 버려짐, 같은 id 는 대기 중이면 다시 넣지 않음
+		renditionService.submit(ids);
+		renditionService.submit(ids.subList(0, 2));
+		assertThat(meterRegistry.get("jmair.used.image.rejected").counter().count()).isEqualTo(2);
+
+		// 원본 대체 응답처럼 없는 축소본을 다시 예약하면 결국 모두 생성
+		long deadline = System.currentTimeMillis() + 10_000;
+		for (String id : ids) {
+			while (store.find(store.renditionId(id, 960)) == null) {
+				assertThat(System.currentTimeMillis()).isLessThan(deadline);
+				renditionService.submit(List.of(id));
+				Thread.sleep(20);
+			}
+		}
+		assertThat(ids).allSatisfy(id -> assertThat(store.find(store.renditionId(id, 320))).isNotNull());
+	}
+
+	private BufferedImage awaitImage(String renditionId) throws Exception {
+		long deadline = System.currentTimeMillis() + 10_000;
+		while (store.find(renditionId) == null) {
+			assertThat(System.currentTimeMillis()).isLessThan(deadline);
+			Thread.sleep(20);
+		}
+		return ImageIO.read(store.find(renditionId).toFile());
+	}
+
+	private static String dataUrl(int width, int height, String format, String mediaType) throws Exception {
+		BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+		Graphics2D graphics = image.createGraphics();
+		for (int x = 0; x < width; x += 10) {
+			graphics.setColor(new Color(x % 256, (x * 7) % 256, (x * 13) % 256));
+			graphics.fillRect(x, 0, 10, height);
+		}
+		graphics.dispose();
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		ImageIO.write(image, format, out);
+		return "data:" + mediaType + ";base64," + Base64.getEncoder().encodeToString(out.toByteArray());
+	}
+}
@@ -0,0 +1,98 @@
+package com.jmair.secondhand.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Base64;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import com.jmair.common.cache.CatalogResponseCache;
+import com.jmair.secondhand.controller.UsedController;
+
+// 내용 주소 저장(중복 제거), 기존 값 유지, 잘못된 id 차단, 조회 응답의 ETag/캐시 헤더와 축소본 대체 전송(재예약)
+class UsedImageStoreTest {
+
+	private static final byte[] PNG = {(byte) 0x89, 'P', 'N', 'G', 1, 2, 3};
+	private static final String DATA_URL = "data:image/png;base64," + Base64.getEncoder().encodeToString(PNG);
+
+	@TempDir
+	Path directory;
+
+	private UsedImageStore store;
+
+	@BeforeEach
+	void setUp() {
+		store = new UsedImageStore(directory.toString());
+	}
+
+	@Test
+	void storesSameImageOnce() throws Exception {
+		String first = store.store(DATA_URL);
+		String second = store.store(DATA_URL);
+
+		assertThat(first).isEqualTo(second).matches("[0-9a-f]{64}\\.png");
+		assertThat(Files.readAllBytes(store.find(first))).isEqualTo(PNG);
+		try (var files = Files.walk(directory)) {
+			assertThat(files.filter(Files::isRegularFile).count()).isEqualTo(1);
+		}
+		// 응답으로 내려간 URL 을 다시 보내면 같은 id
+		assertThat(store.store(store.toUrl(first))).isEqualTo(first);
+	}
+
+	@Test
+	void keepsLegacyValuesAndRejectsUnknownTypes() {
+		String external = "https://example.com/a.png";
+
+		assertThat(store.store(external)).isEqualTo(external);
+		assertThat(store.toUrl("data:image/png;base64,AAAA")).isEqualTo("data:image/png;base64,AAAA");
+		assertThatThrownBy(() -> store.store("data:image/svg+xml;base64,PHN2Zz4="))
+			.isInstanceOf(IllegalArgumentException.class);
+		assertThat(store.find("../../etc/passwd")).isNull();
+	}
+
+	@Test
+	void servesImageWithEtagAndImmutableCache() throws Exception {
+		String id = store.store(DATA_URL);
+		UsedService usedService = mock(UsedService.class);
+		MockMvc mockMvc = MockMvcBuilders.standaloneSetup(new UsedController(usedService, store,
+			mock(CatalogResponseCache.class))).build();
+
+		mockMvc.perform(get("/api/v1/used/images/" + id))
+			.andExpect(status().isOk())
+			.andExpect(header().string(HttpHeaders.ETAG, store.etag(id)))
+			.andExpect(header().string(HttpHeaders.CACHE_CONTROL, "max-age=31536000, public, immutable"))
+			.andExpect(content().contentType("image/png"))
+			.andExpect(content().bytes(PNG));
+
+		mockMvc.perform(get("/api/v1/used/images/" + id).header(HttpHeaders.IF_NONE_MATCH, store.etag(id)))
+			.andExpect(status().isNotModified())
+			.andExpect(content().bytes(new byte[0]));
+
+		mockMvc.perform(get("/api/v1/used/images/" + "0".repeat(64) + ".png"))
+			.andExpect(status().isNotFound());
+
+		verify(usedService, never()).requestRendition(id);
+
+		// 축소본이 아직 없으면 원본을 캐시 없이 전송하고 축소 작업을 다시 예약
+		mockMvc.perform(get("/api/v1/used/images/" + store.renditionId(id, 320)))
+			.andExpect(status().isOk())
+			.andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache"))
+			.andExpect(content().bytes(PNG));
+		verify(usedService).requestRendition(id);
+	}
+}
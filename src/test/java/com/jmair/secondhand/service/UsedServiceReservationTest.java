@@ -0,0 +1,110 @@
+package com.jmair.secondhand.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.jmair.auth.dto.UserGrade;
+import com.jmair.auth.entity.User;
+import com.jmair.common.exeption.ConflictException;
+import com.jmair.common.viewcount.ViewCounter;
+import com.jmair.secondhand.dto.Used;
+import com.jmair.secondhand.dto.UsedDTO;
+import com.jmair.secondhand.entity.UsedEntity;
+import com.jmair.secondhand.entity.UsedImages;
+import com.jmair.secondhand.repository.UsedRepository;
+
+// 64명이 같은 상품을 동시에 구매 요청하면 한 명만 예약되고 나머지는 ConflictException
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({UsedService.class, UsedImageStore.class})
+class UsedServiceReservationTest {
+
+	private static final int BUYERS = 64;
+
+	@Autowired
+	private UsedService usedService;
+
+	@Autowired
+	private UsedRepository usedRepository;
+
+	@MockitoBean
+	private UsedImageRenditionService usedImageRenditionService;
+
+	@MockitoBean
+	private ViewCounter viewCounter;
+
+	@AfterEach
+	void tearDown() {
+		usedRepository.deleteAll();
+	}
+
+	@Test
+	void onlyOneOfConcurrentBuyersReserves() throws Exception {
+		UsedEntity item = usedRepository.save(UsedEntity.builder()
+			.usedName("중고 벽걸이 에어컨")
+			.usedCost(300000)
+			.productType("벽걸이형")
+			.usedState(Used.SALE)
+			.usedImages(UsedImages.EMPTY)
+			.build());
+
+		ExecutorService executor = Executors.newFixedThreadPool(BUYERS);
+		CountDownLatch start = new CountDownLatch(1);
+		List<Future<UsedDTO>> results = new ArrayList<>();
+		for (int i = 1; i <= BUYERS; i++) {
+			User buyer = buyer(i);
+			results.add(executor.submit(() -> {
+				start.await();
+				return usedService.updateUsedSaleRequest(item.getUsedId(), Optional.of(buyer));
+			}));
+		}
+		start.countDown();
+
+		List<UsedDTO> winners = new ArrayList<>();
+		int conflicts = 0;
+		for (Future<UsedDTO> result : results) {
+			try {
+				winners.add(result.get(30, TimeUnit.SECONDS));
+			} catch (ExecutionException e) {
+				assertThat(e.getCause()).isInstanceOf(ConflictException.class);
+				conflicts++;
+			}
+		}
+		executor.shutdown();
+
+		assertThat(winners).hasSize(1);
+		assertThat(conflicts).isEqualTo(BUYERS - 1);
+		UsedEntity saved = usedRepository.findById(item.getUsedId()).orElseThrow();
+		assertThat(saved.getUsedState()).isEqualTo(Used.RESERVATION);
+		assertThat(saved.getRegisteredUserId()).isEqualTo(winners.get(0).getRegisteredUserId());
+		// 구매 요청은 상품 정보를 바꾸지 않음
+		assertThat(saved.getUsedName()).isEqualTo("중고 벽걸이 에어컨");
+		assertThat(saved.getUsedCost()).isEqualTo(300000);
+	}
+
+	private static User buyer(int id) {
+		User user = new User();
+		user.setId(id);
+		user.setUserLogin("buyer" + id);
+		user.setUserGrade(UserGrade.USER);
+		return user;
+	}
+}
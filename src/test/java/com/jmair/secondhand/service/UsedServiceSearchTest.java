@@ -0,0 +1,158 @@
+package com.jmair.secondhand.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import com.jmair.common.dto.CursorPage;
+import com.jmair.common.viewcount.ViewCounter;
+import com.jmair.secondhand.dto.Used;
+import com.jmair.secondhand.dto.UsedDTO;
+import com.jmair.secondhand.dto.UsedSearchCondition;
+import com.jmair.secondhand.dto.UsedSort;
+import com.jmair.secondhand.entity.UsedEntity;
+import com.jmair.secondhand.entity.UsedImages;
+import com.jmair.secondhand.repository.UsedRepository;
+
+// 카탈로그 검색: 필터, 정렬별 키셋 페이지 이어받기(같은 가격 포함), 삭제 건 제외, 인덱스 범위 스캔
+@DataJpaTest
+@Import({UsedService.class, UsedImageStore.class})
+class UsedServiceSearchTest {
+
+	private static final LocalDateTime BASE = LocalDateTime.of(2025, 6, 1, 9, 0);
+
+	@Autowired
+	private UsedService usedService;
+
+	@Autowired
+	private UsedRepository usedRepository;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private TestEntityManager entityManager;
+
+	@MockitoBean
+	private UsedImageRenditionService usedImageRenditionService;
+
+	@MockitoBean
+	private ViewCounter viewCounter;
+
+	@BeforeEach
+	void setUp() {
+		for (int i = 0; i < 30; i++) {
+			UsedEntity saved = usedRepository.save(UsedEntity.builder()
+				.usedName("중고 에어컨 " + i)
+				// 같은 가격이 여러 건 있도록 5만원 단위
+				.usedCost(100000 + (i % 6) * 50000)
+				.productType(i % 3 == 0 ? "스탠드형" : "벽걸이형")
+				.usedYear(2015 + i % 8)
+				.usedState(i % 7 == 0 ? Used.FALLSE : (i % 4 == 0 ? Used.RESERVATION : Used.SALE))
+				.usedImages(UsedImages.EMPTY)
+				.build());
+			// @CreationTimestamp 값을 덮어써 등록 순서를 고정 (같은 시간대 행도 포함)
+			jdbcTemplate.update("UPDATE used_entity SET used_post_time = ? WHERE used_id = ?",
+				BASE.plusHours(i / 2), saved.getUsedId());
+		}
+		entityManager.clear();
+	}
+
+	@Test
+	void pagesByPriceWithTiesAndFilters() {
+		List<UsedDTO> seen = all(condition("벽걸이형", 150000, 300000, null, UsedSort.PRICE_ASC, null, 4));
+
+		List<UsedEntity> expected = usedRepository.findAll().stream()
+			.filter(entity -> entity.getUsedState() != Used.FALLSE)
+			.filter(entity -> entity.getProductType().equals("벽걸이형"))
+			.filter(entity -> entity.getUsedCost() >= 150000 && entity.getUsedCost() <= 300000)
+			.sorted(Comparator.comparing(UsedEntity::getUsedCost).thenComparing(UsedEntity::getUsedId))
+			.toList();
+		assertThat(expected).hasSizeGreaterThan(8);
+		assertThat(seen).extracting(UsedDTO::getUsedId)
+			.containsExactlyElementsOf(expected.stream().map(UsedEntity::getUsedId).toList());
+	}
+
+	@Test
+	void pagesByPriceDescendingAndLatest() {
+		List<UsedDTO> byPrice = all(condition(null, null, null, Used.SALE, UsedSort.PRICE_DESC, null, 5));
+		assertThat(byPrice).isNotEmpty()
+			.allSatisfy(dto -> assertThat(dto.getUsedState()).isEqualTo(Used.SALE))
+			.isSortedAccordingTo(Comparator.comparing(UsedDTO::getUsedCost, Comparator.reverseOrder())
+				.thenComparing(UsedDTO::getUsedId, Comparator.reverseOrder()));
+
+		List<UsedDTO> latest = all(condition(null, null, null, null, UsedSort.LATEST, 2018, 6));
+		assertThat(latest).isNotEmpty()
+			.allSatisfy(dto -> {
+				assertThat(dto.getUsedState()).isNotEqualTo(Used.FALLSE);
+				assertThat(dto.getUsedYear()).isGreaterThanOrEqualTo(2018);
+			})
+			.isSortedAccordingTo(Comparator.comparing(UsedDTO::getUsedPostTime, Comparator.reverseOrder())
+				.thenComparing(UsedDTO::getUsedId, Comparator.reverseOrder()));
+	}
+
+	@Test
+	void rejectsCursorFromAnotherSortAndDeletedState() {
+		String latestCursor = usedService.searchUsedRequests(
+			condition(null, null, null, null, UsedSort.LATEST, null, 3)).nextCursor();
+
+		assertThatThrownBy(() -> usedService.searchUsedRequests(
+			condition(null, null, null, null, UsedSort.PRICE_ASC, null, 3, latestCursor)))
+			.isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> condition(null, null, null, Used.FALLSE, UsedSort.LATEST, null, 3))
+			.isInstanceOf(IllegalArgumentException.class);
+	}
+
+	@Test
+	void catalogQueriesUseIndexRange() {
+		String typeAndPrice = explain("SELECT used_id FROM used_entity WHERE product_type = '벽걸이형' "
+			+ "AND used_cost >= 150000 AND used_cost <= 300000 ORDER BY used_cost, used_id LIMIT 21");
+		String latest = explain("SELECT used_id FROM used_entity WHERE used_post_time < TIMESTAMP '2025-06-01 12:00:00' "
+			+ "ORDER BY used_post_time DESC, used_id DESC LIMIT 21");
+
+		assertThat(typeAndPrice).containsIgnoringCase("idx_used_type_cost");
+		assertThat(latest).containsIgnoringCase("idx_used_post_time");
+	}
+
+	private List<UsedDTO> all(UsedSearchCondition first) {
+		List<UsedDTO> seen = new ArrayList<>();
+		String cursor = null;
+		int pages = 0;
+		do {
+			CursorPage<UsedDTO> page = usedService.searchUsedRequests(new UsedSearchCondition(first.productType(),
+				first.minPrice(), first.maxPrice(), first.minYear(), first.maxYear(), first.state(), first.sort(),
+				cursor, first.size()));
+			seen.addAll(page.content());
+			cursor = page.nextCursor();
+			assertThat(++pages).isLessThanOrEqualTo(30);
+		} while (cursor != null);
+		return seen;
+	}
+
+	private String explain(String sql) {
+		return String.join("\n", jdbcTemplate.queryForList("EXPLAIN " + sql, String.class));
+	}
+
+	private static UsedSearchCondition condition(String productType, Integer minPrice, Integer maxPrice, Used state,
+		UsedSort sort, Integer minYear, int size) {
+		return condition(productType, minPrice, maxPrice, state, sort, minYear, size, null);
+	}
+
+	private static UsedSearchCondition condition(String productType, Integer minPrice, Integer maxPrice, Used state,
+		UsedSort sort, Integer minYear, int size, String cursor) {
+		return new UsedSearchCondition(productType, minPrice, maxPrice, minYear, null, state, sort, cursor, size);
+	}
+}